@@ -0,0 +1,173 @@
+package com.recipe.batch;
+
+import com.recipe.domain.entity.Recipe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.file.FlatFileItemReader;
+import org.springframework.batch.item.file.mapping.BeanWrapperFieldSetMapper;
+import org.springframework.batch.item.file.mapping.DefaultLineMapper;
+import org.springframework.batch.item.file.transform.DelimitedLineTokenizer;
+import org.springframework.batch.item.file.transform.FieldSet;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSV 적재 한 행당 비용 (읽기 + 분리 + Recipe 변환)
+ * legacy: FlatFileItemReader + DelimitedLineTokenizer + BeanWrapperFieldSetMapper + 정규식 5번 처리 (변경 전 SingleBatchConfig)
+ * mapped: MappedCsvItemReader + RecipeRowProcessor
+ * 입력은 recipe_data_241226.csv와 같은 19컬럼 형식의 임의 행 (재료 컬럼은 따옴표 + 쉼표/구분자 포함)
+ * 변경 전 처리의 행마다 INFO 로그는 빼고 비교 (로그 출력 비용은 설정에 따라 달라서)
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RecipeCsvProcessingBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    private static final String HEADER = "RCP_SNO,RCP_TTL,CKG_NM,RGTR_ID,RGTR_NM,INQ_CNT,RCMM_CNT,SRAP_CNT,"
+            + "CKG_MTH_ACTO_NM,CKG_STA_ACTO_NM,CKG_MTRL_ACTO_NM,CKG_KND_ACTO_NM,CKG_IPDC,CKG_MTRL_CN,"
+            + "CKG_INBUN_NM,CKG_DODF_NM,CKG_TIME_NM,FIRST_REG_DT,RCP_IMG_URL";
+
+    private static final String[] INGREDIENTS = {"돼지고기 300g", "양파 1 개", "대파 1 대", "간장 2 큰술",
+            "설탕 1 큰술", "다진마늘 1 작은술", "참기름 약간", "물 200ml", "소금 약간", "후추 약간"};
+
+    private Path csv;
+    private ItemProcessor<String[], Recipe> legacyProcessor;
+    private ItemProcessor<String[], Recipe> rowProcessor;
+
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(7);
+        StringBuilder text = new StringBuilder(HEADER).append("\r\n");
+        for (int i = 0; i < ROWS; i++) {
+            StringBuilder ingredients = new StringBuilder("[재료] ");
+            int count = 3 + random.nextInt(8);
+            for (int k = 0; k < count; k++) {
+                if (k > 0) {
+                    ingredients.append("| ");
+                }
+                ingredients.append(INGREDIENTS[random.nextInt(INGREDIENTS.length)]).append(' ');
+            }
+            text.append(6_900_000 + i).append(",\"백종원 김치찌개, 초간단 레시피 ").append(i).append("\",김치찌개,")
+                    .append("user").append(i).append(",요리사,").append(random.nextInt(100_000)).append(',')
+                    .append(random.nextInt(500)).append(',').append(random.nextInt(1000)).append(",끓이기,일상,")
+                    .append("돼지고기류,찌개,\"김치와 돼지고기로, 맛있게\",\"").append(ingredients).append("\",")
+                    .append("2인분,초급,30분이내,2023").append(String.format("%02d", 1 + random.nextInt(12)))
+                    .append("15093012,https://recipe1.ezmember.co.kr/cache/recipe/2023/01/15/")
+                    .append(Integer.toHexString(random.nextInt())).append(".jpg\r\n");
+        }
+        csv = Files.createTempFile("recipe-bench-", ".csv");
+        Files.writeString(csv, text, StandardCharsets.UTF_8);
+
+        legacyProcessor = legacyProcessor();
+        rowProcessor = new RecipeRowProcessor();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(csv);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void legacy(Blackhole blackhole) throws Exception {
+        FlatFileItemReader<String[]> reader = new FlatFileItemReader<>();
+        reader.setName("legacy");
+        reader.setResource(new FileSystemResource(csv));
+        reader.setEncoding("UTF-8");
+        reader.setLinesToSkip(1);
+        reader.setLineMapper(legacyLineMapper());
+        reader.open(new ExecutionContext());
+        try {
+            String[] item;
+            while ((item = reader.read()) != null) {
+                blackhole.consume(legacyProcessor.process(item));
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void mapped(Blackhole blackhole) throws Exception {
+        MappedCsvItemReader reader = new MappedCsvItemReader("mapped", new FileSystemResource(csv),
+                0, -1, 1, RecipeRowProcessor.COLUMN_COUNT);
+        reader.open(new ExecutionContext());
+        try {
+            String[] item;
+            while ((item = reader.read()) != null) {
+                blackhole.consume(rowProcessor.process(item));
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    // 변경 전 SingleBatchConfig.recipeLineMapper()
+    private static DefaultLineMapper<String[]> legacyLineMapper() {
+        DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer();
+        tokenizer.setNames(HEADER.split(","));
+        DefaultLineMapper<String[]> mapper = new DefaultLineMapper<>();
+        mapper.setLineTokenizer(tokenizer);
+        mapper.setFieldSetMapper(new BeanWrapperFieldSetMapper<String[]>() {
+            @Override
+            public String[] mapFieldSet(FieldSet fieldSet) {
+                return fieldSet.getValues();
+            }
+        });
+        return mapper;
+    }
+
+    // 변경 전 SingleBatchConfig.recipeItemProcessor() (INFO 로그 제외)
+    private static ItemProcessor<String[], Recipe> legacyProcessor() {
+        return item -> {
+            Recipe recipe = new Recipe();
+            recipe.setRcpTtl(item[1]);
+            recipe.setCkgNm(item[2]);
+            recipe.setInqCnt(item[5] != null && !item[5].isEmpty() ? Integer.valueOf(item[5]) : 0);
+            recipe.setRcmmCnt(item[6] != null && !item[6].isEmpty() ? Integer.valueOf(item[6]) : 0);
+            recipe.setCkgMthActoNm(item[8]);
+            recipe.setCkgMtrlActoNm(item[10]);
+            recipe.setCkgKndActoNm(item[11]);
+            recipe.setCkgMtrlCn(item[13].trim()
+                    .replaceAll("^\\[.+?]\\s*", "")
+                    .replaceAll("\\s(\\d+)\\s", "_$1")
+                    .replaceAll("\\s*\\|\\s", "/")
+                    .replaceAll(" ", ""));
+            recipe.setCkgInbunNm(item[14]);
+            recipe.setCkgDodfNm(item[15]);
+            recipe.setCkgTimeNm(item[16]);
+            if (item[17] != null && !item[17].isEmpty()) {
+                try {
+                    DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+                    recipe.setFirstRegDt(LocalDateTime.parse(item[17], formatter));
+                } catch (Exception e) {
+                    recipe.setFirstRegDt(null);
+                }
+            }
+            recipe.setRcpImgUrl(item[18]);
+            return recipe;
+        };
+    }
+}
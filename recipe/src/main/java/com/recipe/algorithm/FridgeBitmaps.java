@@ -0,0 +1,285 @@
+package com.recipe.algorithm;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.*;
+
+/**
+ * 재료별 레시피 비트맵 (읽기 전용 스냅샷)
+ * 레시피는 번호 오름차순 순번(ordinal)으로 비트맵에 담고, 매칭은 비트맵 AND/OR/개수 연산으로 처리
+ *
+ * 부족한 재료 수 계산: atLeast[k] = 냉장고 재료를 k+1개 이상 가진 레시피
+ * 재료 수가 c인 레시피가 부족한 재료 N개 이하 ⇔ atLeast[c-N-1]에 포함
+ */
+public class FridgeBitmaps {
+
+    public static final FridgeBitmaps EMPTY = new FridgeBitmaps(
+            new long[0], new int[0], Map.of(), new RoaringBitmap[0], new long[0], new String[0]);
+
+    private final long[] recipeIds;                       // 순번 → 레시피 번호
+    private final int[] ingredientCounts;                 // 순번 → 레시피 재료 수
+    private final Map<Long, RoaringBitmap> byIngredient;  // 재료 ID → 레시피 순번
+    private final RoaringBitmap[] byIngredientCount;      // 재료 수 → 레시피 순번
+    private final long[] vocabularyIds;                   // 재료 사전 (이름 검색용)
+    private final String[] vocabularyNames;
+
+    FridgeBitmaps(long[] recipeIds, int[] ingredientCounts, Map<Long, RoaringBitmap> byIngredient,
+                  RoaringBitmap[] byIngredientCount, long[] vocabularyIds, String[] vocabularyNames) {
+        this.recipeIds = recipeIds;
+        this.ingredientCounts = ingredientCounts;
+        this.byIngredient = byIngredient;
+        this.byIngredientCount = byIngredientCount;
+        this.vocabularyIds = vocabularyIds;
+        this.vocabularyNames = vocabularyNames;
+    }
+
+    public int recipeCount() {
+        return recipeIds.length;
+    }
+
+    public int ingredientCount() {
+        return byIngredient.size();
+    }
+
+    /**
+     * 재료명 → 재료 ID 그룹 (이름에 입력 재료명이 포함된 사전 재료, 예: "돼지" → 돼지고기, 돼지목살)
+     * @param normalizedNames IngredientParser.normalize()를 거친 재료명
+     */
+    public List<long[]> resolve(List<String> normalizedNames) {
+        List<long[]> groups = new ArrayList<>(normalizedNames.size());
+        for (String name : normalizedNames) {
+            long[] ids = new long[4];
+            int size = 0;
+            for (int i = 0; i < vocabularyNames.length; i++) {
+                if (vocabularyNames[i].contains(name)) {
+                    if (size == ids.length) {
+                        ids = Arrays.copyOf(ids, size * 2);
+                    }
+                    ids[size++] = vocabularyIds[i];
+                }
+            }
+            groups.add(Arrays.copyOf(ids, size));
+        }
+        return groups;
+    }
+
+    /**
+     * 냉장고 재료로 레시피 매칭 후 점수순 한 페이지
+     * 점수: 부족한 재료가 적을수록, 같으면 가진 재료가 많을수록 높음
+     * @param groups 냉장고 재료별 재료 ID 그룹 (resolve 결과)
+     * @param mode 매칭 방식
+     * @param maxMissing MISSING 모드의 부족한 재료 허용 개수
+     */
+    public FridgeMatchResult match(List<long[]> groups, FridgeMatchMode mode, int maxMissing, int offset, int limit) {
+        if (groups.isEmpty() || recipeIds.length == 0) {
+            return FridgeMatchResult.EMPTY;
+        }
+
+        // 냉장고 재료 전체 (중복 ID 제거)
+        Set<Long> fridgeIds = new LinkedHashSet<>();
+        for (long[] group : groups) {
+            for (long id : group) {
+                fridgeIds.add(id);
+            }
+        }
+
+        RoaringBitmap result;
+        List<RoaringBitmap> atLeast;
+        if (mode == FridgeMatchMode.ALL) {
+            // 재료마다 (그룹 내 OR) → 재료끼리 AND
+            result = null;
+            for (long[] group : groups) {
+                RoaringBitmap any = union(group);
+                result = result == null ? any : RoaringBitmap.and(result, any);
+                if (result.isEmpty()) {
+                    return FridgeMatchResult.EMPTY;
+                }
+            }
+            atLeast = countLevels(fridgeIds, result);
+        } else {
+            int allowed = mode == FridgeMatchMode.COOKABLE ? 0 : Math.max(0, maxMissing);
+            atLeast = countLevels(fridgeIds, null);
+            result = withinMissing(atLeast, allowed);
+        }
+
+        int total = result.getCardinality();
+        if (total == 0 || offset < 0 || offset >= total || limit <= 0) {
+            return new FridgeMatchResult(total, new long[0], new int[0], new int[0]);
+        }
+
+        TopKSelector selector = new TopKSelector((int) Math.min((long) offset + limit, total));
+        List<RoaringBitmap> levels = atLeast;
+        result.forEach((int ordinal) -> {
+            int matched = matchedCount(levels, ordinal);
+            int missing = ingredientCounts[ordinal] - matched;
+            selector.offer(ordinal, matched - missing * 1000.0);
+        });
+        selector.sort();
+
+        int size = Math.max(0, selector.size() - offset);
+        long[] ids = new long[size];
+        int[] matchedCounts = new int[size];
+        int[] missingCounts = new int[size];
+        for (int i = 0; i < size; i++) {
+            int ordinal = (int) selector.idAt(offset + i);
+            ids[i] = recipeIds[ordinal];
+            matchedCounts[i] = matchedCount(atLeast, ordinal);
+            missingCounts[i] = ingredientCounts[ordinal] - matchedCounts[i];
+        }
+        return new FridgeMatchResult(total, ids, matchedCounts, missingCounts);
+    }
+
+    private RoaringBitmap union(long[] ingredientIds) {
+        List<RoaringBitmap> bitmaps = new ArrayList<>(ingredientIds.length);
+        for (long id : ingredientIds) {
+            RoaringBitmap bitmap = byIngredient.get(id);
+            if (bitmap != null) {
+                bitmaps.add(bitmap);
+            }
+        }
+        return bitmaps.isEmpty() ? new RoaringBitmap() : FastAggregation.or(bitmaps.iterator());
+    }
+
+    /**
+     * 냉장고 재료 개수 단계별 비트맵 (atLeast.get(k) = 냉장고 재료 k+1개 이상)
+     * 재료 비트맵을 하나씩 더할 때 위 단계부터 갱신: atLeast[k] |= atLeast[k-1] & 재료
+     * @param restrictTo null이 아니면 이 레시피들만 계산
+     */
+    private List<RoaringBitmap> countLevels(Set<Long> ingredientIds, RoaringBitmap restrictTo) {
+        List<RoaringBitmap> atLeast = new ArrayList<>();
+        for (Long id : ingredientIds) {
+            RoaringBitmap bitmap = byIngredient.get(id);
+            if (bitmap == null) {
+                continue;
+            }
+            if (restrictTo != null) {
+                bitmap = RoaringBitmap.and(bitmap, restrictTo);
+                if (bitmap.isEmpty()) {
+                    continue;
+                }
+            }
+
+            int levels = atLeast.size();
+            if (levels > 0) {
+                RoaringBitmap top = RoaringBitmap.and(atLeast.get(levels - 1), bitmap);
+                for (int k = levels - 1; k >= 1; k--) {
+                    atLeast.get(k).or(RoaringBitmap.and(atLeast.get(k - 1), bitmap));
+                }
+                atLeast.get(0).or(bitmap);
+                if (!top.isEmpty()) {
+                    atLeast.add(top);
+                }
+            } else {
+                atLeast.add(bitmap.clone());
+            }
+        }
+        return atLeast;
+    }
+
+    // 부족한 재료가 allowed개 이하인 레시피 (냉장고 재료를 하나 이상 가진 레시피 중)
+    private RoaringBitmap withinMissing(List<RoaringBitmap> atLeast, int allowed) {
+        if (atLeast.isEmpty()) {
+            return new RoaringBitmap();
+        }
+        List<RoaringBitmap> parts = new ArrayList<>();
+        for (int count = 1; count < byIngredientCount.length; count++) {
+            RoaringBitmap sameCount = byIngredientCount[count];
+            if (sameCount == null) {
+                continue;
+            }
+            int required = Math.max(1, count - allowed);
+            if (required > atLeast.size()) {
+                continue;
+            }
+            parts.add(RoaringBitmap.and(sameCount, atLeast.get(required - 1)));
+        }
+        return parts.isEmpty() ? new RoaringBitmap() : FastAggregation.or(parts.iterator());
+    }
+
+    // 레시피가 가진 냉장고 재료 수 (단계 비트맵 이분 탐색)
+    private static int matchedCount(List<RoaringBitmap> atLeast, int ordinal) {
+        int low = 0;
+        int high = atLeast.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (atLeast.get(mid).contains(ordinal)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * RECIPE_INGREDIENT 행(레시피 번호 오름차순)으로 스냅샷 생성
+     */
+    public static class Builder {
+
+        private long[] recipeIds = new long[1024];
+        private int[] ingredientCounts = new int[1024];
+        private int size;
+        private final Map<Long, RoaringBitmap> byIngredient = new HashMap<>();
+        private final List<Long> vocabularyIds = new ArrayList<>();
+        private final List<String> vocabularyNames = new ArrayList<>();
+
+        /**
+         * 레시피 - 재료 연결 추가 (레시피 번호 오름차순으로 호출)
+         */
+        public void accept(long rcpSno, long ingredientId) {
+            if (size == 0 || recipeIds[size - 1] != rcpSno) {
+                if (size > 0 && recipeIds[size - 1] > rcpSno) {
+                    throw new IllegalArgumentException("레시피 번호 오름차순으로 추가해야 합니다: " + rcpSno);
+                }
+                if (size == recipeIds.length) {
+                    recipeIds = Arrays.copyOf(recipeIds, size * 2);
+                    ingredientCounts = Arrays.copyOf(ingredientCounts, size * 2);
+                }
+                recipeIds[size++] = rcpSno;
+            }
+            int ordinal = size - 1;
+            RoaringBitmap bitmap = byIngredient.computeIfAbsent(ingredientId, id -> new RoaringBitmap());
+            if (bitmap.checkedAdd(ordinal)) {
+                ingredientCounts[ordinal]++;
+            }
+        }
+
+        /**
+         * 재료 사전 항목 추가
+         */
+        public void acceptName(long ingredientId, String name) {
+            vocabularyIds.add(ingredientId);
+            vocabularyNames.add(name);
+        }
+
+        public FridgeBitmaps build() {
+            int maxCount = 0;
+            for (int i = 0; i < size; i++) {
+                maxCount = Math.max(maxCount, ingredientCounts[i]);
+            }
+            RoaringBitmap[] byIngredientCount = new RoaringBitmap[maxCount + 1];
+            for (int i = 0; i < size; i++) {
+                int count = ingredientCounts[i];
+                if (byIngredientCount[count] == null) {
+                    byIngredientCount[count] = new RoaringBitmap();
+                }
+                byIngredientCount[count].add(i);
+            }
+            for (RoaringBitmap bitmap : byIngredientCount) {
+                if (bitmap != null) {
+                    bitmap.runOptimize();
+                }
+            }
+            byIngredient.values().forEach(RoaringBitmap::runOptimize);
+
+            return new FridgeBitmaps(
+                    Arrays.copyOf(recipeIds, size),
+                    Arrays.copyOf(ingredientCounts, size),
+                    byIngredient,
+                    byIngredientCount,
+                    vocabularyIds.stream().mapToLong(Long::longValue).toArray(),
+                    vocabularyNames.toArray(new String[0]));
+        }
+    }
+}
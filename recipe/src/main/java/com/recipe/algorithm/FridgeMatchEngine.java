@@ -0,0 +1,116 @@
+package com.recipe.algorithm;
+
+import com.recipe.event.RecipeChangedEvent;
+import com.recipe.util.IngredientParser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 냉장고 재료 매칭 엔진
+ * RECIPE_INGREDIENT를 재료별 압축 비트맵(RoaringBitmap)으로 메모리에 올려 두고
+ * "모두 포함", "부족한 재료 N개 이하", "지금 만들 수 있는" 레시피를 비트맵 연산으로 찾는다
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class FridgeMatchEngine {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String LINK_SQL =
+            "SELECT RCP_SNO, INGREDIENT_ID FROM recipe_ingredient ORDER BY RCP_SNO";
+
+    private static final String DICTIONARY_SQL =
+            "SELECT INGREDIENT_ID, NAME FROM ingredient_dictionary";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile FridgeBitmaps bitmaps = FridgeBitmaps.EMPTY;
+
+    // 레시피 등록/삭제 후 다음 주기에 재구성
+    private volatile boolean dirty;
+
+    /**
+     * 매칭 가능 여부 (재료 연결 데이터가 없으면 false)
+     */
+    public boolean isReady() {
+        return bitmaps.recipeCount() > 0;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        dirty = true;
+    }
+
+    @Scheduled(fixedDelayString = "${recipe.fridge.refresh-interval-ms:60000}")
+    public void refreshIfDirty() {
+        if (dirty) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 전체 재구성 (새 스냅샷을 만든 뒤 교체하므로 재구성 중에도 이전 스냅샷으로 조회)
+     */
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        dirty = false;
+        try {
+            FridgeBitmaps.Builder builder = new FridgeBitmaps.Builder();
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(LINK_SQL);
+                ps.setFetchSize(FETCH_SIZE);
+                return ps;
+            }, (RowCallbackHandler) rs -> builder.accept(rs.getLong(1), rs.getLong(2)));
+            jdbcTemplate.query(DICTIONARY_SQL,
+                    (RowCallbackHandler) rs -> builder.acceptName(rs.getLong(1), rs.getString(2)));
+
+            FridgeBitmaps newBitmaps = builder.build();
+            bitmaps = newBitmaps;
+            log.info("냉장고 매칭 비트맵 구성 완료 - 레시피 {}건, 재료 {}종, {}ms",
+                    newBitmaps.recipeCount(), newBitmaps.ingredientCount(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            dirty = true;
+            log.error("냉장고 매칭 비트맵 구성 실패 - 기존 스냅샷 유지", e);
+        }
+    }
+
+    /**
+     * 냉장고 재료로 레시피 매칭
+     * @param fridgeIngredients 냉장고 재료명
+     * @param mode 매칭 방식
+     * @param maxMissing MISSING 모드의 부족한 재료 허용 개수
+     * @param offset 건너뛸 개수
+     * @param limit 페이지 크기
+     * @return 점수순(부족한 재료 적은 순 → 가진 재료 많은 순) 한 페이지
+     */
+    public FridgeMatchResult match(List<String> fridgeIngredients, FridgeMatchMode mode, int maxMissing,
+                                   int offset, int limit) {
+        List<String> names = new ArrayList<>(fridgeIngredients.size());
+        for (String ingredient : fridgeIngredients) {
+            String normalized = IngredientParser.normalize(ingredient);
+            if (normalized != null) {
+                names.add(normalized);
+            }
+        }
+        FridgeBitmaps current = bitmaps;
+        return current.match(current.resolve(names), mode, maxMissing, offset, limit);
+    }
+}
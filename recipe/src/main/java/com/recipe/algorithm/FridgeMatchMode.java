@@ -0,0 +1,10 @@
+package com.recipe.algorithm;
+
+/**
+ * 냉장고 재료 매칭 방식
+ */
+public enum FridgeMatchMode {
+    ALL,            // 냉장고 재료를 모두 사용하는 레시피
+    MISSING,        // 부족한 재료가 N개 이하인 레시피
+    COOKABLE        // 냉장고 재료만으로 만들 수 있는 레시피 (부족한 재료 0개)
+}
@@ -0,0 +1,22 @@
+package com.recipe.algorithm;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 냉장고 재료 매칭 결과 한 페이지 (인덱스가 같은 원소끼리 한 레시피)
+ */
+@Getter
+@RequiredArgsConstructor
+public class FridgeMatchResult {
+    public static final FridgeMatchResult EMPTY = new FridgeMatchResult(0, new long[0], new int[0], new int[0]);
+
+    private final long total;            // 조건에 맞는 전체 레시피 수
+    private final long[] recipeIds;      // 점수순 레시피 번호
+    private final int[] matchedCounts;   // 가진 냉장고 재료 수
+    private final int[] missingCounts;   // 부족한 재료 수
+
+    public int size() {
+        return recipeIds.length;
+    }
+}
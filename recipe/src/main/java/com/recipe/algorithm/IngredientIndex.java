@@ -0,0 +1,278 @@
+package com.recipe.algorithm;
+
+import com.recipe.event.RecipeChangedEvent;
+import com.recipe.repository.RecipeIngredientView;
+import com.recipe.repository.RecipeRepository;
+import com.recipe.util.IngredientParser;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 재료명 → 레시피 번호 역색인 (메모리)
+ * 재료 추천 시 전체 레시피를 읽지 않고, 입력 재료를 하나라도 포함한 레시피만 후보로 조회
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class IngredientIndex {
+
+    private final RecipeRepository recipeRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 재료명 → 레시피 번호 포스팅
+    private Map<String, LongPostingList> postings = new HashMap<>();
+
+    // 레시피 번호 → 재료명 (재료 개수 계산 및 수정/삭제 시 포스팅 정리에 사용)
+    private Map<Long, String[]> recipeIngredients = new HashMap<>();
+
+    // 재료명 부분 문자열 조회 (재료명이 추가/삭제되면 null → 다음 조회에서 다시 만듦)
+    private volatile IngredientNameLookup nameLookup;
+
+    /**
+     * 애플리케이션 기동 후 전체 레시피로 인덱스 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 전체 재구성 (새 맵에 적재한 뒤 교체하므로 적재 중에도 조회 가능)
+     */
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        Map<String, LongPostingList> newPostings = new HashMap<>();
+        Map<Long, String[]> newRecipeIngredients = new HashMap<>();
+
+        long lastRcpSno = 0L;
+        while (true) {
+            List<RecipeIngredientView> rows = recipeRepository.findTop1000ByRcpSnoGreaterThanOrderByRcpSnoAsc(lastRcpSno);
+            if (rows.isEmpty()) {
+                break;
+            }
+            for (RecipeIngredientView row : rows) {
+                addTo(newPostings, newRecipeIngredients, row.getRcpSno(), row.getCkgMtrlCn());
+            }
+            lastRcpSno = rows.get(rows.size() - 1).getRcpSno();
+        }
+
+        IngredientNameLookup newNameLookup = IngredientNameLookup.of(newPostings.keySet());
+
+        lock.writeLock().lock();
+        try {
+            postings = newPostings;
+            recipeIngredients = newRecipeIngredients;
+            nameLookup = newNameLookup;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("재료 인덱스 구성 완료 - 레시피 {}건, 재료 {}종, {}ms",
+                newRecipeIngredients.size(), newPostings.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 레시피 등록/삭제 커밋 후 인덱스 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        if (event.isDeleted()) {
+            remove(event.getRcpSno());
+        } else {
+            index(event.getRcpSno(), event.getRecipe().getCkgMtrlCn());
+        }
+    }
+
+    /**
+     * 레시피 등록/수정 시 인덱스 반영
+     */
+    public void index(Long rcpSno, String materialText) {
+        if (rcpSno == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            boolean removedName = removeFrom(postings, recipeIngredients, rcpSno);
+            boolean addedName = addTo(postings, recipeIngredients, rcpSno, materialText);
+            if (removedName || addedName) {
+                nameLookup = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 레시피 삭제 시 인덱스에서 제거
+     */
+    public void remove(Long rcpSno) {
+        if (rcpSno == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (removeFrom(postings, recipeIngredients, rcpSno)) {
+                nameLookup = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 입력 재료와 일치하는 후보 레시피 조회
+     * 입력 재료명을 포함하는 인덱스 재료명(예: "돼지" → "돼지고기")을 모두 일치로 본다
+     * 재료명은 접미사 배열(IngredientNameLookup)로 찾으므로 전체 재료 종류를 훑지 않음
+     * @param userIngredients 사용자 입력 재료
+     * @return 후보 레시피 번호와 일치 재료 수, 전체 재료 수
+     */
+    public Candidates findCandidates(List<String> userIngredients) {
+        List<String> queries = new ArrayList<>();
+        for (String ingredient : userIngredients) {
+            String normalized = IngredientParser.normalize(ingredient);
+            if (normalized != null) {
+                queries.add(normalized);
+            }
+        }
+        if (queries.isEmpty()) {
+            return Candidates.EMPTY;
+        }
+
+        lock.readLock().lock();
+        try {
+            IngredientNameLookup lookup = nameLookup;
+            if (lookup == null) {
+                // 재료명이 바뀐 뒤 첫 조회에서 다시 만듦 (읽기 잠금 중이라 그동안 postings는 바뀌지 않음)
+                lookup = IngredientNameLookup.of(postings.keySet());
+                nameLookup = lookup;
+            }
+
+            // 입력 재료마다 포함 관계인 재료명 번호 → 합쳐서 중복 제거 (재료명 하나가 여러 입력에 걸려도 한 번만 셈)
+            int[][] perQuery = new int[queries.size()][];
+            int nameCount = 0;
+            for (int q = 0; q < perQuery.length; q++) {
+                perQuery[q] = lookup.find(queries.get(q));
+                nameCount += perQuery[q].length;
+            }
+            int[] nameIds = new int[nameCount];
+            int position = 0;
+            for (int[] ids : perQuery) {
+                System.arraycopy(ids, 0, nameIds, position, ids.length);
+                position += ids.length;
+            }
+            nameIds = IngredientNameLookup.distinct(nameIds, nameCount);
+
+            // 일치 재료명의 포스팅을 모아 정렬 → 같은 번호가 연속된 길이 = 일치 재료 수
+            List<LongPostingList> matched = new ArrayList<>(nameIds.length);
+            int total = 0;
+            for (int nameId : nameIds) {
+                LongPostingList list = postings.get(lookup.nameAt(nameId));
+                if (list != null) {
+                    matched.add(list);
+                    total += list.size();
+                }
+            }
+            if (total == 0) {
+                return Candidates.EMPTY;
+            }
+
+            long[] merged = new long[total];
+            int offset = 0;
+            for (LongPostingList list : matched) {
+                offset = list.copyTo(merged, offset);
+            }
+            Arrays.sort(merged);
+
+            long[] ids = new long[total];
+            int[] matchedCounts = new int[total];
+            int[] ingredientCounts = new int[total];
+            int count = 0;
+            for (int i = 0; i < total; ) {
+                int j = i;
+                while (j < total && merged[j] == merged[i]) {
+                    j++;
+                }
+                String[] names = recipeIngredients.get(merged[i]);
+                ids[count] = merged[i];
+                matchedCounts[count] = j - i;
+                ingredientCounts[count] = names != null ? names.length : 0;
+                count++;
+                i = j;
+            }
+            return new Candidates(
+                    Arrays.copyOf(ids, count),
+                    Arrays.copyOf(matchedCounts, count),
+                    Arrays.copyOf(ingredientCounts, count));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // @return 새 재료명이 생겼으면 true
+    private static boolean addTo(Map<String, LongPostingList> postings, Map<Long, String[]> recipeIngredients,
+                                 Long rcpSno, String materialText) {
+        List<String> names = IngredientParser.parseNames(materialText);
+        if (names.isEmpty()) {
+            return false;
+        }
+        boolean addedName = false;
+        for (String name : names) {
+            LongPostingList list = postings.get(name);
+            if (list == null) {
+                list = new LongPostingList();
+                postings.put(name, list);
+                addedName = true;
+            }
+            list.add(rcpSno);
+        }
+        recipeIngredients.put(rcpSno, names.toArray(new String[0]));
+        return addedName;
+    }
+
+    // @return 포스팅이 비어 재료명이 없어졌으면 true
+    private static boolean removeFrom(Map<String, LongPostingList> postings, Map<Long, String[]> recipeIngredients,
+                                      Long rcpSno) {
+        String[] names = recipeIngredients.remove(rcpSno);
+        if (names == null) {
+            return false;
+        }
+        boolean removedName = false;
+        for (String name : names) {
+            LongPostingList list = postings.get(name);
+            if (list != null) {
+                list.remove(rcpSno);
+                if (list.isEmpty()) {
+                    postings.remove(name);
+                    removedName = true;
+                }
+            }
+        }
+        return removedName;
+    }
+
+    /**
+     * 후보 레시피 (인덱스가 같은 원소끼리 한 레시피)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Candidates {
+        static final Candidates EMPTY = new Candidates(new long[0], new int[0], new int[0]);
+
+        private final long[] recipeIds;
+        private final int[] matchedCounts;
+        private final int[] ingredientCounts;
+
+        public int size() {
+            return recipeIds.length;
+        }
+    }
+}
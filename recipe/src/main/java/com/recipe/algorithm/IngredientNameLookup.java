@@ -0,0 +1,118 @@
+package com.recipe.algorithm;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 재료명 부분 문자열 조회용 접미사 배열 (재료명 목록이 바뀔 때만 다시 만듦, 만든 뒤에는 읽기 전용)
+ * 모든 재료명의 모든 접미사를 정렬해 두면 질의어로 시작하는 접미사 구간 = 질의어를 포함하는 재료명
+ * → 조회 비용이 재료 종류 수가 아니라 log(접미사 수) + 일치 수에 비례 (예: "돼지" → 돼지고기, 다진돼지고기)
+ */
+public class IngredientNameLookup {
+
+    private final String[] names;
+
+    // 접미사 i = names[suffixName[i]].substring(suffixStart[i]), 사전순 정렬
+    private final int[] suffixName;
+    private final int[] suffixStart;
+
+    private IngredientNameLookup(String[] names, int[] suffixName, int[] suffixStart) {
+        this.names = names;
+        this.suffixName = suffixName;
+        this.suffixStart = suffixStart;
+    }
+
+    public static IngredientNameLookup of(Collection<String> names) {
+        String[] nameArray = names.toArray(new String[0]);
+        int total = 0;
+        for (String name : nameArray) {
+            total += name.length();
+        }
+        // 재료명 번호(상위 32비트) + 시작 위치(하위 32비트)를 long 하나로 묶어 정렬 (재구성 때만 실행)
+        Long[] suffixes = new Long[total];
+        int count = 0;
+        for (int n = 0; n < nameArray.length; n++) {
+            for (int start = 0; start < nameArray[n].length(); start++) {
+                suffixes[count++] = ((long) n << 32) | start;
+            }
+        }
+        Arrays.sort(suffixes, (a, b) -> compare(
+                nameArray[(int) (a >>> 32)], a.intValue(),
+                nameArray[(int) (b >>> 32)], b.intValue()));
+
+        int[] suffixName = new int[total];
+        int[] suffixStart = new int[total];
+        for (int i = 0; i < total; i++) {
+            suffixName[i] = (int) (suffixes[i] >>> 32);
+            suffixStart[i] = suffixes[i].intValue();
+        }
+        return new IngredientNameLookup(nameArray, suffixName, suffixStart);
+    }
+
+    /**
+     * 질의어를 포함하는 재료명 번호 (오름차순, 중복 없음)
+     */
+    public int[] find(String query) {
+        int from = lowerBound(query);
+        int to = from;
+        while (to < suffixName.length && names[suffixName[to]].startsWith(query, suffixStart[to])) {
+            to++;
+        }
+        int[] matched = new int[to - from];
+        for (int i = from; i < to; i++) {
+            matched[i - from] = suffixName[i];
+        }
+        return distinct(matched, matched.length);
+    }
+
+    public String nameAt(int index) {
+        return names[index];
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * 앞 count개를 정렬 후 중복 제거한 배열
+     */
+    static int[] distinct(int[] values, int count) {
+        Arrays.sort(values, 0, count);
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            if (size == 0 || values[size - 1] != values[i]) {
+                values[size++] = values[i];
+            }
+        }
+        return Arrays.copyOf(values, size);
+    }
+
+    // 질의어보다 작지 않은 첫 접미사 위치
+    private int lowerBound(String query) {
+        int low = 0;
+        int high = suffixName.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(names[suffixName[mid]], suffixStart[mid], query, 0) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // a.substring(aStart)와 b.substring(bStart)의 사전순 비교 (문자열 생성 없음)
+    private static int compare(String a, int aStart, String b, int bStart) {
+        int aLength = a.length() - aStart;
+        int bLength = b.length() - bStart;
+        int length = Math.min(aLength, bLength);
+        for (int i = 0; i < length; i++) {
+            int diff = a.charAt(aStart + i) - b.charAt(bStart + i);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return aLength - bLength;
+    }
+}
@@ -5,6 +5,8 @@ import com.recipe.repository.RecipeRepository;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
@@ -18,56 +20,108 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class IngredientRecommendAlgorithm {
 
+    private static final int RESULT_SIZE = 10;
+    private static final int IN_QUERY_CHUNK = 1000;
+
+    // 추천수 배열에서 삭제된 레시피 표시
+    private static final int MISSING = -1;
+
     private final RecipeRepository recipeRepository;
+    private final IngredientIndex ingredientIndex;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
     /**
-     * 사용자 입력 재료 기반 추천
+     * 사용자 입력 재료 기반 추천 (상위 10개)
      */
     public List<IngredientRecommendationResult> recommendByIngredients(List<String> userIngredients) {
-        List<Recipe> allRecipes = recipeRepository.findAll();
-        Map<Long, Double> recipeScores = new HashMap<>();
+        return recommendByIngredients(userIngredients, 0, RESULT_SIZE);
+    }
 
-        for (Recipe recipe : allRecipes) {
-            String materialText = recipe.getCkgMtrlCn();
-            if (materialText == null || materialText.isBlank()) continue;
+    /**
+     * 사용자 입력 재료 기반 추천 (페이지)
+     * 재료 역색인으로 입력 재료를 하나 이상 포함한 레시피만 점수 계산
+     * @param offset 건너뛸 개수
+     * @param limit 반환할 개수
+     */
+    public List<IngredientRecommendationResult> recommendByIngredients(List<String> userIngredients, int offset, int limit) {
+        IngredientIndex.Candidates candidates = ingredientIndex.findCandidates(userIngredients);
+        if (candidates.size() == 0 || limit <= 0) {
+            return List.of();
+        }
+        offset = Math.max(offset, 0);
 
-            // 재료 파싱
-            List<String> recipeIngredients = Arrays.stream(materialText.split("[,\\n]"))
-                    .map(String::trim)
-                    .filter(s -> !s.isEmpty())
-                    .collect(Collectors.toList());
+        long[] recipeIds = candidates.getRecipeIds();
+        int[] matchedCounts = candidates.getMatchedCounts();
+        int[] ingredientCounts = candidates.getIngredientCounts();
+        int[] popularity = loadPopularity(recipeIds);
 
-            // 일치 개수 계산
-            long matchedCount = recipeIngredients.stream()
-                    .filter(ri -> userIngredients.stream().anyMatch(ui -> ri.contains(ui)))
-                    .count();
+        // 후보 수보다 크게 할당하지 않음
+        TopKSelector selector = new TopKSelector((int) Math.min((long) offset + limit, recipeIds.length));
+        for (int i = 0; i < recipeIds.length; i++) {
+            if (popularity[i] == MISSING) continue; // 이미 삭제된 레시피
 
-            double ingredientMatchRate = recipeIngredients.isEmpty()
+            double ingredientMatchRate = ingredientCounts[i] == 0
                     ? 0.0
-                    : (double) matchedCount / recipeIngredients.size();
+                    : (double) matchedCounts[i] / ingredientCounts[i];
 
-            double popularityScore = recipe.getRcmmCnt() != null ? recipe.getRcmmCnt() : 0;
+            double popularityScore = popularity[i];
 
             // 최종 점수 계산 (정밀 추천)
             double finalScore = ingredientMatchRate * 0.7 + (popularityScore / 1000.0) * 0.3;
 
-            recipeScores.put(recipe.getRcpSno(), finalScore);
+            selector.offer(recipeIds[i], finalScore);
         }
+        selector.sort();
 
-        // 정렬 및 상위 10개 선택
-        return allRecipes.stream()
-                .filter(r -> recipeScores.containsKey(r.getRcpSno()))
-                .sorted(Comparator.comparingDouble(
-                        (Recipe r) -> recipeScores.getOrDefault(r.getRcpSno(), 0.0)
-                ).reversed())
-                .limit(10)
-                .map(r -> new IngredientRecommendationResult(
-                        r.getRcpSno(),
-                        r.getRcpTtl(),
-                        r.getRcpImgUrl(),
-                        recipeScores.get(r.getRcpSno())
-                ))
-                .collect(Collectors.toList());
+        // 요청 구간만 엔티티 조회
+        List<Long> pageIds = new ArrayList<>();
+        for (int i = offset; i < selector.size(); i++) {
+            pageIds.add(selector.idAt(i));
+        }
+        if (pageIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Recipe> recipes = recipeRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Recipe::getRcpSno, r -> r));
+
+        List<IngredientRecommendationResult> results = new ArrayList<>(pageIds.size());
+        for (int i = offset; i < selector.size(); i++) {
+            Recipe r = recipes.get(selector.idAt(i));
+            if (r == null) continue;
+            results.add(new IngredientRecommendationResult(
+                    r.getRcpSno(),
+                    r.getRcpTtl(),
+                    r.getRcpImgUrl(),
+                    selector.scoreAt(i)
+            ));
+        }
+        return results;
+    }
+
+    // 후보 레시피의 추천수 조회 (IN 절 크기 제한)
+    // recipeIds와 같은 순서의 int 배열 - recipeIds가 오름차순이라 조회 행의 위치는 이진 탐색으로 찾음 (행마다 객체 생성 없음)
+    private int[] loadPopularity(long[] recipeIds) {
+        int[] popularity = new int[recipeIds.length];
+        Arrays.fill(popularity, MISSING);
+        List<Long> chunk = new ArrayList<>(Math.min(IN_QUERY_CHUNK, recipeIds.length));
+        for (int from = 0; from < recipeIds.length; from += IN_QUERY_CHUNK) {
+            int to = Math.min(from + IN_QUERY_CHUNK, recipeIds.length);
+            chunk.clear();
+            for (int i = from; i < to; i++) {
+                chunk.add(recipeIds[i]);
+            }
+            int chunkFrom = from;
+            namedParameterJdbcTemplate.query(
+                    "SELECT RCP_SNO, RCMM_CNT FROM recipes WHERE RCP_SNO IN (:ids)",
+                    Map.of("ids", chunk),
+                    (RowCallbackHandler) rs -> {
+                        int pos = Arrays.binarySearch(recipeIds, chunkFrom, to, rs.getLong(1));
+                        if (pos >= 0) {
+                            popularity[pos] = Math.max(rs.getInt(2), 0);
+                        }
+                    });
+        }
+        return popularity;
     }
 
     /**
@@ -0,0 +1,62 @@
+package com.recipe.algorithm;
+
+/**
+ * 레시피별 유사 레시피(이웃) 상위 M개 테이블 (읽기 전용)
+ * 레시피 번호 → 슬롯은 LongIntHashMap, 이웃은 CSR 배열(offsets / neighborIds / similarities)로 보관
+ * 슬롯 i의 이웃: [offsets[i], offsets[i + 1]) 구간, 유사도 내림차순
+ */
+public class ItemNeighborTable {
+
+    public static final ItemNeighborTable EMPTY =
+            new ItemNeighborTable(new LongIntHashMap(0), new int[]{0}, new long[0], new float[0]);
+
+    private final LongIntHashMap slots;
+    private final int[] offsets;
+    private final long[] neighborIds;
+    private final float[] similarities;
+
+    ItemNeighborTable(LongIntHashMap slots, int[] offsets, long[] neighborIds, float[] similarities) {
+        this.slots = slots;
+        this.offsets = offsets;
+        this.neighborIds = neighborIds;
+        this.similarities = similarities;
+    }
+
+    /**
+     * 레시피의 슬롯 번호
+     * @return 이웃이 없으면 -1
+     */
+    public int slotOf(long recipeId) {
+        return slots.get(recipeId, -1);
+    }
+
+    public int neighborStart(int slot) {
+        return offsets[slot];
+    }
+
+    public int neighborEnd(int slot) {
+        return offsets[slot + 1];
+    }
+
+    public long neighborIdAt(int index) {
+        return neighborIds[index];
+    }
+
+    public float similarityAt(int index) {
+        return similarities[index];
+    }
+
+    /**
+     * 이웃을 가진 레시피 수
+     */
+    public int recipeCount() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * 전체 이웃 수
+     */
+    public int neighborCount() {
+        return neighborIds.length;
+    }
+}
@@ -0,0 +1,172 @@
+package com.recipe.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * 사용자-레시피 상호작용(LIKE/VIEW)으로 레시피 간 가중 코사인 유사도를 계산해 ItemNeighborTable 생성
+ *
+ * 1. accept(): 사용자 순으로 들어오는 상호작용을 사용자 → 레시피 CSR(int 배열)로 적재 (사용자당 maxUserHistory개까지)
+ * 2. build(): 레시피 → 사용자 CSR을 만든 뒤, 레시피마다 공동 사용자를 따라가며 내적을 누적해 상위 maxNeighbors개만 남김
+ *
+ * 메모리: 상호작용 수 + 레시피 수 × maxNeighbors 에 비례 (레시피 쌍 전체를 저장하지 않음)
+ * 시간: 사용자별 (기록 수)² 의 합 → maxUserHistory로 상한
+ */
+public class ItemNeighborTableBuilder {
+
+    private final int maxNeighbors;
+    private final int maxUserHistory;
+
+    // 레시피 번호 → 내부 인덱스
+    private final LongIntHashMap itemIndex = new LongIntHashMap(1024);
+    private long[] itemIds = new long[1024];
+
+    // 사용자 → 레시피 CSR
+    private int[] userOffsets = new int[1024];
+    private int[] userItems = new int[4096];
+    private float[] userWeights = new float[4096];
+    private int userCount;
+    private int interactionCount;
+
+    private long currentUserId;
+    private int currentUserHistory;
+    private boolean hasCurrentUser;
+
+    public ItemNeighborTableBuilder(int maxNeighbors, int maxUserHistory) {
+        this.maxNeighbors = maxNeighbors;
+        this.maxUserHistory = maxUserHistory;
+    }
+
+    /**
+     * 상호작용 추가 (같은 사용자의 기록은 연속으로 들어와야 함)
+     * @param weight 상호작용 가중치 (양수)
+     */
+    public void accept(long userId, long recipeId, float weight) {
+        if (!hasCurrentUser || userId != currentUserId) {
+            closeUser();
+            currentUserId = userId;
+            currentUserHistory = 0;
+            hasCurrentUser = true;
+        }
+        if (currentUserHistory >= maxUserHistory || weight <= 0) {
+            return;
+        }
+
+        int item = itemIndex.get(recipeId, -1);
+        if (item < 0) {
+            item = itemIndex.size();
+            itemIndex.put(recipeId, item);
+            if (item == itemIds.length) {
+                itemIds = Arrays.copyOf(itemIds, item * 2);
+            }
+            itemIds[item] = recipeId;
+        }
+
+        if (interactionCount == userItems.length) {
+            userItems = Arrays.copyOf(userItems, interactionCount * 2);
+            userWeights = Arrays.copyOf(userWeights, interactionCount * 2);
+        }
+        userItems[interactionCount] = item;
+        userWeights[interactionCount] = weight;
+        interactionCount++;
+        currentUserHistory++;
+    }
+
+    public int interactionCount() {
+        return interactionCount;
+    }
+
+    /**
+     * 이웃 테이블 생성
+     */
+    public ItemNeighborTable build() {
+        closeUser();
+        int itemCount = itemIndex.size();
+        if (itemCount == 0) {
+            return ItemNeighborTable.EMPTY;
+        }
+
+        // 레시피 → 사용자 CSR
+        int[] itemOffsets = new int[itemCount + 1];
+        for (int p = 0; p < interactionCount; p++) {
+            itemOffsets[userItems[p] + 1]++;
+        }
+        for (int i = 0; i < itemCount; i++) {
+            itemOffsets[i + 1] += itemOffsets[i];
+        }
+        int[] itemUsers = new int[interactionCount];
+        float[] itemWeights = new float[interactionCount];
+        int[] cursor = Arrays.copyOf(itemOffsets, itemCount);
+        double[] norms = new double[itemCount];
+        for (int u = 0; u < userCount; u++) {
+            for (int p = userOffsets[u]; p < userOffsets[u + 1]; p++) {
+                int item = userItems[p];
+                int pos = cursor[item]++;
+                itemUsers[pos] = u;
+                itemWeights[pos] = userWeights[p];
+                norms[item] += (double) userWeights[p] * userWeights[p];
+            }
+        }
+        for (int i = 0; i < itemCount; i++) {
+            norms[i] = Math.sqrt(norms[i]);
+        }
+
+        // 레시피별 공동 사용자 기반 내적 누적 → 코사인 유사도 상위 M개
+        double[] dot = new double[itemCount];
+        int[] touched = new int[itemCount];
+        int[] offsets = new int[itemCount + 1];
+        long[] neighborIds = new long[Math.min(itemCount * maxNeighbors, Math.max(interactionCount, 16))];
+        float[] similarities = new float[neighborIds.length];
+        int neighborCount = 0;
+
+        for (int i = 0; i < itemCount; i++) {
+            int touchedCount = 0;
+            for (int p = itemOffsets[i]; p < itemOffsets[i + 1]; p++) {
+                int u = itemUsers[p];
+                double wi = itemWeights[p];
+                for (int q = userOffsets[u]; q < userOffsets[u + 1]; q++) {
+                    int j = userItems[q];
+                    if (j == i) continue;
+                    if (dot[j] == 0.0) {
+                        touched[touchedCount++] = j;
+                    }
+                    dot[j] += wi * userWeights[q];
+                }
+            }
+
+            TopKSelector selector = new TopKSelector(Math.min(maxNeighbors, touchedCount));
+            for (int t = 0; t < touchedCount; t++) {
+                int j = touched[t];
+                selector.offer(itemIds[j], dot[j] / (norms[i] * norms[j]));
+                dot[j] = 0.0;
+            }
+            selector.sort();
+
+            if (neighborCount + selector.size() > neighborIds.length) {
+                int capacity = Math.max(neighborIds.length * 2, neighborCount + selector.size());
+                neighborIds = Arrays.copyOf(neighborIds, capacity);
+                similarities = Arrays.copyOf(similarities, capacity);
+            }
+            for (int n = 0; n < selector.size(); n++) {
+                neighborIds[neighborCount] = selector.idAt(n);
+                similarities[neighborCount] = (float) selector.scoreAt(n);
+                neighborCount++;
+            }
+            offsets[i + 1] = neighborCount;
+        }
+
+        return new ItemNeighborTable(itemIndex, offsets,
+                Arrays.copyOf(neighborIds, neighborCount), Arrays.copyOf(similarities, neighborCount));
+    }
+
+    // 현재 사용자 기록 마감
+    private void closeUser() {
+        if (!hasCurrentUser) {
+            return;
+        }
+        if (userCount + 2 > userOffsets.length) {
+            userOffsets = Arrays.copyOf(userOffsets, userOffsets.length * 2);
+        }
+        userOffsets[++userCount] = interactionCount;
+        hasCurrentUser = false;
+    }
+}
@@ -0,0 +1,79 @@
+package com.recipe.algorithm;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+
+/**
+ * 레시피 간 유사도(아이템 기반 협업 필터링) 이웃 테이블 보관
+ * USER_REFERENCE의 LIKE/VIEW 기록을 스트리밍으로 읽어 주기적으로 재구성하고, 완성된 테이블로 통째로 교체
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class ItemSimilarityIndex {
+
+    private static final int FETCH_SIZE = 1000;
+
+    // 사용자 순으로 (사용자, 레시피, 좋아요 여부) 스트리밍 - 좋아요 기록을 먼저 읽어 기록 상한에서 우선 보존
+    private static final String INTERACTION_SQL =
+            "SELECT USER_ID, RCP_SNO, MAX(CASE WHEN PREFERENCE_TYPE = 'LIKE' THEN 1 ELSE 0 END) AS LIKED " +
+            "FROM user_reference " +
+            "GROUP BY USER_ID, RCP_SNO " +
+            "ORDER BY USER_ID, LIKED DESC";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 레시피당 보관할 이웃 수 (M)
+    @Value("${recipe.similarity.max-neighbors:50}")
+    private int maxNeighbors;
+
+    // 사용자당 유사도 계산에 쓰는 최대 기록 수
+    @Value("${recipe.similarity.max-user-history:200}")
+    private int maxUserHistory;
+
+    private volatile ItemNeighborTable table = ItemNeighborTable.EMPTY;
+
+    /**
+     * 현재 이웃 테이블 (재구성 중에도 이전 테이블로 조회)
+     */
+    public ItemNeighborTable current() {
+        return table;
+    }
+
+    /**
+     * 이웃 테이블 재구성 (기동 1분 후 최초 실행, 이후 주기 실행)
+     */
+    @Scheduled(initialDelayString = "${recipe.similarity.initial-delay-ms:60000}",
+            fixedDelayString = "${recipe.similarity.refresh-interval-ms:3600000}")
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        try {
+            ItemNeighborTableBuilder builder = new ItemNeighborTableBuilder(maxNeighbors, maxUserHistory);
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(INTERACTION_SQL);
+                ps.setFetchSize(FETCH_SIZE);
+                return ps;
+            }, (RowCallbackHandler) rs -> {
+                float weight = (float) (rs.getInt(3) == 1
+                        ? RecipeScoreCalculator.LIKE_WEIGHT
+                        : RecipeScoreCalculator.VIEW_WEIGHT);
+                builder.accept(rs.getLong(1), rs.getLong(2), weight);
+            });
+
+            ItemNeighborTable newTable = builder.build();
+            table = newTable;
+            log.info("레시피 유사도 테이블 재구성 완료 - 상호작용 {}건, 레시피 {}개, 이웃 {}개, {}ms",
+                    builder.interactionCount(), newTable.recipeCount(), newTable.neighborCount(),
+                    System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("레시피 유사도 테이블 재구성 실패 - 기존 테이블 유지", e);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.recipe.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * long → double 누적 맵 (선형 탐사, 박싱 없음)
+ * 추천 후보 레시피별 점수 합산용
+ */
+public class LongDoubleAccumulator {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private long[] keys;
+    private double[] values;
+    private int size;
+    private int mask;
+
+    public LongDoubleAccumulator(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        keys = new long[capacity];
+        values = new double[capacity];
+        Arrays.fill(keys, EMPTY);
+        mask = capacity - 1;
+    }
+
+    /**
+     * key의 값에 delta를 더함 (없으면 delta로 시작)
+     */
+    public void add(long key, double delta) {
+        int slot = LongIntHashMap.mix(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (keys[slot] == EMPTY) {
+            keys[slot] = key;
+            size++;
+        }
+        values[slot] += delta;
+        if (size * 2 > keys.length) {
+            resize();
+        }
+    }
+
+    /**
+     * 누적된 모든 (key, 합계)를 선택기에 넣음
+     */
+    public void offerTo(TopKSelector selector) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                selector.offer(keys[i], values[i]);
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        double[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new double[oldValues.length * 2];
+        Arrays.fill(keys, EMPTY);
+        mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = LongIntHashMap.mix(oldKeys[i]) & mask;
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
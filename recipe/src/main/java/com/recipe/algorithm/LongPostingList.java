@@ -0,0 +1,59 @@
+package com.recipe.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * 재료 인덱스의 포스팅 리스트
+ * 레시피 번호를 오름차순 long 배열로 보관 (박싱 없음)
+ */
+public class LongPostingList {
+
+    private long[] ids = new long[4];
+    private int size;
+
+    /**
+     * 레시피 번호 추가 (이미 있으면 무시)
+     */
+    public void add(long id) {
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos >= 0) {
+            return;
+        }
+        int insertAt = -pos - 1;
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+    }
+
+    /**
+     * 레시피 번호 제거
+     */
+    public void remove(long id) {
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos < 0) {
+            return;
+        }
+        System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+        size--;
+    }
+
+    /**
+     * 포스팅을 대상 배열에 복사
+     * @return 복사한 뒤의 다음 위치
+     */
+    public int copyTo(long[] target, int offset) {
+        System.arraycopy(ids, 0, target, offset, size);
+        return offset + size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
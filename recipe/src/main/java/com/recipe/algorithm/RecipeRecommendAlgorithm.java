@@ -1,10 +1,15 @@
 package com.recipe.algorithm;
 
 import com.recipe.domain.entity.Recipe;
-import com.recipe.domain.entity.UserReferences;
 import com.recipe.repository.RecipeRepository;
+import com.recipe.repository.UserPreferenceCount;
 import com.recipe.repository.UserReferencesRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
@@ -14,40 +19,105 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class RecipeRecommendAlgorithm {
 
+    private static final int RESULT_SIZE = 10;
+
     private final UserReferencesRepository userReferencesRepository;
     private final RecipeRepository recipeRepository;
     private final RecipeScoreCalculator scoreCalculator;
+    private final ItemSimilarityIndex itemSimilarityIndex;
 
     /**
-     * 사용자별 추천 레시피 계산
+     * 사용자별 추천 레시피 계산 (상위 10개)
      */
     public List<RecommendationResult> recommendRecipes(Long userId) {
-        // 사용자 선호 로그 가져오기
-        List<UserReferences> userReferences = userReferencesRepository.findAll().stream()
-                .filter(ref -> ref.getUser().getUserId().equals(userId))
-                .collect(Collectors.toList());
+        return recommendRecipes(userId, PageRequest.of(0, RESULT_SIZE)).getContent();
+    }
+
+    /**
+     * 사용자별 추천 레시피 계산 (페이지)
+     * 상위 offset + pageSize개만 힙으로 선택한 뒤 요청 페이지 구간만 엔티티 조회
+     */
+    public Page<RecommendationResult> recommendRecipes(Long userId, Pageable pageable) {
+        int k = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE);
+        TopKSelector selector = selectTopK(userId, k);
 
-        if (userReferences.isEmpty()) {
+        if (selector.offeredCount() == 0) {
             // 로그가 없을 경우 기본 추천 (좋아요 수 기준)
-            return recipeRepository.findTop10ByOrderByRcmmCntDesc().stream()
-                    .map(recipe -> new RecommendationResult(recipe, 0.0))
-                    .collect(Collectors.toList());
+            return recommendPopular(pageable);
         }
 
-        // 점수 계산
-        Map<Long, Double> recipeScores = scoreCalculator.calculateScore(userReferences);
+        return toPage(selector, pageable);
+    }
 
-        // 전체 레시피 가져오기
-        List<Recipe> allRecipes = recipeRepository.findAll();
+    /**
+     * 사용자별 상위 K개 레시피 번호/점수 계산 (엔티티 조회 없음)
+     * 기록 레시피와 유사한 레시피 → (이웃이 없으면) 기록 레시피 순으로 점수 계산
+     * 선호 기록이 없으면 빈 선택기 반환
+     * @return 점수 내림차순으로 정렬된 선택기
+     */
+    public TopKSelector selectTopK(Long userId, int k) {
+        // 사용자 선호 로그 집계 (해당 사용자 기록만 조회)
+        List<UserPreferenceCount> preferenceCounts = userReferencesRepository.countPreferencesByUserId(userId);
+
+        // 유사 레시피 점수 계산 + 상위 K개 선택
+        TopKSelector selector = new TopKSelector(k);
+        if (preferenceCounts.isEmpty()) {
+            return selector.sort();
+        }
+        scoreCalculator.calculateNeighborScore(preferenceCounts, itemSimilarityIndex.current(), selector);
 
-        // 점수순 정렬
-        return allRecipes.stream()
-                .filter(recipe -> recipeScores.containsKey(recipe.getRcpSno()))
-                .sorted(Comparator.comparingDouble(
-                        (Recipe r) -> recipeScores.getOrDefault(r.getRcpSno(), 0.0)
-                ).reversed())
-                .limit(10)
-                .map(recipe -> new RecommendationResult(recipe, recipeScores.get(recipe.getRcpSno())))
+        // 유사도 테이블에 이웃이 없으면 기록 기반 점수
+        if (selector.offeredCount() == 0) {
+            scoreCalculator.calculateScore(preferenceCounts, selector);
+        }
+        return selector.sort();
+    }
+
+    /**
+     * 번호 목록을 순서대로 엔티티 조회 (삭제된 레시피는 제외)
+     */
+    public List<Recipe> findRecipesInOrder(List<Long> recipeIds) {
+        Map<Long, Recipe> recipes = recipeRepository.findAllById(recipeIds).stream()
+                .collect(Collectors.toMap(Recipe::getRcpSno, r -> r));
+        List<Recipe> ordered = new ArrayList<>(recipeIds.size());
+        for (Long id : recipeIds) {
+            Recipe recipe = recipes.get(id);
+            if (recipe != null) {
+                ordered.add(recipe);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * 선택 결과 중 요청 페이지 구간만 조회
+     */
+    public Page<RecommendationResult> toPage(TopKSelector selector, Pageable pageable) {
+        int offset = (int) pageable.getOffset();
+        if (offset >= selector.size()) {
+            return new PageImpl<>(List.of(), pageable, selector.offeredCount());
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        List<Long> pageIds = new ArrayList<>(selector.size() - offset);
+        for (int i = offset; i < selector.size(); i++) {
+            pageIds.add(selector.idAt(i));
+            scores.put(selector.idAt(i), selector.scoreAt(i));
+        }
+
+        List<RecommendationResult> content = findRecipesInOrder(pageIds).stream()
+                .map(recipe -> new RecommendationResult(recipe, scores.get(recipe.getRcpSno())))
                 .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, selector.offeredCount());
+    }
+
+    /**
+     * 인기 레시피 (좋아요 수 기준) - 선호 기록이 없는 사용자용
+     */
+    public Page<RecommendationResult> recommendPopular(Pageable pageable) {
+        Pageable popularPage = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                Sort.by(Sort.Direction.DESC, "rcmmCnt").and(Sort.by(Sort.Direction.ASC, "rcpSno")));
+        return recipeRepository.findAll(popularPage)
+                .map(recipe -> new RecommendationResult(recipe, 0.0));
     }
 }
@@ -1,15 +1,16 @@
 package com.recipe.algorithm;
 
-import com.recipe.domain.entity.UserReferences;
 import com.recipe.domain.entity.enums.PreferenceType;
+import com.recipe.repository.UserPreferenceCount;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 /**
- * 사용자의 행동(UserReferences)을 기반으로 레시피 점수를 계산하는 클래스
+ * 사용자의 행동(UserReferences 집계)을 기반으로 레시피 점수를 계산하는 클래스
+ * - calculateNeighborScore: 기록 레시피와 유사한 (아직 보지 않은) 레시피 점수
+ * - calculateScore: 기록 레시피 자체 점수 (유사도 테이블이 비어 있을 때 사용)
  */
 @Component
 public class RecipeScoreCalculator {
@@ -17,29 +18,79 @@ public class RecipeScoreCalculator {
     /**
      * 행동별 가중치 (가장 중요)
      */
-    private static final double VIEW_WEIGHT = 0.5;
-    private static final double LIKE_WEIGHT = 3.0;
+    static final double VIEW_WEIGHT = 0.5;
+    static final double LIKE_WEIGHT = 3.0;
 
     /**
-     * 사용자 선호(UserReferences) 리스트로부터 레시피별 점수를 계산
+     * 레시피별 선호 집계로부터 점수를 계산해 선택기에 넣음
+     * @param counts 레시피 번호 순으로 정렬된 (레시피, 선호 타입, 횟수) 집계
+     * @param selector 상위 K개 선택기
      */
-    public Map<Long, Double> calculateScore(List<UserReferences> references) {
-        Map<Long, Double> recipeScores = new HashMap<>();
+    public void calculateScore(List<UserPreferenceCount> counts, TopKSelector selector) {
+        long currentRecipeId = 0L;
+        double currentScore = 0.0;
+        boolean hasCurrent = false;
 
-        for (UserReferences ref : references) {
-            Long recipeId = ref.getRecipe().getRcpSno();
-            double score = 0.0;
+        for (UserPreferenceCount count : counts) {
+            long recipeId = count.getRcpSno();
+            if (hasCurrent && recipeId != currentRecipeId) {
+                selector.offer(currentRecipeId, currentScore);
+                currentScore = 0.0;
+            }
+            currentRecipeId = recipeId;
+            hasCurrent = true;
 
             // 행동 유형에 따른 점수 부여
-            if (ref.getPreference() == PreferenceType.LIKE) {
-                score += LIKE_WEIGHT;
-            } else if (ref.getPreference() == PreferenceType.VIEW) {
-                score += VIEW_WEIGHT;
+            currentScore += weightOf(count.getPreference()) * count.getCnt();
+        }
+
+        if (hasCurrent) {
+            selector.offer(currentRecipeId, currentScore);
+        }
+    }
+
+    /**
+     * 유사 레시피(이웃) 기반 점수 계산 - 사용자가 아직 보지 않은 레시피만 후보
+     * 점수(후보) = Σ 기록 레시피 가중치 × 유사도(기록 레시피, 후보)
+     * 비용: 기록 수 × 이웃 수(M), 전체 레시피를 훑지 않음
+     * @param counts 레시피 번호 순으로 정렬된 (레시피, 선호 타입, 횟수) 집계
+     * @param table 레시피 이웃 테이블
+     * @param selector 상위 K개 선택기
+     */
+    public void calculateNeighborScore(List<UserPreferenceCount> counts, ItemNeighborTable table,
+                                       TopKSelector selector) {
+        // 기록 레시피별 가중치 합 (counts가 레시피 번호 순이므로 historyIds도 정렬됨)
+        long[] historyIds = new long[counts.size()];
+        double[] historyWeights = new double[counts.size()];
+        int historySize = 0;
+        for (UserPreferenceCount count : counts) {
+            long recipeId = count.getRcpSno();
+            if (historySize == 0 || historyIds[historySize - 1] != recipeId) {
+                historyIds[historySize++] = recipeId;
             }
+            historyWeights[historySize - 1] += weightOf(count.getPreference()) * count.getCnt();
+        }
+
+        LongDoubleAccumulator scores = new LongDoubleAccumulator(historySize * 8);
+        for (int h = 0; h < historySize; h++) {
+            int slot = table.slotOf(historyIds[h]);
+            if (slot < 0) continue;
 
-            recipeScores.put(recipeId, recipeScores.getOrDefault(recipeId, 0.0) + score);
+            for (int n = table.neighborStart(slot); n < table.neighborEnd(slot); n++) {
+                long neighborId = table.neighborIdAt(n);
+                if (Arrays.binarySearch(historyIds, 0, historySize, neighborId) >= 0) continue; // 이미 본 레시피
+                scores.add(neighborId, historyWeights[h] * table.similarityAt(n));
+            }
         }
+        scores.offerTo(selector);
+    }
 
-        return recipeScores;
+    private static double weightOf(PreferenceType preference) {
+        if (preference == PreferenceType.LIKE) {
+            return LIKE_WEIGHT;
+        } else if (preference == PreferenceType.VIEW) {
+            return VIEW_WEIGHT;
+        }
+        return 0.0;
     }
 }
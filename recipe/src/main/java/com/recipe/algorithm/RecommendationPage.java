@@ -0,0 +1,27 @@
+package com.recipe.algorithm;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+import java.time.Instant;
+import java.util.function.Function;
+
+/**
+ * 추천 결과 페이지 + 추천 생성 시각
+ * 미리 계산된 추천(Redis)이면 배치 생성 시각, 즉시 계산이면 요청 시각
+ */
+@Getter
+@AllArgsConstructor
+public class RecommendationPage<T> {
+
+    // 응답 헤더로 추천 생성 시각 노출
+    public static final String GENERATED_AT_HEADER = "X-Recommendation-Generated-At";
+
+    private final Page<T> page;
+    private final Instant generatedAt;
+
+    public <R> RecommendationPage<R> map(Function<? super T, ? extends R> converter) {
+        return new RecommendationPage<>(page.map(converter), generatedAt);
+    }
+}
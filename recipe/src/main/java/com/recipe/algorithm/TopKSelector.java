@@ -0,0 +1,157 @@
+package com.recipe.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * 점수 상위 K개 레시피 선택기
+ * 크기 K의 최소 힙(long[] 번호 / double[] 점수)으로 전체 정렬 없이 O(n log K)에 상위 K개를 고른다
+ * 점수가 같으면 레시피 번호가 작은 쪽을 우선한다
+ *
+ * 배열은 들어온 후보 수만큼만 늘리므로 K가 커도 후보 수 이상 할당하지 않는다
+ *
+ * 사용법: offer()로 후보를 모두 넣은 뒤 sort() 호출 → idAt(i) / scoreAt(i)는 점수 내림차순
+ */
+public class TopKSelector {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final int k;
+    private long[] ids;
+    private double[] scores;
+    private int size;
+    private long offeredCount;
+    private boolean sorted;
+
+    public TopKSelector(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k는 0 이상이어야 합니다: " + k);
+        }
+        this.k = k;
+        this.ids = new long[Math.min(k, INITIAL_CAPACITY)];
+        this.scores = new double[ids.length];
+    }
+
+    /**
+     * 후보 추가 (상위 K개에 못 들면 버림)
+     */
+    public void offer(long id, double score) {
+        if (sorted) {
+            throw new IllegalStateException("sort() 이후에는 후보를 추가할 수 없습니다.");
+        }
+        offeredCount++;
+        if (k == 0) {
+            return;
+        }
+        if (size < k) {
+            if (size == ids.length) {
+                grow();
+            }
+            ids[size] = id;
+            scores[size] = score;
+            siftUp(size++);
+        } else if (isWorse(ids[0], scores[0], id, score)) {
+            ids[0] = id;
+            scores[0] = score;
+            siftDown(0, size);
+        }
+    }
+
+    /**
+     * 선택된 후보를 점수 내림차순으로 정렬 (힙 정렬, 추가 메모리 없음)
+     */
+    public TopKSelector sort() {
+        if (!sorted) {
+            // 가장 낮은 원소를 뒤에서부터 채우면 앞쪽이 가장 높은 점수가 된다
+            for (int end = size - 1; end > 0; end--) {
+                swap(0, end);
+                siftDown(0, end);
+            }
+            sorted = true;
+        }
+        return this;
+    }
+
+    public long idAt(int index) {
+        checkSorted(index);
+        return ids[index];
+    }
+
+    public double scoreAt(int index) {
+        checkSorted(index);
+        return scores[index];
+    }
+
+    /**
+     * 선택된 후보 수 (최대 K)
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * offer()로 들어온 전체 후보 수 (페이지 전체 건수 계산용)
+     */
+    public long offeredCount() {
+        return offeredCount;
+    }
+
+    private void grow() {
+        int capacity = (int) Math.min(k, (long) ids.length * 2);
+        ids = Arrays.copyOf(ids, capacity);
+        scores = Arrays.copyOf(scores, capacity);
+    }
+
+    private void checkSorted(int index) {
+        if (!sorted) {
+            throw new IllegalStateException("sort() 호출 후 조회할 수 있습니다.");
+        }
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+
+    // (id1, score1)이 (id2, score2)보다 순위가 낮은지
+    private static boolean isWorse(long id1, double score1, long id2, double score2) {
+        int cmp = Double.compare(score1, score2);
+        return cmp < 0 || (cmp == 0 && id1 > id2);
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!isWorse(ids[index], scores[index], ids[parent], scores[parent])) {
+                break;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index, int limit) {
+        while (true) {
+            int left = 2 * index + 1;
+            if (left >= limit) {
+                break;
+            }
+            int worst = left;
+            int right = left + 1;
+            if (right < limit && isWorse(ids[right], scores[right], ids[left], scores[left])) {
+                worst = right;
+            }
+            if (!isWorse(ids[worst], scores[worst], ids[index], scores[index])) {
+                break;
+            }
+            swap(index, worst);
+            index = worst;
+        }
+    }
+
+    private void swap(int i, int j) {
+        long id = ids[i];
+        ids[i] = ids[j];
+        ids[j] = id;
+        double score = scores[i];
+        scores[i] = scores[j];
+        scores[j] = score;
+    }
+}
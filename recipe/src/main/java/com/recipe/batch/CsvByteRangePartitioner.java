@@ -0,0 +1,110 @@
+package com.recipe.batch;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * CSV 파일을 바이트 구간으로 나눔 (구간 경계는 항상 레코드 시작)
+ * 따옴표 안의 줄바꿈은 값의 일부라 임의 위치에서는 레코드 시작을 알 수 없음
+ * → 앞 구간 시작(레코드 시작)부터 따옴표 상태를 따라 읽고, 나눌 위치 이후 따옴표 밖의 첫 '\n' 다음에서 자름
+ *   (CsvRecordTokenizer와 같은 규칙: "마다 상태 전환, ""는 두 번 전환되어 그대로)
+ * UTF-8에서 '\n'(0x0A)과 '"'(0x22)는 다른 글자의 일부가 될 수 없어 바이트 단위로 찾아도 안전
+ * 헤더 줄은 첫 구간에서 제외
+ * 파티션 ExecutionContext: file, start(포함), end(제외)
+ */
+@Log4j2
+public class CsvByteRangePartitioner implements Partitioner {
+
+    public static final String FILE = "file";
+    public static final String START = "start";
+    public static final String END = "end";
+
+    private static final int SCAN_BUFFER_SIZE = 8 * 1024;
+
+    private final Resource resource;
+
+    public CsvByteRangePartitioner(Resource resource) {
+        this.resource = resource;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        try {
+            Path file = toFile(resource);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                long size = channel.size();
+                long dataStart = nextRecordStart(channel, 0, 0);   // 헤더 다음 레코드
+
+                Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+                long start = dataStart;
+                for (int i = 0; i < gridSize && start < size; i++) {
+                    long target = i == gridSize - 1 ? size : dataStart + (size - dataStart) * (i + 1) / gridSize;
+                    long end = target >= size ? size : nextRecordStart(channel, start, Math.max(target, start));
+                    if (end <= start) {
+                        continue;
+                    }
+                    ExecutionContext context = new ExecutionContext();
+                    context.putString(FILE, file.toString());
+                    context.putLong(START, start);
+                    context.putLong(END, end);
+                    partitions.put("partition" + i, context);
+                    start = end;
+                }
+                log.info("CSV 분할 - {} ({}bytes) → {}개 구간", file.getFileName(), size, partitions.size());
+                return partitions;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("CSV 분할 실패: " + resource, e);
+        }
+    }
+
+    // recordStart(레코드 시작)부터 따옴표 상태를 따라 읽어서 target 이후 따옴표 밖의 첫 '\n' 다음 위치 (없으면 파일 끝)
+    private static long nextRecordStart(FileChannel channel, long recordStart, long target) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        long offset = recordStart;
+        boolean inQuotes = false;
+        while (true) {
+            buffer.clear();
+            int read = channel.read(buffer, offset);
+            if (read <= 0) {
+                return channel.size();
+            }
+            for (int i = 0; i < read; i++) {
+                byte b = buffer.get(i);
+                if (b == '"') {
+                    inQuotes = !inQuotes;
+                } else if (b == '\n' && !inQuotes && offset + i >= target) {
+                    return offset + i + 1;
+                }
+            }
+            offset += read;
+        }
+    }
+
+    // jar 안의 classpath 리소스처럼 파일이 아니면 임시 파일로 한 번 복사 (구간별 임의 접근, 메모리 매핑용)
+    public static Path toFile(Resource resource) throws IOException {
+        if (resource.isFile()) {
+            return resource.getFile().toPath();
+        }
+        Path temp = Files.createTempFile("recipe-import-", ".csv");
+        temp.toFile().deleteOnExit();
+        try (InputStream in = resource.getInputStream()) {
+            Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return temp;
+    }
+}
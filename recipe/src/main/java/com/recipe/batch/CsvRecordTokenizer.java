@@ -0,0 +1,142 @@
+package com.recipe.batch;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * UTF-8 CSV 레코드 분리기 (ByteBuffer에서 바로 읽음 - 줄 String이나 FieldSet을 만들지 않음)
+ * 구분자(,), 따옴표("), 줄바꿈은 모두 ASCII라 UTF-8 바이트 단위로 찾아도 한글 등 다른 글자를 자르지 않음
+ * 필드 값은 DelimitedLineTokenizer와 같음:
+ * - 따옴표 안의 쉼표/줄바꿈은 값의 일부, ""는 "
+ * - 따옴표로 감싼 필드는 바깥 공백과 따옴표 제거, 따옴표 없는 필드는 그대로 (trim 안 함)
+ * - 줄 끝 \r\n의 \r 제거
+ * 인스턴스 하나를 한 스레드에서 재사용 (스레드 안전하지 않음)
+ */
+public class CsvRecordTokenizer {
+
+    public static final String[] BLANK = new String[0];
+
+    private static final byte COMMA = ',';
+    private static final byte QUOTE = '"';
+    private static final byte LF = '\n';
+    private static final byte CR = '\r';
+
+    private final List<String> fields = new ArrayList<>(32);
+    private byte[] scratch = new byte[1024];
+
+    /**
+     * buffer.position()부터 레코드 하나를 읽고 position을 다음 레코드 시작으로 이동
+     * @return 필드 배열, 빈 줄이면 BLANK, 남은 데이터가 없으면 null
+     */
+    public String[] next(ByteBuffer buffer) {
+        if (!buffer.hasRemaining()) {
+            return null;
+        }
+        fields.clear();
+        int limit = buffer.limit();
+        int position = buffer.position();
+        int fieldStart = position;
+        boolean inQuotes = false;
+        boolean hasQuote = false;
+        int recordEnd = limit;
+        int next = limit;
+        for (; position < limit; position++) {
+            byte b = buffer.get(position);
+            if (b == QUOTE) {
+                inQuotes = !inQuotes;
+                hasQuote = true;
+            } else if (!inQuotes) {
+                if (b == COMMA) {
+                    fields.add(field(buffer, fieldStart, position, hasQuote));
+                    fieldStart = position + 1;
+                    hasQuote = false;
+                } else if (b == LF) {
+                    recordEnd = position;
+                    next = position + 1;
+                    break;
+                }
+            }
+        }
+        buffer.position(next);
+
+        if (recordEnd > fieldStart && buffer.get(recordEnd - 1) == CR) {
+            recordEnd--;
+        }
+        if (fields.isEmpty() && recordEnd == fieldStart) {
+            return BLANK;
+        }
+        fields.add(field(buffer, fieldStart, recordEnd, hasQuote));
+        return fields.toArray(new String[0]);
+    }
+
+    /**
+     * 레코드 하나를 값 변환 없이 건너뜀 (헤더, 재시작 시 이미 처리한 레코드)
+     * @return 건너뛴 레코드가 빈 줄이 아니면 true, 남은 데이터가 없으면 false
+     */
+    public boolean skip(ByteBuffer buffer) {
+        int limit = buffer.limit();
+        while (buffer.hasRemaining()) {
+            int start = buffer.position();
+            int end = limit;
+            boolean inQuotes = false;
+            for (int position = start; position < limit; position++) {
+                byte b = buffer.get(position);
+                if (b == QUOTE) {
+                    inQuotes = !inQuotes;
+                } else if (b == LF && !inQuotes) {
+                    end = position;
+                    break;
+                }
+            }
+            buffer.position(Math.min(end + 1, limit));
+            int length = end - start;
+            if (length > 1 || (length == 1 && buffer.get(start) != CR)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String field(ByteBuffer buffer, int start, int end, boolean hasQuote) {
+        if (hasQuote) {
+            int from = start;
+            int to = end;
+            while (from < to && (buffer.get(from) & 0xFF) <= ' ') {
+                from++;
+            }
+            while (to > from && (buffer.get(to - 1) & 0xFF) <= ' ') {
+                to--;
+            }
+            if (to - from >= 2 && buffer.get(from) == QUOTE && buffer.get(to - 1) == QUOTE) {
+                return unquote(buffer, from + 1, to - 1);
+            }
+        }
+        int length = end - start;
+        byte[] bytes = scratch(length);
+        buffer.get(start, bytes, 0, length);
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    // 감싼 따옴표 안쪽 - ""를 "로
+    private String unquote(ByteBuffer buffer, int start, int end) {
+        byte[] bytes = scratch(end - start);
+        int length = 0;
+        for (int i = start; i < end; i++) {
+            byte b = buffer.get(i);
+            bytes[length++] = b;
+            if (b == QUOTE && i + 1 < end && buffer.get(i + 1) == QUOTE) {
+                i++;
+            }
+        }
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private byte[] scratch(int length) {
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        return scratch;
+    }
+}
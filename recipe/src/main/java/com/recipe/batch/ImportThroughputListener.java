@@ -0,0 +1,30 @@
+package com.recipe.batch;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 적재 Step 처리량 로그 (파티션 Step이면 전체 파티션 합계)
+ */
+@Log4j2
+@Component
+public class ImportThroughputListener implements StepExecutionListener {
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        LocalDateTime startTime = stepExecution.getStartTime();
+        long millis = startTime != null ? Duration.between(startTime, LocalDateTime.now()).toMillis() : 0L;
+        long written = stepExecution.getWriteCount();
+        long rowsPerSecond = millis > 0 ? written * 1000 / millis : written;
+        log.info("{} - 읽기 {}건, 저장 {}건, 건너뜀 {}건, {}ms ({} rows/s)",
+                stepExecution.getStepName(), stepExecution.getReadCount(), written,
+                stepExecution.getSkipCount(), millis, rowsPerSecond);
+        return stepExecution.getExitStatus();
+    }
+}
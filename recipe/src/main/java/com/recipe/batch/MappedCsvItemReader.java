@@ -0,0 +1,98 @@
+package com.recipe.batch;
+
+import org.springframework.batch.item.file.FlatFileParseException;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * CSV 파일의 [start, end) 바이트 구간을 메모리 매핑해서 레코드마다 String[]으로 읽는 리더
+ * FlatFileItemReader + DelimitedLineTokenizer + FieldSetMapper 대신 CsvRecordTokenizer로 바로 분리 (줄 String, FieldSet 생성 없음)
+ * end < 0이면 파일 끝까지, 빈 줄은 건너뜀
+ * 이름(name)이 ExecutionContext 키 접두어 - 재시작 시 읽은 레코드 수만큼 값 변환 없이 건너뜀
+ * 매핑 구간은 2GB 미만이어야 함 (더 큰 파일은 병렬 적재 Job으로 구간을 나눠 읽음)
+ * 파일이 아닌 리소스(jar 안의 classpath 등)는 열 때마다 임시 파일로 복사하고 닫을 때 삭제
+ */
+public class MappedCsvItemReader extends AbstractItemCountingItemStreamItemReader<String[]> {
+
+    private final Resource resource;
+    private final long start;
+    private final long end;
+    private final int linesToSkip;
+    private final int columns;
+    private final CsvRecordTokenizer tokenizer = new CsvRecordTokenizer();
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private Path tempCopy;
+
+    public MappedCsvItemReader(String name, Resource resource, long start, long end, int linesToSkip, int columns) {
+        setName(name);
+        this.resource = resource;
+        this.start = start;
+        this.end = end;
+        this.linesToSkip = linesToSkip;
+        this.columns = columns;
+    }
+
+    @Override
+    protected void doOpen() throws Exception {
+        Path file = CsvByteRangePartitioner.toFile(resource);
+        if (!resource.isFile()) {
+            tempCopy = file;
+        }
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        long to = end < 0 ? channel.size() : Math.min(end, channel.size());
+        long size = Math.max(to - start, 0);
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("CSV 구간이 2GB를 넘어 매핑할 수 없음 (recipe.import.grid-size를 늘려 병렬 적재로 나눠 읽기): " + file);
+        }
+        buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+        for (int i = 0; i < linesToSkip; i++) {
+            tokenizer.skip(buffer);
+        }
+    }
+
+    @Override
+    protected String[] doRead() {
+        String[] fields;
+        do {
+            fields = tokenizer.next(buffer);
+        } while (fields == CsvRecordTokenizer.BLANK);
+        if (fields != null && fields.length != columns) {
+            throw new FlatFileParseException("CSV 컬럼 수 불일치 - 기대 " + columns + ", 실제 " + fields.length,
+                    String.join(",", fields), getCurrentItemCount());
+        }
+        return fields;
+    }
+
+    @Override
+    protected void jumpToItem(int itemIndex) {
+        for (int i = 0; i < itemIndex && tokenizer.skip(buffer); i++) {
+            // 이미 커밋된 레코드 건너뜀
+        }
+    }
+
+    @Override
+    protected void doClose() throws Exception {
+        buffer = null;
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+        if (tempCopy != null) {
+            // 매핑이 아직 해제되지 않아 지우지 못하면(Windows) 종료 시 삭제(deleteOnExit)에 맡김
+            try {
+                Files.deleteIfExists(tempCopy);
+            } catch (IOException ignored) {
+            }
+            tempCopy = null;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.recipe.batch;
 import com.recipe.batch.RecipeCsvDto;
 import com.recipe.domain.entity.Recipe;
 import com.recipe.repository.RecipeRepository;
+import com.recipe.service.RecipeIngredientService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.batch.core.Job;
@@ -35,6 +36,8 @@ public class RecipeCsvBatchConfig {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final RecipeRepository recipeRepository;
+    private final RecipeIndexRefreshListener recipeIndexRefreshListener;
+    private final RecipeIngredientService recipeIngredientService;
 
     // 1️⃣ CSV 파일 읽기
     @Bean
@@ -112,7 +115,7 @@ public class RecipeCsvBatchConfig {
             }
             
             if (!newRecipes.isEmpty()) {
-                recipeRepository.saveAll(newRecipes);
+                recipeIngredientService.linkAll(recipeRepository.saveAll(newRecipes));
                 log.info("✅ 저장된 레시피 수: {}", newRecipes.size());
             } else {
                 log.warn("⚠️ 저장할 레시피 없음");
@@ -136,6 +139,7 @@ public class RecipeCsvBatchConfig {
     public Job importRecipeJob() {
         return new JobBuilder("importRecipeJob", jobRepository)
             .start(importStep())
+            .listener(recipeIndexRefreshListener)
             .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,84 @@
+package com.recipe.batch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionException;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 레시피 CSV 증분 적재 주기 실행 (recipe.import.delta-cron, 기본 "-" = 끔)
+ * 마지막 실행이 실패(FAILED)/중지(STOPPED)면 그 실행의 파라미터로 재개, 아니면 run.id를 올려 새로 실행 (같은 날 다시 실행 가능)
+ * 전체 적재 Job으로 넣은 레시피(SRC_RCP_SNO 없음)가 있으면 같은 레시피가 한 번 더 들어가므로 실행하지 않음
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class RecipeDeltaImportScheduler {
+
+    // 사용자 작성 레시피(USER_ID 있음)는 CSV와 무관하므로 제외
+    private static final String UNTRACKED_CSV_ROWS_SQL =
+            "SELECT COUNT(*) FROM recipes WHERE SRC_RCP_SNO IS NULL AND USER_ID IS NULL";
+
+    private final JobLauncher jobLauncher;
+    private final JobExplorer jobExplorer;
+    private final JdbcTemplate jdbcTemplate;
+    private final Job recipeDeltaImportJob;
+
+    @Scheduled(cron = "${recipe.import.delta-cron:-}")
+    public void runDeltaImport() {
+        try {
+            run(LocalDate.now());
+        } catch (Exception e) {
+            log.error("레시피 증분 적재 Job 실행 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @throws IllegalStateException 이미 실행 중이거나 SRC_RCP_SNO 없는 CSV 레시피가 있을 때
+     */
+    public JobExecution run(LocalDate runDate) throws JobExecutionException {
+        Long untracked = jdbcTemplate.queryForObject(UNTRACKED_CSV_ROWS_SQL, Long.class);
+        if (untracked != null && untracked > 0) {
+            throw new IllegalStateException("전체 적재 Job으로 넣은 레시피 " + untracked
+                    + "건에 SRC_RCP_SNO가 없어 증분 적재를 실행하지 않습니다 (같은 레시피 중복 적재 방지).");
+        }
+
+        JobExecution last = lastExecution();
+        if (last != null && last.isRunning()) {
+            throw new IllegalStateException("레시피 증분 적재 Job이 이미 실행 중입니다. (executionId: " + last.getId() + ")");
+        }
+
+        JobParameters params;
+        if (last != null && (last.getStatus() == BatchStatus.FAILED || last.getStatus() == BatchStatus.STOPPED)) {
+            // 마지막으로 커밋된 청크 다음 레코드부터 재개 (요청한 runDate 대신 실패한 실행의 파라미터 사용)
+            params = last.getJobParameters();
+            log.info("레시피 증분 적재 Job 재개 - executionId: {}, 상태: {}, 파라미터: {}", last.getId(), last.getStatus(), params);
+        } else {
+            params = new JobParametersBuilder(jobExplorer)
+                    .getNextJobParameters(recipeDeltaImportJob)
+                    .addLocalDate("runDate", runDate)
+                    .toJobParameters();
+        }
+
+        JobExecution execution = jobLauncher.run(recipeDeltaImportJob, params);
+        log.info("레시피 증분 적재 Job 완료 - 파라미터: {}, Status: {}", params, execution.getStatus());
+        return execution;
+    }
+
+    private JobExecution lastExecution() {
+        JobInstance instance = jobExplorer.getLastJobInstance(recipeDeltaImportJob.getName());
+        return instance != null ? jobExplorer.getLastJobExecution(instance) : null;
+    }
+}
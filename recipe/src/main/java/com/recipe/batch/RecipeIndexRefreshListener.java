@@ -0,0 +1,43 @@
+package com.recipe.batch;
+
+import com.recipe.algorithm.FridgeMatchEngine;
+import com.recipe.algorithm.IngredientIndex;
+import com.recipe.search.RecipeSearchIndex;
+import com.recipe.service.MainPageSnapshotService;
+import com.recipe.service.RecipeCardCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 레시피 CSV 적재 / 재료 연결 백필 Job 완료 후 재료/검색 인덱스, 냉장고 매칭 비트맵, 메인 페이지 스냅샷 재구성
+ * 레시피 카드 캐시는 전체 삭제
+ * (배치 저장은 RecipeService를 거치지 않아 변경 이벤트가 발생하지 않음)
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class RecipeIndexRefreshListener implements JobExecutionListener {
+
+    private final IngredientIndex ingredientIndex;
+    private final RecipeSearchIndex recipeSearchIndex;
+    private final FridgeMatchEngine fridgeMatchEngine;
+    private final MainPageSnapshotService mainPageSnapshotService;
+    private final RecipeCardCache recipeCardCache;
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        if (jobExecution.getStatus() != BatchStatus.COMPLETED) {
+            return;
+        }
+        log.info("{} 완료 - 레시피 인덱스 재구성", jobExecution.getJobInstance().getJobName());
+        ingredientIndex.rebuild();
+        recipeSearchIndex.rebuildAsync();
+        fridgeMatchEngine.rebuild();
+        recipeCardCache.clear();
+        mainPageSnapshotService.refresh();
+    }
+}
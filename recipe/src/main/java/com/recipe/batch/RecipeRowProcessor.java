@@ -0,0 +1,56 @@
+package com.recipe.batch;
+
+import com.recipe.domain.entity.Recipe;
+import com.recipe.util.IngredientNormalizer;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.batch.item.ItemProcessor;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * CSV 레코드(String[19], recipe_data_241226.csv 컬럼 순서) → Recipe 엔티티
+ * 재료 텍스트는 IngredientNormalizer로 한 번에 정리, 날짜 포맷은 한 번만 생성 (DateTimeFormatter는 스레드 안전 - 병렬 적재 공용)
+ */
+@Log4j2
+public class RecipeRowProcessor implements ItemProcessor<String[], Recipe> {
+
+    public static final int COLUMN_COUNT = 19;
+
+    private static final DateTimeFormatter FIRST_REG_DT_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    @Override
+    public Recipe process(String[] item) {
+        Recipe recipe = new Recipe();
+        recipe.setRcpTtl(item[1]);
+        recipe.setCkgNm(item[2]);
+        recipe.setInqCnt(item[5] != null && !item[5].isEmpty() ? Integer.valueOf(item[5]) : 0);
+        recipe.setRcmmCnt(item[6] != null && !item[6].isEmpty() ? Integer.valueOf(item[6]) : 0);
+        recipe.setCkgMthActoNm(item[8]);
+        recipe.setCkgMtrlActoNm(item[10]);
+        recipe.setCkgKndActoNm(item[11]);
+
+        String ingredients = IngredientNormalizer.normalize(item[13]);
+        recipe.setCkgMtrlCn(ingredients);
+        log.trace("변환된 재료들 >>> {}", ingredients);
+
+        recipe.setCkgInbunNm(item[14]);
+        recipe.setCkgDodfNm(item[15]);
+        recipe.setCkgTimeNm(item[16]);
+
+        if (item[17] != null && !item[17].isEmpty()) {
+            try {
+                recipe.setFirstRegDt(LocalDateTime.parse(item[17], FIRST_REG_DT_FORMAT));
+            } catch (DateTimeParseException e) {
+                // 잘못된 날짜가 많은 파일에서 행마다 스택 트레이스가 쌓이지 않도록 값만 debug로 남김
+                log.debug("FIRST_REG_DT 파싱 오류: {}", item[17]);
+                recipe.setFirstRegDt(null); // 파싱 실패 시 null
+            }
+        }
+
+        recipe.setRcpImgUrl(item[18]); // RCP_IMG_URL
+
+        return recipe;
+    }
+}
@@ -0,0 +1,45 @@
+package com.recipe.batch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 개인화 추천 미리 계산 Job 주기 실행 (기본: 매일 새벽 4시)
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class RecommendationJobScheduler {
+
+    private final JobLauncher jobLauncher;
+    private final Job recommendationMaterializeJob;
+
+    // 최근 며칠 안에 활동한 사용자만 계산
+    @Value("${recipe.recommend.active-days:30}")
+    private long activeDays;
+
+    @Scheduled(cron = "${recipe.recommend.cron:0 0 4 * * *}")
+    public void runRecommendationJob() {
+        try {
+            JobParameters params = new JobParametersBuilder()
+                    .addLocalDateTime("activeSince", LocalDateTime.now().minusDays(activeDays))
+                    .addLong("run.id", System.currentTimeMillis())
+                    .toJobParameters();
+
+            JobExecution execution = jobLauncher.run(recommendationMaterializeJob, params);
+            log.info("추천 미리 계산 Job 완료 - Status: {}", execution.getStatus());
+        } catch (Exception e) {
+            log.error("추천 미리 계산 Job 실행 실패: {}", e.getMessage(), e);
+        }
+    }
+}
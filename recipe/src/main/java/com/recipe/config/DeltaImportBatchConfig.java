@@ -0,0 +1,91 @@
+package com.recipe.config;
+
+import com.recipe.batch.ImportThroughputListener;
+import com.recipe.batch.MappedCsvItemReader;
+import com.recipe.batch.RecipeDeltaProcessor;
+import com.recipe.batch.RecipeDeltaWriter;
+import com.recipe.batch.RecipeIndexRefreshListener;
+import com.recipe.batch.RecipeRowProcessor;
+import com.recipe.domain.entity.Recipe;
+import com.recipe.service.RecipeCardCache;
+import com.recipe.service.RecipeIngredientService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 레시피 CSV 증분 적재 Job (다시 실행해도 중복 없음)
+ * 원본 RCP_SNO를 SRC_RCP_SNO(유니크)로 보관하고 행 내용 해시(SRC_HASH)가 바뀐 행만 INSERT ... ON DUPLICATE KEY UPDATE
+ * 실패 후 같은 Job 파라미터로 다시 실행하면 마지막으로 커밋된 청크 다음 줄부터 재개 (리더 위치는 Step ExecutionContext에 저장)
+ * 새 실행은 RunIdIncrementer로 run.id를 올림 (재개/새 실행 선택은 RecipeDeltaImportScheduler)
+ * 전체 적재 Job(importRecipeJob, recipeDataMigrationJob, recipeParallelImportJob)으로 넣은 레시피는 SRC_RCP_SNO가 없어
+ * 같은 레시피가 한 번 더 들어가므로, 그런 행이 있으면 RecipeDeltaImportScheduler가 실행을 거부
+ */
+@Configuration
+@RequiredArgsConstructor
+public class DeltaImportBatchConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final RecipeIngredientService recipeIngredientService;
+    private final RecipeCardCache recipeCardCache;
+    private final RecipeIndexRefreshListener recipeIndexRefreshListener;
+    private final ImportThroughputListener importThroughputListener;
+    private final ItemProcessor<String[], Recipe> recipeItemProcessor;
+
+    @Value("${recipe.import.csv:classpath:data/recipe_data_241226.csv}")
+    private String csvLocation;
+
+    @Value("${recipe.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Bean
+    public Job recipeDeltaImportJob() {
+        return new JobBuilder("recipeDeltaImportJob", jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(recipeDeltaImportStep())
+                .listener(recipeIndexRefreshListener)
+                .build();
+    }
+
+    @Bean
+    public Step recipeDeltaImportStep() {
+        return new StepBuilder("recipeDeltaImportStep", jobRepository)
+                .<String[], Recipe>chunk(chunkSize, transactionManager)
+                .reader(recipeDeltaReader())
+                .processor(new RecipeDeltaProcessor(recipeItemProcessor))
+                .writer(recipeDeltaWriter())
+                .listener(importThroughputListener)
+                .build();
+    }
+
+    // 이름(name)이 ExecutionContext 키 접두어 - 재시작 시 읽은 레코드 수만큼 건너뜀
+    @Bean
+    @StepScope
+    public MappedCsvItemReader recipeDeltaReader() {
+        return new MappedCsvItemReader("recipeDeltaReader", new DefaultResourceLoader().getResource(csvLocation),
+                0, -1, 1, RecipeRowProcessor.COLUMN_COUNT);
+    }
+
+    // Step마다 새 인스턴스 (건수 집계를 StepExecution에 기록)
+    @Bean
+    @StepScope
+    public RecipeDeltaWriter recipeDeltaWriter() {
+        return new RecipeDeltaWriter(jdbcTemplate, namedParameterJdbcTemplate, recipeIngredientService, recipeCardCache);
+    }
+}
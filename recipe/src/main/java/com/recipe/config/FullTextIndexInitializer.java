@@ -0,0 +1,60 @@
+package com.recipe.config;
+
+import com.recipe.service.SearchMode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 방식이 FULLTEXT일 때 RECIPES 테이블에 FULLTEXT 인덱스 생성
+ * (ddl-auto: update는 FULLTEXT 인덱스를 만들지 않으므로 직접 생성)
+ *
+ * MariaDB에는 ngram 파서가 없어 기본 파서(공백/구두점 기준)를 사용하고, MySQL이면 ngram 파서를 사용한다.
+ * MariaDB는 한글 2글자 단어가 색인되도록 innodb_ft_min_token_size를 1로 설정해야 한다. (docker-compose.yml 참고)
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class FullTextIndexInitializer {
+
+    public static final String INDEX_NAME = "FT_RECIPE_SEARCH";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${recipe.search.mode:LIKE}")
+    private SearchMode searchMode;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexIfAbsent() {
+        if (searchMode != SearchMode.FULLTEXT) {
+            return;
+        }
+
+        try {
+            Integer exists = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.STATISTICS " +
+                    "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'recipes' AND INDEX_NAME = ?",
+                    Integer.class, INDEX_NAME);
+            if (exists != null && exists > 0) {
+                log.info("FULLTEXT 인덱스 확인 완료 - {}", INDEX_NAME);
+                return;
+            }
+
+            String version = jdbcTemplate.queryForObject("SELECT VERSION()", String.class);
+            boolean mariaDb = version != null && version.toLowerCase().contains("mariadb");
+            String parser = mariaDb ? "" : " WITH PARSER ngram";
+
+            log.info("FULLTEXT 인덱스 생성 시작 - {} (DB: {})", INDEX_NAME, version);
+            long start = System.currentTimeMillis();
+            jdbcTemplate.execute("ALTER TABLE recipes ADD FULLTEXT INDEX " + INDEX_NAME +
+                    " (RCP_TTL, CKG_NM, CKG_MTRL_CN)" + parser);
+            log.info("FULLTEXT 인덱스 생성 완료 - {}ms", System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("FULLTEXT 인덱스 생성 실패 - 검색이 느리거나 실패할 수 있습니다.", e);
+        }
+    }
+}
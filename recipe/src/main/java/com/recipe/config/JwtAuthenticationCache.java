@@ -0,0 +1,99 @@
+package com.recipe.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증이 끝난 JWT → Authentication 캐시
+ * 같은 토큰은 노드당 한 번만 서명 검증/클레임 파싱하고, 이후 요청은 만들어 둔 Authentication을 그대로 사용
+ * 키는 토큰 원문 대신 SHA-256 해시, 항목은 토큰 만료 시각(exp)에 맞춰 제거
+ * 적중률은 /actuator/metrics/cache.gets?tag=cache:jwtAuthentication 으로 확인
+ */
+@Component
+@Log4j2
+public class JwtAuthenticationCache {
+
+    private static final String CACHE_NAME = "jwtAuthentication";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Cache<String, CachedAuthentication> cache;
+
+    public JwtAuthenticationCache(JwtTokenProvider jwtTokenProvider,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${recipe.jwt-cache.max-size:10000}") long maxSize) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, CachedAuthentication>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+                        long remainingMillis = value.expiresAtMillis - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 토큰으로 인증 정보 조회 (유효하지 않으면 null, 실패 결과는 캐시하지 않음)
+     */
+    public Authentication authenticate(String token) {
+        String key = hash(token);
+        CachedAuthentication cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached.authentication;
+        }
+
+        Claims claims = jwtTokenProvider.parseValidClaims(token);
+        if (claims == null) {
+            return null;
+        }
+        Authentication authentication = jwtTokenProvider.createAuthentication(claims, token);
+        if (claims.getExpiration() != null) {
+            cache.put(key, new CachedAuthentication(authentication, claims.getExpiration().getTime()));
+        }
+        return authentication;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    @AllArgsConstructor
+    private static class CachedAuthentication {
+        private final Authentication authentication;
+        private final long expiresAtMillis;
+    }
+}
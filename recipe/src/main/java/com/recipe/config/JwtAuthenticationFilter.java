@@ -21,6 +21,7 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -28,8 +29,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // Request Header 토큰 추출
         String token = jwtTokenProvider.resolveToken(request);
 
-        if(StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
+        // 검증/파싱은 토큰당 한 번 (이후에는 캐시된 Authentication 사용)
+        Authentication authentication = StringUtils.hasText(token) ? jwtAuthenticationCache.authenticate(token) : null;
+
+        if(authentication != null) {
             SecurityContextHolder.getContext().setAuthentication(authentication);
             log.info("{} - 인증 정보 설정 완료", authentication.getName());
         }else{
@@ -78,7 +78,11 @@ public class JwtTokenProvider {
                 .build()
                 .parseClaimsJws(token)
                 .getBody();
+        return createAuthentication(claims, token);
+    }
 
+    //검증된 클레임으로 인증 정보 생성 (JwtAuthenticationCache에서 파싱 결과 재사용)
+    public Authentication createAuthentication(Claims claims, String token) {
         //클레임에서 권한 정보 추출
         Collection<? extends GrantedAuthority> authorities =
                 Arrays.stream(claims.get("auth").toString().split(","))
@@ -100,9 +104,13 @@ public class JwtTokenProvider {
 
     //토큰 유효성 검증
     public boolean validateToken(String token) {
+        return parseValidClaims(token) != null;
+    }
+
+    //서명 검증 + 클레임 파싱 (유효하지 않으면 null)
+    public Claims parseValidClaims(String token) {
         try{
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("잘못된 JWT 서명입니다.");
         } catch (ExpiredJwtException e) {
@@ -112,7 +120,7 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.info("JWT 토큰이 잘못되었습니다.");
         }
-        return false;
+        return null;
     }
 
     //Request Header 토큰 정보 추출
@@ -0,0 +1,80 @@
+package com.recipe.config;
+
+import com.recipe.service.RecipeCardCache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JpaPagingItemReader;
+import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Map;
+
+/**
+ * 좋아요 수(RCMM_CNT) 보정 Job
+ * 레시피 번호 순으로 1000건씩 LIKES를 다시 세어 RCMM_CNT에 반영 (평소에는 좋아요 시 ±1로 유지)
+ */
+@Log4j2
+@RequiredArgsConstructor
+@Configuration
+public class LikeCountReconcileBatchConfig {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private static final String RECONCILE_SQL =
+            "UPDATE recipes r " +
+            "LEFT JOIN (SELECT RCP_SNO, COUNT(*) AS CNT FROM likes WHERE RCP_SNO IN (:ids) GROUP BY RCP_SNO) l " +
+            "ON l.RCP_SNO = r.RCP_SNO " +
+            "SET r.RCMM_CNT = COALESCE(l.CNT, 0) " +
+            "WHERE r.RCP_SNO IN (:ids)";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManagerFactory entityManagerFactory;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final RecipeCardCache recipeCardCache;
+
+    @Bean
+    public Job likeCountReconcileJob() {
+        return new JobBuilder("likeCountReconcileJob", jobRepository)
+                .start(likeCountReconcileStep())
+                .build();
+    }
+
+    @Bean
+    public Step likeCountReconcileStep() {
+        return new StepBuilder("likeCountReconcileStep", jobRepository)
+                .<Long, Long>chunk(CHUNK_SIZE, transactionManager)
+                .reader(likeCountReconcileReader())
+                .writer(likeCountReconcileWriter())
+                .build();
+    }
+
+    @Bean
+    public JpaPagingItemReader<Long> likeCountReconcileReader() {
+        return new JpaPagingItemReaderBuilder<Long>()
+                .name("likeCountReconcileReader")
+                .entityManagerFactory(entityManagerFactory)
+                .queryString("SELECT r.rcpSno FROM Recipe r ORDER BY r.rcpSno")
+                .pageSize(CHUNK_SIZE)
+                .build();
+    }
+
+    @Bean
+    public ItemWriter<Long> likeCountReconcileWriter() {
+        return chunk -> {
+            int updated = namedParameterJdbcTemplate.update(RECONCILE_SQL, Map.of("ids", chunk.getItems()));
+            recipeCardCache.evictAfterCommit(chunk.getItems());
+            log.info("좋아요 수 보정 - {}건 중 {}건 변경", chunk.size(), updated);
+        };
+    }
+}
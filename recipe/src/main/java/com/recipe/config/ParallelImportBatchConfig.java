@@ -0,0 +1,230 @@
+package com.recipe.config;
+
+import com.recipe.batch.CsvByteRangePartitioner;
+import com.recipe.batch.ImportThroughputListener;
+import com.recipe.batch.MappedCsvItemReader;
+import com.recipe.batch.RecipeIndexRefreshListener;
+import com.recipe.batch.RecipeRowProcessor;
+import com.recipe.domain.entity.Recipe;
+import com.recipe.service.RecipeIngredientService;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.partition.support.TaskExecutorPartitionHandler;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.item.database.JpaPagingItemReader;
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
+import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.sql.Types;
+import java.util.Map;
+
+/**
+ * 레시피 CSV 병렬 적재 Job
+ * CSV를 바이트 구간으로 나눠(CsvByteRangePartitioner) 구간마다 스레드 하나가 읽기 → 변환 → JDBC 배치 INSERT
+ * Recipe가 IDENTITY라 JPA로는 INSERT를 묶을 수 없어 JdbcBatchItemWriter로 청크를 한 번에 전송
+ * 생성된 RCP_SNO를 받지 않으므로 재료 연결은 적재 후 새 레시피(시작 시점 MAX(RCP_SNO) 이후)만 따로 처리
+ * 기존 recipeDataMigrationJob(단일 스레드, JPA)과 CSV 형식/변환 로직 동일
+ */
+@Log4j2
+@Configuration
+public class ParallelImportBatchConfig {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO recipes (RCP_TTL, CKG_NM, INQ_CNT, RCMM_CNT, CKG_MTH_ACTO_NM, CKG_MTRL_ACTO_NM, " +
+            "CKG_KND_ACTO_NM, CKG_MTRL_CN, CKG_INBUN_NM, CKG_DODF_NM, CKG_TIME_NM, FIRST_REG_DT, RCP_IMG_URL) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, COALESCE(?, NOW()), ?)";
+
+    // 적재 시작 전 마지막 레시피 번호 (이후 번호만 재료 연결)
+    private static final String FROM_RCP_SNO = "importFromRcpSno";
+
+    private static final int LINK_CHUNK_SIZE = 500;
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManagerFactory entityManagerFactory;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final RecipeIndexRefreshListener recipeIndexRefreshListener;
+    private final ImportThroughputListener importThroughputListener;
+    private final RecipeIngredientService recipeIngredientService;
+    private final ItemProcessor<String[], Recipe> recipeItemProcessor;
+    private final String csvLocation;
+    private final int gridSize;
+    private final int chunkSize;
+
+    public ParallelImportBatchConfig(JobRepository jobRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     EntityManagerFactory entityManagerFactory,
+                                     DataSource dataSource,
+                                     JdbcTemplate jdbcTemplate,
+                                     RecipeIndexRefreshListener recipeIndexRefreshListener,
+                                     ImportThroughputListener importThroughputListener,
+                                     RecipeIngredientService recipeIngredientService,
+                                     ItemProcessor<String[], Recipe> recipeItemProcessor,
+                                     @Value("${recipe.import.csv:classpath:data/recipe_data_241226.csv}") String csvLocation,
+                                     @Value("${recipe.import.grid-size:4}") int gridSize,
+                                     @Value("${recipe.import.chunk-size:1000}") int chunkSize) {
+        this.jobRepository = jobRepository;
+        this.transactionManager = transactionManager;
+        this.entityManagerFactory = entityManagerFactory;
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.recipeIndexRefreshListener = recipeIndexRefreshListener;
+        this.importThroughputListener = importThroughputListener;
+        this.recipeIngredientService = recipeIngredientService;
+        this.recipeItemProcessor = recipeItemProcessor;
+        this.csvLocation = csvLocation;
+        this.gridSize = gridSize;
+        this.chunkSize = chunkSize;
+    }
+
+    @Bean
+    public Job recipeParallelImportJob() {
+        return new JobBuilder("recipeParallelImportJob", jobRepository)
+                .start(recipeParallelImportStep())
+                .next(recipeImportLinkStep())
+                .listener(importStartListener())
+                .listener(recipeIndexRefreshListener)
+                .build();
+    }
+
+    @Bean
+    public JobExecutionListener importStartListener() {
+        return new JobExecutionListener() {
+            @Override
+            public void beforeJob(JobExecution jobExecution) {
+                // 재시작이면 첫 실행 때 저장한 값 유지 (이전 실행에서 적재된 레시피도 연결 대상)
+                if (jobExecution.getExecutionContext().containsKey(FROM_RCP_SNO)) {
+                    return;
+                }
+                Long maxRcpSno = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(RCP_SNO), 0) FROM recipes", Long.class);
+                jobExecution.getExecutionContext().putLong(FROM_RCP_SNO, maxRcpSno != null ? maxRcpSno : 0L);
+            }
+        };
+    }
+
+    // 매니저 Step - 구간을 나눠 워커 Step을 스레드 풀에서 동시에 실행
+    @Bean
+    public Step recipeParallelImportStep() {
+        return new StepBuilder("recipeParallelImportStep", jobRepository)
+                .partitioner("recipeImportWorkerStep", recipeCsvPartitioner())
+                .partitionHandler(recipeImportPartitionHandler())
+                .listener(importThroughputListener)
+                .build();
+    }
+
+    @Bean
+    public CsvByteRangePartitioner recipeCsvPartitioner() {
+        return new CsvByteRangePartitioner(new DefaultResourceLoader().getResource(csvLocation));
+    }
+
+    @Bean
+    public TaskExecutorPartitionHandler recipeImportPartitionHandler() {
+        TaskExecutorPartitionHandler handler = new TaskExecutorPartitionHandler();
+        handler.setStep(recipeImportWorkerStep());
+        // 스레드 수 = 구간 수 (각 스레드가 청크마다 커넥션 1개 사용 → Hikari 풀 크기보다 작게)
+        // Executor 빈으로 등록하면 Spring Boot 기본 applicationTaskExecutor가 빠지므로 핸들러 안에서만 사용
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("recipe-import-");
+        executor.setConcurrencyLimit(gridSize);
+        handler.setTaskExecutor(executor);
+        handler.setGridSize(gridSize);
+        return handler;
+    }
+
+    @Bean
+    public Step recipeImportWorkerStep() {
+        return new StepBuilder("recipeImportWorkerStep", jobRepository)
+                .<String[], Recipe>chunk(chunkSize, transactionManager)
+                .reader(recipeRangeReader(null, null, null))
+                .processor(recipeItemProcessor)
+                .writer(recipeJdbcWriter())
+                .build();
+    }
+
+    // 구간마다 별도 인스턴스 (재시작 시 구간별로 마지막 커밋 이후부터 읽음)
+    @Bean
+    @StepScope
+    public MappedCsvItemReader recipeRangeReader(
+            @Value("#{stepExecutionContext['" + CsvByteRangePartitioner.FILE + "']}") String file,
+            @Value("#{stepExecutionContext['" + CsvByteRangePartitioner.START + "']}") Long start,
+            @Value("#{stepExecutionContext['" + CsvByteRangePartitioner.END + "']}") Long end) {
+        return new MappedCsvItemReader("recipeRangeReader", new FileSystemResource(file),
+                start, end, 0, RecipeRowProcessor.COLUMN_COUNT);
+    }
+
+    // 청크 전체를 한 번의 JDBC 배치로 전송 (MariaDB 드라이버가 배치를 묶어 한 번에 보냄)
+    @Bean
+    public JdbcBatchItemWriter<Recipe> recipeJdbcWriter() {
+        return new JdbcBatchItemWriterBuilder<Recipe>()
+                .dataSource(dataSource)
+                .sql(INSERT_SQL)
+                .itemPreparedStatementSetter((recipe, ps) -> {
+                    ps.setString(1, recipe.getRcpTtl());
+                    ps.setString(2, recipe.getCkgNm());
+                    ps.setInt(3, recipe.getInqCnt() != null ? recipe.getInqCnt() : 0);
+                    ps.setInt(4, recipe.getRcmmCnt() != null ? recipe.getRcmmCnt() : 0);
+                    ps.setString(5, recipe.getCkgMthActoNm());
+                    ps.setString(6, recipe.getCkgMtrlActoNm());
+                    ps.setString(7, recipe.getCkgKndActoNm());
+                    ps.setString(8, recipe.getCkgMtrlCn());
+                    ps.setString(9, recipe.getCkgInbunNm());
+                    ps.setString(10, recipe.getCkgDodfNm());
+                    ps.setString(11, recipe.getCkgTimeNm());
+                    ps.setObject(12, recipe.getFirstRegDt(), Types.TIMESTAMP);
+                    ps.setString(13, recipe.getRcpImgUrl());
+                })
+                // 드라이버가 배치 결과 건수를 주지 않을 수 있음 (SUCCESS_NO_INFO)
+                .assertUpdates(false)
+                .build();
+    }
+
+    // 이번에 적재된 레시피만 재료 연결
+    @Bean
+    public Step recipeImportLinkStep() {
+        return new StepBuilder("recipeImportLinkStep", jobRepository)
+                .<Recipe, Recipe>chunk(LINK_CHUNK_SIZE, transactionManager)
+                .reader(recipeImportLinkReader(null))
+                .writer(recipeImportLinkWriter())
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public JpaPagingItemReader<Recipe> recipeImportLinkReader(
+            @Value("#{jobExecutionContext['" + FROM_RCP_SNO + "']}") Long fromRcpSno) {
+        return new JpaPagingItemReaderBuilder<Recipe>()
+                .name("recipeImportLinkReader")
+                .entityManagerFactory(entityManagerFactory)
+                .queryString("SELECT r FROM Recipe r WHERE r.rcpSno > :from ORDER BY r.rcpSno")
+                .parameterValues(Map.of("from", fromRcpSno != null ? fromRcpSno : 0L))
+                .pageSize(LINK_CHUNK_SIZE)
+                .build();
+    }
+
+    @Bean
+    public ItemWriter<Recipe> recipeImportLinkWriter() {
+        return chunk -> {
+            recipeIngredientService.linkAll(chunk.getItems());
+            log.debug("적재 레시피 재료 연결 - {}건", chunk.size());
+        };
+    }
+}
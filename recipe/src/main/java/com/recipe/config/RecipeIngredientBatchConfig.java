@@ -0,0 +1,84 @@
+package com.recipe.config;
+
+import com.recipe.batch.RecipeIndexRefreshListener;
+import com.recipe.domain.entity.Recipe;
+import com.recipe.service.RecipeIngredientService;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JpaPagingItemReader;
+import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 기존 레시피 재료 연결 백필 Job
+ * 전체 레시피의 CKG_MTRL_CN을 파싱해 INGREDIENT_DICTIONARY / RECIPE_INGREDIENT 채움 (다시 실행해도 결과 동일)
+ * 완료되면 재료 검색/냉장고 추천이 연결 테이블 조인으로 전환됨 (RecipeIngredientService.isLinked)
+ */
+@Log4j2
+@RequiredArgsConstructor
+@Configuration
+public class RecipeIngredientBatchConfig {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManagerFactory entityManagerFactory;
+    private final RecipeIngredientService recipeIngredientService;
+    private final RecipeIndexRefreshListener recipeIndexRefreshListener;
+
+    @Bean
+    public Job recipeIngredientBackfillJob() {
+        return new JobBuilder(RecipeIngredientService.BACKFILL_JOB_NAME, jobRepository)
+                .start(recipeIngredientBackfillStep())
+                .listener(recipeIndexRefreshListener)
+                .listener(new JobExecutionListener() {
+                    @Override
+                    public void afterJob(JobExecution jobExecution) {
+                        if (jobExecution.getStatus() == BatchStatus.COMPLETED) {
+                            recipeIngredientService.markLinked();
+                        }
+                    }
+                })
+                .build();
+    }
+
+    @Bean
+    public Step recipeIngredientBackfillStep() {
+        return new StepBuilder("recipeIngredientBackfillStep", jobRepository)
+                .<Recipe, Recipe>chunk(CHUNK_SIZE, transactionManager)
+                .reader(recipeIngredientBackfillReader())
+                .writer(recipeIngredientBackfillWriter())
+                .build();
+    }
+
+    @Bean
+    public JpaPagingItemReader<Recipe> recipeIngredientBackfillReader() {
+        return new JpaPagingItemReaderBuilder<Recipe>()
+                .name("recipeIngredientBackfillReader")
+                .entityManagerFactory(entityManagerFactory)
+                .queryString("SELECT r FROM Recipe r ORDER BY r.rcpSno")
+                .pageSize(CHUNK_SIZE)
+                .build();
+    }
+
+    @Bean
+    public ItemWriter<Recipe> recipeIngredientBackfillWriter() {
+        return chunk -> {
+            recipeIngredientService.linkAll(chunk.getItems());
+            log.info("재료 연결 백필 - {}건", chunk.size());
+        };
+    }
+}
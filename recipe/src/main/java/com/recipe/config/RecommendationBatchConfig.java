@@ -0,0 +1,107 @@
+package com.recipe.config;
+
+import com.recipe.algorithm.RecipeRecommendAlgorithm;
+import com.recipe.algorithm.TopKSelector;
+import com.recipe.service.RecommendationStore;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JpaPagingItemReader;
+import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 개인화 추천 미리 계산 Job
+ * 최근 활동(USER_REFERENCE)이 있는 사용자별로 상위 N개 추천을 계산해 Redis ZSET에 저장
+ */
+@Log4j2
+@RequiredArgsConstructor
+@Configuration
+public class RecommendationBatchConfig {
+
+    private static final int CHUNK_SIZE = 100;
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManagerFactory entityManagerFactory;
+    private final RecipeRecommendAlgorithm recommendAlgorithm;
+    private final RecommendationStore recommendationStore;
+
+    @Value("${recipe.recommend.top-n:100}")
+    private int topN;
+
+    @Bean
+    public Job recommendationMaterializeJob() {
+        return new JobBuilder("recommendationMaterializeJob", jobRepository)
+                .start(recommendationMaterializeStep())
+                .build();
+    }
+
+    @Bean
+    public Step recommendationMaterializeStep() {
+        return new StepBuilder("recommendationMaterializeStep", jobRepository)
+                .<Long, UserRecommendation>chunk(CHUNK_SIZE, transactionManager)
+                .reader(activeUserReader(null))
+                .processor(userRecommendationProcessor())
+                .writer(userRecommendationWriter())
+                .build();
+    }
+
+    // activeSince 이후 선호 기록이 있는 사용자 번호 (사용자 번호 순 페이징)
+    @Bean
+    @StepScope
+    public JpaPagingItemReader<Long> activeUserReader(
+            @Value("#{jobParameters['activeSince']}") LocalDateTime activeSince) {
+        return new JpaPagingItemReaderBuilder<Long>()
+                .name("activeUserReader")
+                .entityManagerFactory(entityManagerFactory)
+                .queryString("SELECT DISTINCT ur.user.userId FROM UserReferences ur " +
+                        "WHERE ur.modifiedDate >= :activeSince ORDER BY ur.user.userId")
+                .parameterValues(Map.of("activeSince", activeSince))
+                .pageSize(CHUNK_SIZE)
+                .build();
+    }
+
+    @Bean
+    public ItemProcessor<Long, UserRecommendation> userRecommendationProcessor() {
+        return userId -> {
+            TopKSelector selector = recommendAlgorithm.selectTopK(userId, topN);
+            return new UserRecommendation(userId, selector);
+        };
+    }
+
+    @Bean
+    public ItemWriter<UserRecommendation> userRecommendationWriter() {
+        return chunk -> {
+            Instant generatedAt = Instant.now();
+            for (UserRecommendation item : chunk) {
+                recommendationStore.save(item.getUserId(), item.getSelector(), generatedAt);
+            }
+            log.info("추천 결과 저장 - {}명", chunk.size());
+        };
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class UserRecommendation {
+        private final Long userId;
+        private final TopKSelector selector;
+    }
+}
@@ -0,0 +1,50 @@
+package com.recipe.config;
+
+import com.recipe.algorithm.IngredientIndex;
+import com.recipe.search.RecipeSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 레시피 검색 인덱스 전체 재구성 Job
+ * 새 인덱스를 다 만든 뒤 교체하므로 재구성 중에도 기존 인덱스로 검색 가능
+ */
+@Log4j2
+@RequiredArgsConstructor
+@Configuration
+public class SearchIndexBatchConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final IngredientIndex ingredientIndex;
+    private final RecipeSearchIndex recipeSearchIndex;
+
+    @Bean
+    public Job recipeSearchReindexJob() {
+        return new JobBuilder("recipeSearchReindexJob", jobRepository)
+                .start(recipeSearchReindexStep())
+                .build();
+    }
+
+    @Bean
+    public Step recipeSearchReindexStep() {
+        return new StepBuilder("recipeSearchReindexStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    ingredientIndex.rebuild();
+                    int count = recipeSearchIndex.rebuild();
+                    contribution.incrementWriteCount(count);
+                    log.info("레시피 검색 인덱스 재구성 - {}건", count);
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .build();
+    }
+}
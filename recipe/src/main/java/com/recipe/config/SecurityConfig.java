@@ -2,6 +2,7 @@ package com.recipe.config;
 
 import com.recipe.config.JwtAuthenticationFilter;
 import com.recipe.config.JwtTokenProvider;
+import com.recipe.domain.entity.enums.Role;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -32,6 +33,7 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
     
     @Value("${front.url}")
     private String frontUrl;
@@ -54,7 +56,7 @@ public class SecurityConfig {
         corsConfiguration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH"));  // PATCH 추가
         corsConfiguration.setAllowedHeaders(List.of("*"));
         corsConfiguration.setAllowCredentials(true);
-        corsConfiguration.setExposedHeaders(Arrays.asList("Authorization", "Refresh-Token"));
+        corsConfiguration.setExposedHeaders(Arrays.asList("Authorization", "Refresh-Token", "X-Recommendation-Generated-At", "X-Total-Count", "ETag"));
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", corsConfiguration);
@@ -94,11 +96,16 @@ public class SecurityConfig {
                                 .requestMatchers(HttpMethod.GET, "/api/search/**").permitAll()
                                 .requestMatchers(HttpMethod.GET, "/api/recipes/**").permitAll()
                                 .requestMatchers(HttpMethod.GET, "/api/details/**").permitAll()
+                                .requestMatchers(HttpMethod.POST, "/api/details/state").permitAll()
                                 
                                 // 개발/테스트용
                                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
                                 .requestMatchers("/api/admin/**", "/batch/**").permitAll()
                                 .requestMatchers("/test/**").permitAll()
+
+                                // 운영 지표(캐시 적중률 등)는 관리자만, 상태 확인(health)은 공개 (상세 정보는 노출 안 함)
+                                .requestMatchers("/actuator/health").permitAll()
+                                .requestMatchers("/actuator/**").hasRole(Role.ADMIN.name())
                                 
                                 // ⭐ 인증 필요 API - /user/** 추가
                                 .requestMatchers("/user/**").authenticated()  // 추가!
@@ -117,7 +124,7 @@ public class SecurityConfig {
                                 // 나머지 요청은 인증 필요
                                 .anyRequest().authenticated()
                 )
-                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, jwtAuthenticationCache), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
@@ -1,41 +1,40 @@
 package com.recipe.config;
 
+import com.recipe.batch.MappedCsvItemReader;
+import com.recipe.batch.RecipeIndexRefreshListener;
+import com.recipe.batch.RecipeRowProcessor;
 import com.recipe.domain.entity.Recipe;
+import com.recipe.service.RecipeIngredientService;
 import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.log4j.Log4j2;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.database.JpaItemWriter;
-import org.springframework.batch.item.file.FlatFileItemReader;
-import org.springframework.batch.item.file.mapping.BeanWrapperFieldSetMapper;
-import org.springframework.batch.item.file.mapping.DefaultLineMapper;
-import org.springframework.batch.item.file.transform.DelimitedLineTokenizer;
-import org.springframework.batch.item.file.transform.FieldSet;
+import org.springframework.batch.item.support.builder.CompositeItemWriterBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.transaction.PlatformTransactionManager;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-
-@Log4j2
 @RequiredArgsConstructor
 @Configuration
 public class SingleBatchConfig {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final EntityManagerFactory entityManagerFactory;
+    private final RecipeIndexRefreshListener recipeIndexRefreshListener;
+    private final RecipeIngredientService recipeIngredientService;
 
     @Bean
     public Job recipeDataMigrationJob() {
         return new JobBuilder("recipeDataMigrationJob", jobRepository)
                 .start(recipeDataMigrationStep())
+                .listener(recipeIndexRefreshListener)
                 .build();
     }
 
@@ -46,92 +45,40 @@ public class SingleBatchConfig {
         // Chunk 지향 처리: String[] (Reader 출력) -> Recipe (Writer 입력)
                 .reader(recipeCsvReader())
                 .processor(recipeItemProcessor()) // Reader에서 읽은 String[]을 Recipe 엔티티로 변환
-                .writer(recipeDbWriter())
+                .writer(new CompositeItemWriterBuilder<Recipe>()
+                        .delegates(recipeDbWriter(), recipeIngredientLinkWriter())
+                        .build())
                 .build();
     }
 
+    // 메모리 매핑 + 바이트 단위 분리 (줄 String, FieldSet, BeanWrapper 변환 없음)
     @Bean
-    public FlatFileItemReader<String[]>  recipeCsvReader() {
-        FlatFileItemReader<String[]> reader = new FlatFileItemReader<>();
-        reader.setResource(new ClassPathResource("data/recipe_data_241226.csv"));
-        reader.setEncoding("UTF-8");
-        reader.setLinesToSkip(1);
-
-        DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer();
-        tokenizer.setNames(new String[]{
-                "RCP_SNO", "RCP_TTL", "CKG_NM", "RGTR_ID", "RGTR_NM", "INQ_CNT", "RCMM_CNT", "SRAP_CNT",
-                "CKG_MTH_ACTO_NM", "CKG_STA_ACTO_NM", "CKG_MTRL_ACTO_NM", "CKG_KND_ACTO_NM", "CKG_IPDC",
-                "CKG_MTRL_CN", "CKG_INBUN_NM", "CKG_DODF_NM", "CKG_TIME_NM", "FIRST_REG_DT", "RCP_IMG_URL"
-        });
-
-        reader.setLineMapper(new DefaultLineMapper<String[]>(){{
-            setLineTokenizer(tokenizer);
-            setFieldSetMapper(new BeanWrapperFieldSetMapper<String[]>(){
-                @Override
-                public String[] mapFieldSet(FieldSet fieldSet) {
-                    return fieldSet.getValues(); // 필드셋을 String 배열로 직접 반환
-                }
-            });
-        }});
-
-        return reader;
+    public MappedCsvItemReader recipeCsvReader() {
+        return new MappedCsvItemReader("recipeCsvReader", new ClassPathResource("data/recipe_data_241226.csv"),
+                0, -1, 1, RecipeRowProcessor.COLUMN_COUNT);
     }
 
     // ItemProcessor 정의 (CSV 데이터 가공 및 엔티티 변환)
-    // String[] 타입으로 읽은 CSV 데이터를 Recipe 엔티티로 변환
-    // FIRST_REG_DT 파싱 로직 추가.
+    // String[] 타입으로 읽은 CSV 데이터를 Recipe 엔티티로 변환 (병렬/증분 적재 Job과 공용)
     @Bean
     public ItemProcessor<String[], Recipe> recipeItemProcessor() {
-        return item-> {
-            Recipe recipe =  new Recipe();
-            recipe.setRcpTtl(item[1]);
-            recipe.setCkgNm(item[2]);
-            recipe.setInqCnt(item[5] != null && !item[5].isEmpty() ? Integer.valueOf(item[5]) : 0);
-            recipe.setRcmmCnt(item[6] != null && !item[6].isEmpty() ? Integer.valueOf(item[6]) : 0);
-            recipe.setCkgMthActoNm(item[8]);
-            recipe.setCkgMtrlActoNm(item[10]);
-            recipe.setCkgKndActoNm(item[11]);
-
-
-            String rawIngredients = item[13];
-            String ingredients = rawIngredients.trim()
-                    .replaceAll("^\\[.+?]\\s*", "")
-                    //CSV 파일에 공백이 로 되어 공백으로 바꿈 Window Local용
-//                    .replaceAll("\u0007", " ")
-                    //CSV 파일에 공백으 로 되어 공백으로 바꿈
-                    .replaceAll("\\s(\\d+)\\s", "_$1")
-                    .replaceAll("\\s*\\|\\s", "/")
-                    .replaceAll(" ", "");
-
-            recipe.setCkgMtrlCn(ingredients);
-            log.info("변환된 재료들 >>> {}", ingredients);
-
-            recipe.setCkgInbunNm(item[14]);
-            recipe.setCkgDodfNm(item[15]);
-            recipe.setCkgTimeNm(item[16]);
-
-            if (item[17] != null && !item[17].isEmpty()) {
-                try {
-                    DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
-                    recipe.setFirstRegDt(LocalDateTime.parse(item[17], formatter));
-                } catch (Exception e) {
-                    log.warn("FIRST_REG_DT 파싱 오류: {}", item[17], e);
-                    recipe.setFirstRegDt(null); // 파싱 실패 시 null 또는 기본값 설정
-                }
-            }
-
-            recipe.setRcpImgUrl(item[18]); // RCP_IMG_URL
-
-            return recipe;
-        };
+        return new RecipeRowProcessor();
     }
 
     @Bean
     public JpaItemWriter<Recipe> recipeDbWriter() {
         JpaItemWriter<Recipe> writer = new JpaItemWriter<>();
         writer.setEntityManagerFactory(entityManagerFactory);
+        // merge 대신 persist → 저장 후 item에 RCP_SNO가 채워져 재료 연결에 사용
+        writer.setUsePersist(true);
         return writer;
     }
 
+    // 저장된 레시피의 재료를 RECIPE_INGREDIENT에 연결
+    @Bean
+    public ItemWriter<Recipe> recipeIngredientLinkWriter() {
+        return chunk -> recipeIngredientService.linkAll(chunk.getItems());
+    }
+
 }
 
@@ -0,0 +1,54 @@
+package com.recipe.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * USER_REFERENCE 테이블에 UQ_USER_REFERENCE (USER_ID, RCP_SNO, PREFERENCE_TYPE) 유니크 키 생성
+ * (ddl-auto: update는 중복 행이 있으면 키 추가에 실패하고 경고만 남기므로, 중복을 지운 뒤 직접 생성)
+ *
+ * 같은 (회원, 레시피, 선호 유형) 중 PREFERENCE_ID가 가장 작은 행만 남긴다.
+ * 키가 생긴 뒤에는 ViewHistoryWriter의 INSERT IGNORE가 중복을 막으므로 최초 1회만 실행된다.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class UserReferenceUniqueKeyInitializer {
+
+    public static final String KEY_NAME = "UQ_USER_REFERENCE";
+
+    private static final String DELETE_DUPLICATES_SQL =
+            "DELETE r1 FROM user_reference r1 JOIN user_reference r2 " +
+            "ON r1.USER_ID = r2.USER_ID AND r1.RCP_SNO = r2.RCP_SNO " +
+            "AND r1.PREFERENCE_TYPE = r2.PREFERENCE_TYPE AND r1.PREFERENCE_ID > r2.PREFERENCE_ID";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createKeyIfAbsent() {
+        try {
+            Integer exists = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.STATISTICS " +
+                    "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'user_reference' AND INDEX_NAME = ?",
+                    Integer.class, KEY_NAME);
+            if (exists != null && exists > 0) {
+                log.info("유니크 키 확인 완료 - {}", KEY_NAME);
+                return;
+            }
+
+            log.info("유니크 키 생성 시작 - {}", KEY_NAME);
+            long start = System.currentTimeMillis();
+            int deleted = jdbcTemplate.update(DELETE_DUPLICATES_SQL);
+            jdbcTemplate.execute("ALTER TABLE user_reference ADD CONSTRAINT " + KEY_NAME +
+                    " UNIQUE (USER_ID, RCP_SNO, PREFERENCE_TYPE)");
+            log.info("유니크 키 생성 완료 - 중복 {}건 삭제, {}ms", deleted, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            // 삭제와 키 추가 사이에 중복이 다시 들어온 경우 등 - 다음 기동 때 다시 시도
+            log.error("유니크 키 생성 실패 - 조회 기록이 중복 저장될 수 있습니다. ({})", KEY_NAME, e);
+        }
+    }
+}
@@ -1,17 +1,29 @@
 package com.recipe.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
+
+    // FileService / ImageController와 같은 업로드 디렉토리
+    @Value("${file.upload-dir:./uploads/images}")
+    private String uploadDir;
     
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         // ⭐ 경로 끝에 반드시 슬래시(/) 필요!
-        String imageLocation = "file:///C:/project/studio-recipe/recipe/uploads/images/";
+        String imageLocation = Paths.get(uploadDir).toAbsolutePath().normalize().toUri().toString();
+        if (!imageLocation.endsWith("/")) {
+            imageLocation += "/";
+        }
         
         System.out.println("========================================");
         System.out.println("WebConfig 정적 리소스 설정:");
@@ -23,7 +35,8 @@ public class WebConfig implements WebMvcConfigurer {
         registry
             .addResourceHandler("/images/**")
             .addResourceLocations(imageLocation)
-            .setCachePeriod(0);  // ⭐ 개발 중에는 캐시 비활성화
+            // 업로드 파일은 UUID 이름이라 바뀌지 않음 → 장기 캐시 (/images/{filename}은 ImageController가 처리)
+            .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable());
     }
     
     // ⭐ CORS 설정 (SecurityConfig와 중복될 수 있으므로 확인)
@@ -1,15 +1,21 @@
 package com.recipe.controller;
 
+import com.recipe.batch.RecipeDeltaImportScheduler;
+import com.recipe.batch.RecipeDeltaWriter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @RestController
@@ -19,6 +25,11 @@ public class BatchController {
     
     private final JobLauncher jobLauncher;
     private final Job importRecipeJob;
+    private final Job recipeSearchReindexJob;
+    private final Job recipeIngredientBackfillJob;
+    private final Job likeCountReconcileJob;
+    private final Job recipeParallelImportJob;
+    private final RecipeDeltaImportScheduler recipeDeltaImportScheduler;
     
     @PostMapping("/import-recipes")
     public ResponseEntity<String> importRecipes() {
@@ -34,4 +45,88 @@ public class BatchController {
                 .body("실패: " + e.getMessage());
         }
     }
+
+    // 구간 병렬 + JDBC 배치 적재 (처리량은 로그의 rows/s 참고)
+    @PostMapping("/import-recipes-parallel")
+    public ResponseEntity<String> importRecipesParallel() {
+        try {
+            JobParameters params = new JobParametersBuilder()
+                .addLocalDateTime("startTime", LocalDateTime.now())
+                .toJobParameters();
+
+            JobExecution execution = jobLauncher.run(recipeParallelImportJob, params);
+            return ResponseEntity.ok("CSV 병렬 임포트 " + execution.getStatus());
+        } catch (Exception e) {
+            return ResponseEntity.status(500)
+                .body("실패: " + e.getMessage());
+        }
+    }
+
+    // 증분 적재 (바뀐 행만 반영, 마지막 실행이 실패했으면 이어서 재개, 아니면 새로 실행)
+    @PostMapping("/import-recipes-delta")
+    public ResponseEntity<String> importRecipesDelta(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate runDate) {
+        JobExecution execution;
+        try {
+            execution = recipeDeltaImportScheduler.run(runDate != null ? runDate : LocalDate.now());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(409)
+                .body("실패: " + e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(500)
+                .body("실패: " + e.getMessage());
+        }
+        return ResponseEntity.ok("CSV 증분 임포트 " + execution.getStatus()
+            + " - " + execution.getStepExecutions().stream()
+                .map(step -> step.getExecutionContext())
+                .map(context -> "신규 " + context.getLong(RecipeDeltaWriter.INSERTED, 0L)
+                    + ", 변경 " + context.getLong(RecipeDeltaWriter.UPDATED, 0L)
+                    + ", 동일 " + context.getLong(RecipeDeltaWriter.UNCHANGED, 0L))
+                .findFirst().orElse(""));
+    }
+
+    @PostMapping("/reindex-search")
+    public ResponseEntity<String> reindexSearch() {
+        try {
+            JobParameters params = new JobParametersBuilder()
+                .addLocalDateTime("startTime", LocalDateTime.now())
+                .toJobParameters();
+
+            jobLauncher.run(recipeSearchReindexJob, params);
+            return ResponseEntity.ok("검색 인덱스 재구성 완료!");
+        } catch (Exception e) {
+            return ResponseEntity.status(500)
+                .body("실패: " + e.getMessage());
+        }
+    }
+
+    @PostMapping("/backfill-ingredients")
+    public ResponseEntity<String> backfillIngredients() {
+        try {
+            JobParameters params = new JobParametersBuilder()
+                .addLocalDateTime("startTime", LocalDateTime.now())
+                .toJobParameters();
+
+            jobLauncher.run(recipeIngredientBackfillJob, params);
+            return ResponseEntity.ok("재료 연결 백필 완료!");
+        } catch (Exception e) {
+            return ResponseEntity.status(500)
+                .body("실패: " + e.getMessage());
+        }
+    }
+
+    @PostMapping("/reconcile-like-counts")
+    public ResponseEntity<String> reconcileLikeCounts() {
+        try {
+            JobParameters params = new JobParametersBuilder()
+                .addLocalDateTime("startTime", LocalDateTime.now())
+                .toJobParameters();
+
+            jobLauncher.run(likeCountReconcileJob, params);
+            return ResponseEntity.ok("좋아요 수 보정 완료!");
+        } catch (Exception e) {
+            return ResponseEntity.status(500)
+                .body("실패: " + e.getMessage());
+        }
+    }
 }
\ No newline at end of file
@@ -1,58 +1,124 @@
 package com.recipe.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import com.recipe.service.ImageVariant;
+import com.recipe.storage.ImageStore;
+import com.recipe.storage.StoredImage;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 업로드 이미지 서빙 (ImageStore - 로컬 디렉토리 또는 S3 호환 저장소)
+ * 키가 내용 해시라 내용이 바뀌지 않으므로 1년 immutable 캐시 + 강한 ETag(키)/Last-Modified (조건부 GET은 304)
+ * Range 요청은 206, Range 없는 큰 로컬 파일은 Tomcat sendfile로 커널에서 바로 전송
+ * ?variant=card|detail 이면 크기별 파일, 아직 생성 전이면 원본 (이때는 no-cache로 나중에 크기별 파일로 교체)
+ */
 @RestController
 @Log4j2
 public class ImageController {
 
-    private static final String UPLOAD_DIR = "C:/project/studio-recipe/recipe/uploads/images/";
+    private static final CacheControl IMAGE_CACHE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+
+    // Tomcat sendfile 요청 속성 (DefaultServlet과 같은 방식, 커넥터가 지원할 때만 support 속성이 TRUE)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    // 작은 파일은 일반 스트림 복사가 더 빠름 (DefaultServlet 기본값과 동일)
+    private static final long SENDFILE_MIN_SIZE = 48 * 1024;
+
+    private final ImageStore imageStore;
+    // 확장자 → MIME 타입 (요청마다 probeContentType 호출하지 않음)
+    private final Map<String, MediaType> mediaTypes = new ConcurrentHashMap<>();
+
+    public ImageController(ImageStore imageStore) {
+        this.imageStore = imageStore;
+    }
 
-    // 원래대로 /images 경로 사용
     @GetMapping("/images/{filename:.+}")
-    public ResponseEntity<Resource> serveImage(@PathVariable String filename) {
-        log.info("========================================");
-        log.info("이미지 요청: {}", filename);
-        
-        try {
-            Path filePath = Paths.get(UPLOAD_DIR + filename);
-            Resource resource = new FileSystemResource(filePath);
-            
-            if (!resource.exists()) {
-                log.error("❌ 파일이 존재하지 않음: {}", filePath);
-                return ResponseEntity.notFound().build();
-            }
-            
-            // MIME 타입 자동 감지
-            String contentType = Files.probeContentType(filePath);
-            if (contentType == null) {
-                contentType = "application/octet-stream";
-            }
-            
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(contentType))
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + filename + "\"")
-                    .header(HttpHeaders.CACHE_CONTROL, "no-cache")
-                    .body(resource);
-                    
-        } catch (IOException e) {
-            log.error("❌ 에러 발생: {}", e.getMessage());
-            e.printStackTrace();
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    public ResponseEntity<Resource> serveImage(@PathVariable String filename,
+                                               @RequestParam(required = false) String variant,
+                                               HttpServletRequest request,
+                                               HttpServletResponse response) throws IOException {
+        // 경로 문자 없는 파일명만 허용 (../ 등 경로 이탈 차단)
+        if (!ImageStore.isValidKey(filename)) {
+            log.warn("허용되지 않는 이미지 경로: {}", filename);
+            return ResponseEntity.notFound().build();
+        }
+
+        ImageVariant requested = ImageVariant.from(variant);
+        Optional<StoredImage> found = imageStore.find(requested.keyOf(filename));
+        boolean fallback = false;
+        if (found.isEmpty() && requested != ImageVariant.ORIGINAL) {
+            // 크기별 파일 생성 전 → 원본
+            found = imageStore.find(filename);
+            fallback = true;
+        }
+        if (found.isEmpty()) {
+            log.debug("이미지 없음: {}", filename);
+            return ResponseEntity.notFound().build();
+        }
+
+        StoredImage image = found.get();
+        long length = image.getLength();
+        long lastModified = image.getLastModified();
+        // 키마다 내용이 고정이므로 키 자체가 강한 ETag
+        String etag = "\"" + image.getKey() + "\"";
+
+        // If-None-Match / If-Modified-Since가 맞으면 304 (응답 처리 완료)
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return null;
         }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(mediaType(filename));
+        headers.setCacheControl(fallback ? CacheControl.noCache() : IMAGE_CACHE);
+        headers.setETag(etag);
+        headers.setLastModified(lastModified);
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (image.getLocalPath() != null && canSendfile(request, length)) {
+            // 본문은 쓰지 않고 Tomcat이 응답 커밋 후 sendfile로 전송
+            request.setAttribute(SENDFILE_FILENAME, image.getLocalPath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, length);
+            headers.setContentLength(length);
+            return new ResponseEntity<>(headers, HttpStatus.OK);
+        }
+
+        // Range 요청(206), sendfile 미지원(HTTPS 등), S3 저장소면 Spring이 스트림으로 전송
+        return new ResponseEntity<>(image.getResource(), headers, HttpStatus.OK);
+    }
+
+    private MediaType mediaType(String filename) {
+        int dot = filename.lastIndexOf('.');
+        String extension = dot >= 0 ? filename.substring(dot + 1).toLowerCase() : "";
+        return mediaTypes.computeIfAbsent(extension, ext ->
+                MediaTypeFactory.getMediaType("image." + ext).orElse(MediaType.APPLICATION_OCTET_STREAM));
+    }
+
+    private static boolean canSendfile(HttpServletRequest request, long length) {
+        return Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))
+                && "GET".equals(request.getMethod())
+                && request.getHeader(HttpHeaders.RANGE) == null
+                && length >= SENDFILE_MIN_SIZE;
     }
-}
\ No newline at end of file
+}
@@ -2,7 +2,9 @@ package com.recipe.controller;
 
 import com.recipe.algorithm.IngredientRecommendAlgorithm;
 import com.recipe.domain.dto.IngredientRecommendationResponseDto;
+import com.recipe.util.PageParams;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -18,10 +20,14 @@ public class IngredientRecommendController {
      * 사용자의 재료 리스트 기반으로 추천 레시피 반환
      * 예: POST /api/recommend/ingredient
      *     body: ["양파", "달걀", "소금"]
+     * 페이지: POST /api/recommend/ingredient?page=1&size=10
      */
     @PostMapping
-    public IngredientRecommendationResponseDto recommend(@RequestBody List<String> ingredients) {
-        var results = ingredientRecommendAlgorithm.recommendByIngredients(ingredients);
+    public IngredientRecommendationResponseDto recommend(@RequestBody List<String> ingredients,
+                                                         @RequestParam(defaultValue = "0") int page,
+                                                         @RequestParam(defaultValue = "10") int size) {
+        PageRequest pageable = PageParams.ranked(page, size);
+        var results = ingredientRecommendAlgorithm.recommendByIngredients(ingredients, (int) pageable.getOffset(), size);
         return IngredientRecommendationResponseDto.of(results);
     }
 }
@@ -1,7 +1,8 @@
 package com.recipe.controller;
 
+import com.recipe.algorithm.RecommendationPage;
 import com.recipe.controller.inter.LikeController;
-import com.recipe.domain.dto.Recipe.RecipeResponseDTO;
+import com.recipe.domain.dto.Recipe.RecipeCardDTO;
 import com.recipe.domain.dto.ResponseLikeStatus;
 import com.recipe.domain.dto.auth.CustomerDetails;
 import com.recipe.domain.entity.Recipe;
@@ -40,7 +41,7 @@ public class LikeControllerImpl implements LikeController {
         log.info("userId:{}", userId);
         
         // toggleLike 호출
-        LikeService.LikeResult result = likeService.toggleLike(String.valueOf(userId), recipeId);
+        LikeService.LikeResult result = likeService.toggleLike(userId, recipeId);
         
         // ResponseLikeStatus 생성
         ResponseLikeStatus likeStatus = ResponseLikeStatus.builder()
@@ -61,7 +62,7 @@ public class LikeControllerImpl implements LikeController {
         
         Long userId = customer.getUserId();
         
-        likeService.removeLike(String.valueOf(userId), recipeId);
+        likeService.removeLike(userId, recipeId);
         return ResponseEntity.noContent().build();
     }
 
@@ -69,7 +70,7 @@ public class LikeControllerImpl implements LikeController {
      * 사용자 좋아요 기록 반환
      */
     @GetMapping("/likes")
-    public ResponseEntity<Page<RecipeResponseDTO>> likesHistory(
+    public ResponseEntity<Page<RecipeCardDTO>> likesHistory(
             @AuthenticationPrincipal CustomerDetails customer) {
         
         Long userId = customer.getUserId();
@@ -79,8 +80,8 @@ public class LikeControllerImpl implements LikeController {
         // getLikedRecipes 호출
         Page<Recipe> recipePage = likeService.getLikedRecipes(String.valueOf(userId), pageable);
         
-        // RecipeResponseDTO 변환
-        Page<RecipeResponseDTO> dtoPage = recipePage.map(RecipeResponseDTO::fromEntity);
+        // 카드(RecipeCardDTO) 변환
+        Page<RecipeCardDTO> dtoPage = recipePage.map(RecipeCardDTO::fromEntity);
         
         return ResponseEntity.ok(dtoPage);
     }
@@ -89,16 +90,18 @@ public class LikeControllerImpl implements LikeController {
      * 추천 레시피 조회 (알고리즘 기반)
      */
     @GetMapping("/likes/recommended")
-    public ResponseEntity<List<RecipeResponseDTO>> getRecommendedRecipes(
+    public ResponseEntity<List<RecipeCardDTO>> getRecommendedRecipes(
             @AuthenticationPrincipal CustomerDetails customer) {
         
         Long userId = customer.getUserId();
         
-        List<Recipe> recommendedRecipes = likeService.getRecommendedRecipes(userId);
-        List<RecipeResponseDTO> dtoList = recommendedRecipes.stream()
-                .map(RecipeResponseDTO::fromEntity)
+        RecommendationPage<Recipe> recommendedRecipes = likeService.getRecommendedRecipes(userId);
+        List<RecipeCardDTO> dtoList = recommendedRecipes.getPage().getContent().stream()
+                .map(RecipeCardDTO::fromEntity)
                 .collect(Collectors.toList());
         
-        return ResponseEntity.ok(dtoList);
+        return ResponseEntity.ok()
+                .header(RecommendationPage.GENERATED_AT_HEADER, recommendedRecipes.getGeneratedAt().toString())
+                .body(dtoList);
     }
 }
\ No newline at end of file
@@ -1,12 +1,15 @@
 package com.recipe.controller;
 
+import com.recipe.algorithm.FridgeMatchMode;
 import com.recipe.domain.dto.IngredientDto;
-import com.recipe.domain.dto.Recipe.RecipeResponseDTO;
+import com.recipe.domain.dto.Recipe.RecipeCardDTO;
 import com.recipe.domain.dto.auth.CustomerDetails;
 import com.recipe.domain.dto.mypage.MyPageResponseDto;
 import com.recipe.service.MyPageService;
+import com.recipe.util.PageParams;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -31,25 +34,25 @@ public class MyPageController {
 
     // 내가 작성한 레시피 목록 조회
     @GetMapping("/my-recipes")
-    public ResponseEntity<List<RecipeResponseDTO>> getMyRecipes(@AuthenticationPrincipal CustomerDetails customer) {
+    public ResponseEntity<List<RecipeCardDTO>> getMyRecipes(@AuthenticationPrincipal CustomerDetails customer) {
         log.info("내 레시피 목록 조회 요청 - userId: {}", customer.getUserId());
-        List<RecipeResponseDTO> myRecipes = myPageService.getMyRecipes(customer.getUserId());
+        List<RecipeCardDTO> myRecipes = myPageService.getMyRecipes(customer.getUserId());
         return ResponseEntity.ok(myRecipes);
     }
 
     // ✅ 좋아요 누른 레시피 목록 조회
     @GetMapping("/liked-recipes")
-    public ResponseEntity<List<RecipeResponseDTO>> getLikedRecipes(@AuthenticationPrincipal CustomerDetails customer) {
+    public ResponseEntity<List<RecipeCardDTO>> getLikedRecipes(@AuthenticationPrincipal CustomerDetails customer) {
         log.info("좋아요 레시피 목록 조회 요청 - userId: {}", customer.getUserId());
-        List<RecipeResponseDTO> likedRecipes = myPageService.getLikedRecipesDTO(customer.getUserId());
+        List<RecipeCardDTO> likedRecipes = myPageService.getLikedRecipesDTO(customer.getUserId());
         return ResponseEntity.ok(likedRecipes);
     }
 
     // ✅ 찜한 레시피 목록 조회 (북마크)
     @GetMapping("/bookmarked-recipes")
-    public ResponseEntity<List<RecipeResponseDTO>> getBookmarkedRecipes(@AuthenticationPrincipal CustomerDetails customer) {
+    public ResponseEntity<List<RecipeCardDTO>> getBookmarkedRecipes(@AuthenticationPrincipal CustomerDetails customer) {
         log.info("찜한 레시피 목록 조회 요청 - userId: {}", customer.getUserId());
-        List<RecipeResponseDTO> bookmarkedRecipes = myPageService.getBookmarkedRecipes(customer.getUserId());
+        List<RecipeCardDTO> bookmarkedRecipes = myPageService.getBookmarkedRecipes(customer.getUserId());
         return ResponseEntity.ok(bookmarkedRecipes);
     }
 
@@ -93,11 +96,20 @@ public class MyPageController {
 
     /**
      * 재료 기반 추천 레시피 조회
+     * 예: /recommended-recipes?mode=MISSING&maxMissing=2&page=0&size=20
+     * 전체 건수는 X-Total-Count 헤더
      */
     @GetMapping("/recommended-recipes")
-    public ResponseEntity<List<RecipeResponseDTO>> getRecommendedRecipes(@AuthenticationPrincipal CustomerDetails customer) {
+    public ResponseEntity<List<RecipeCardDTO>> getRecommendedRecipes(@AuthenticationPrincipal CustomerDetails customer,
+                                                                         @RequestParam(defaultValue = "ALL") FridgeMatchMode mode,
+                                                                         @RequestParam(defaultValue = "2") int maxMissing,
+                                                                         @RequestParam(defaultValue = "0") int page,
+                                                                         @RequestParam(defaultValue = "100") int size) {
         log.info("재료 기반 추천 레시피 조회 - userId: {}", customer.getUserId());
-        List<RecipeResponseDTO> recipes = myPageService.getRecommendedRecipes(customer.getUserId());
-        return ResponseEntity.ok(recipes);
+        Page<RecipeCardDTO> recipes = myPageService.getRecommendedRecipes(
+                customer.getUserId(), mode, maxMissing, PageParams.ranked(page, size));
+        return ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(recipes.getTotalElements()))
+                .body(recipes.getContent());
     }
 }
\ No newline at end of file
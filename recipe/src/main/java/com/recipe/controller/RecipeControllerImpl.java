@@ -1,24 +1,28 @@
 package com.recipe.controller;
 
+import com.recipe.domain.dto.Recipe.RecipeCardDTO;
 import com.recipe.domain.dto.Recipe.RecipeResponseDTO;
 import com.recipe.domain.dto.auth.CustomerDetails;
 import com.recipe.domain.dto.RecipeCreateDTO;
+import com.recipe.domain.dto.SortBy;
+import com.recipe.exceptions.recipe.RecipeException;
 import com.recipe.service.AuthService;
 import com.recipe.service.RecipeService;
 import com.recipe.service.FileService; // ✅ 추가
+import com.recipe.service.MainPageSnapshotService;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType; // ✅ 추가
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile; // ✅ 추가
 
-import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -30,6 +34,7 @@ public class RecipeControllerImpl implements RecipeController {
     private final RecipeService recipeService;
     private final AuthService authService;
     private final FileService fileService; // ✅ 추가
+    private final MainPageSnapshotService mainPageSnapshotService;
 
     // ✅ 레시피 등록 API (이미지 업로드 지원)
     @Override
@@ -62,7 +67,14 @@ public class RecipeControllerImpl implements RecipeController {
             }
             
             // ✅ 레시피 저장 (이미지 URL 포함)
-            Long recipeId = recipeService.createRecipe(request, customer.getUserId(), imageUrl);
+            Long recipeId;
+            try {
+                recipeId = recipeService.createRecipe(request, customer.getUserId(), imageUrl);
+            } catch (Exception e) {
+                // 레시피가 저장되지 않았으면 올린 이미지의 참조도 되돌림
+                fileService.releaseImage(imageUrl);
+                throw e;
+            }
             
             return ResponseEntity.ok(Map.of(
                 "message", "레시피가 성공적으로 등록되었습니다.",
@@ -70,6 +82,9 @@ public class RecipeControllerImpl implements RecipeController {
                 "imageUrl", imageUrl != null ? imageUrl : ""
             ));
             
+        } catch (RecipeException e) {
+            // 잘못된 요청(등록되지 않은 이미지 URL 등)은 ControllerAdvice에서 상태 코드대로 응답
+            throw e;
         } catch (Exception e) {
             log.error("레시피 작성 실패", e);
             return ResponseEntity.status(500)
@@ -84,26 +99,37 @@ public class RecipeControllerImpl implements RecipeController {
     
     @Override
     @GetMapping("/recipes/recommended")
-    public ResponseEntity<?> getRecommendedRecipes() {
-        List<RecipeResponseDTO> recipes = recipeService.getRecommendedRecipes(100);
-        return ResponseEntity.ok(Map.of("data", recipes, "total", recipes.size()));
+    public ResponseEntity<?> getRecommendedRecipes(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // 최신순 100개 스냅샷 (직렬화된 JSON 그대로 응답)
+        return mainPageSnapshotService.getRecommended().toResponse(ifNoneMatch);
     }
     
     @Override
     @GetMapping("/recipes/popular")
-    public ResponseEntity<?> getPopularRecipes() {
-        List<RecipeResponseDTO> recipes = recipeService.getTopRecipes(100);
-        return ResponseEntity.ok(Map.of("data", recipes, "total", recipes.size()));
+    public ResponseEntity<?> getPopularRecipes(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // 조회수순 100개 스냅샷 (직렬화된 JSON 그대로 응답)
+        return mainPageSnapshotService.getPopular().toResponse(ifNoneMatch);
     }
     
     @Override
     @GetMapping("/recipes/all")
     public ResponseEntity<?> getAllRecipes(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "firstRegDt") String sortBy,
+            @RequestParam(defaultValue = "false") boolean withTotal
     ) {
+        // cursor 파라미터가 있으면(첫 페이지는 빈 값) 키셋 페이징 → { content, hasNext, nextCursor, total }
+        if (cursor != null) {
+            SortBy sort = SortBy.formString(sortBy);
+            return ResponseEntity.ok(recipeService.getAllRecipeSlice(
+                    sort != null ? sort : SortBy.CREATED_AT, cursor, Math.max(1, Math.min(size, 100)), withTotal));
+        }
         Pageable pageable = PageRequest.of(page, size);
-        Page<RecipeResponseDTO> recipePage = recipeService.getAllRecipes(pageable);
+        Page<RecipeCardDTO> recipePage = recipeService.getAllRecipes(pageable);
         return ResponseEntity.ok(Map.of(
             "data", recipePage.getContent(),
             "total", recipePage.getTotalElements(),
@@ -121,7 +147,7 @@ public class RecipeControllerImpl implements RecipeController {
     ) {
         int actualSize = (limit != null && limit > 0) ? limit : size;
         Pageable pageable = PageRequest.of(page, actualSize);
-        Page<RecipeResponseDTO> recipePage = recipeService.searchRecipes(keyword, pageable);
+        Page<RecipeCardDTO> recipePage = recipeService.searchRecipes(keyword, pageable);
         
         return ResponseEntity.ok(Map.of(
             "data", recipePage.getContent(),
@@ -1,11 +1,14 @@
 package com.recipe.controller;
 
 import com.recipe.domain.dto.Recipe.RecipeResponseDTO;
+import com.recipe.domain.dto.Recipe.ViewerStateRequestDTO;
 import com.recipe.domain.dto.auth.CustomerDetails;
 import com.recipe.exceptions.recipe.RecipeException;
 import com.recipe.service.RecipeService;
 import com.recipe.service.LikeService;
 import com.recipe.service.BookmarkService;
+import com.recipe.service.ViewerStateService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.http.ResponseEntity;
@@ -25,6 +28,7 @@ public class RecipeDetailController {
     private final RecipeService recipeService;
     private final LikeService likeService;
     private final BookmarkService bookmarkService;
+    private final ViewerStateService viewerStateService;
     
     /**
      * 레시피 상세 조회 (공개 - 인증 불필요)
@@ -46,21 +50,11 @@ public class RecipeDetailController {
             Map<String, Object> data = new HashMap<>();
             data.put("recipe", recipe);
             
-            // 로그인한 사용자라면 좋아요/북마크 상태 + 작성자 여부 추가
-            if (username != null && userId != null) {
-                boolean isLiked = likeService.isLiked(username, recipeId);
-                boolean isBookmarked = bookmarkService.isBookmarked(username, recipeId);
-                // userId 필드는 DTO에 추가했으므로 사용 가능
-                boolean isMyRecipe = recipe.getUserId() != null && recipe.getUserId().equals(userId);
-                
-                data.put("isLiked", isLiked);
-                data.put("isBookmarked", isBookmarked);
-                data.put("isMyRecipe", isMyRecipe);  
-            } else {
-                data.put("isLiked", false);
-                data.put("isBookmarked", false);
-                data.put("isMyRecipe", false);
-            }
+            // 로그인한 사용자라면 좋아요/북마크 상태 + 작성자 여부 추가 (비로그인은 모두 false)
+            ViewerStateService.ViewerState state = viewerStateService.getState(username != null ? userId : null, recipeId);
+            data.put("isLiked", state.isLiked(0));
+            data.put("isBookmarked", state.isBookmarked(0));
+            data.put("isMyRecipe", state.isMine(0));
             
             Map<String, Object> response = Map.of("data", data);
             
@@ -84,6 +78,31 @@ public class RecipeDetailController {
         }
     }
     
+    /**
+     * 레시피 목록의 좋아요/북마크/작성자 여부 일괄 조회 (공개 - 비로그인은 모두 false)
+     * POST /api/details/state  {"recipeIds": [1, 2, ...]}
+     */
+    @PostMapping("/state")
+    public ResponseEntity<?> getViewerState(@RequestBody @Valid ViewerStateRequestDTO request) {
+        try {
+            Long userId = getCurrentUserId();
+            ViewerStateService.ViewerState state = viewerStateService.getStates(userId, request.getRecipeIds());
+            return ResponseEntity.ok(Map.of("data", state.toResponse()));
+            
+        } catch (RecipeException e) {
+            log.error("레시피 상태 조회 실패 - 코드: {}", e.getCode(), e);
+            return ResponseEntity.status(e.getCode())
+                    .body(Map.of(
+                        "error", e.getMsg(),
+                        "code", e.getCode()
+                    ));
+        } catch (Exception e) {
+            log.error("레시피 상태 조회 실패", e);
+            return ResponseEntity.status(500)
+                    .body(Map.of("error", "서버 오류가 발생했습니다."));
+        }
+    }
+    
     /**
      * 레시피 삭제 (인증 필수 - 작성자만 가능)
      * DELETE /api/details/{recipeId}
@@ -158,7 +177,7 @@ public class RecipeDetailController {
             }
             
             // 좋아요 토글 처리
-            LikeService.LikeResult result = likeService.toggleLike(username, recipeId);
+            LikeService.LikeResult result = likeService.toggleLike(userId, recipeId);
             
             log.info("좋아요 토글 완료 - username: {}, recipeId: {}, isLiked: {}", 
                     username, recipeId, result.isLiked());
@@ -207,7 +226,7 @@ public class RecipeDetailController {
             }
             
             // 북마크 토글 처리
-            BookmarkService.BookmarkResult result = bookmarkService.toggleBookmark(username, recipeId);
+            BookmarkService.BookmarkResult result = bookmarkService.toggleBookmark(userId, recipeId);
             
             log.info("북마크 토글 완료 - username: {}, recipeId: {}, isBookmarked: {}", 
                     username, recipeId, result.isBookmarked());
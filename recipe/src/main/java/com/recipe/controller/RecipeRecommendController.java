@@ -1,15 +1,19 @@
 package com.recipe.controller;
 
-import com.recipe.domain.dto.Recipe.RecipeResponseDTO;
+import com.recipe.algorithm.RecommendationPage;
+import com.recipe.algorithm.RecommendationResult;
+import com.recipe.domain.dto.Recipe.RecipeCardDTO;
 import com.recipe.repository.UserRepository;
 import com.recipe.service.RecipeRecommendService;
 import com.recipe.exceptions.user.UserExceptions;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Log4j2
 @RestController
@@ -21,16 +25,22 @@ public class RecipeRecommendController {
     private final UserRepository userRepository;
 
     @GetMapping("/{userId}")
-    public ResponseEntity<List<RecipeResponseDTO>> getRecommendations(@PathVariable Long userId) {
+    public ResponseEntity<List<RecipeCardDTO>> getRecommendations(@PathVariable Long userId) {
 
         userRepository.findByUserId(userId)
                 .orElseThrow(() -> UserExceptions.NOT_FOUND.getUserException("해당 사용자를 찾을 수 없습니다."));
 
-        // List 형태로 받음
-        List<RecipeResponseDTO> response = recommendService.getRecommendedRecipes(userId);
+        // 미리 계산된 추천 결과 우선, 생성 시각은 헤더로 전달
+        RecommendationPage<RecommendationResult> recommendations =
+                recommendService.getRecommendations(userId, PageRequest.of(0, 10));
+        List<RecipeCardDTO> response = recommendations.getPage().getContent().stream()
+                .map(result -> RecipeCardDTO.fromEntity(result.getRecipe()))
+                .collect(Collectors.toList());
 
         log.info("User {} 에게 추천된 레시피 개수: {}개", userId, response.size());
         
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .header(RecommendationPage.GENERATED_AT_HEADER, recommendations.getGeneratedAt().toString())
+                .body(response);
     }
 }
\ No newline at end of file
@@ -1,12 +1,14 @@
 package com.recipe.controller;
 
-import com.recipe.domain.dto.Recipe.RecipeResponseDTO;
+import com.recipe.algorithm.RecommendationPage;
+import com.recipe.domain.dto.Recipe.RecipeCardDTO;
+import com.recipe.domain.dto.SortBy;
 import com.recipe.domain.dto.auth.CustomerDetails;
 import com.recipe.service.SearchService;
+import com.recipe.util.PageParams;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -24,17 +26,26 @@ public class SearchController {
 
     /**
      * 레시피명 검색
+     * cursor 파라미터가 있으면(첫 페이지는 빈 값) 커서 페이징 - 응답은 RecipeSliceDTO (nextCursor)
      */
     @GetMapping("/title")
-    public ResponseEntity<Page<RecipeResponseDTO>> searchByTitle(
+    public ResponseEntity<?> searchByTitle(
             @RequestParam("q") String query,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "16") int size) {
+            @RequestParam(defaultValue = "16") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "rcmmCnt") String sortBy,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
         
-        log.info("레시피명 검색 요청 - query: {}, page: {}, size: {}", query, page, size);
+        log.info("레시피명 검색 요청 - query: {}, page: {}, size: {}, cursor: {}", query, page, size, cursor);
+
+        if (cursor != null) {
+            return ResponseEntity.ok(searchService.searchByTitleSlice(
+                    query, toSortBy(sortBy), cursor, clampSize(size), withTotal));
+        }
         
-        Pageable pageable = PageRequest.of(page, size);
-        Page<RecipeResponseDTO> results = searchService.searchByTitle(query, pageable);
+        Pageable pageable = PageParams.of(page, size);
+        Page<RecipeCardDTO> results = searchService.searchByTitle(query, pageable);
         
         return ResponseEntity.ok(results);
     }
@@ -42,17 +53,26 @@ public class SearchController {
     /**
      * 재료 검색 (교집합 필터링)
      * 입력: "돼지고기,양파,마늘" -> 돼지고기 AND 양파 AND 마늘 포함하는 레시피만 반환
+     * cursor 파라미터가 있으면 커서 페이징 (레시피명 검색과 동일)
      */
     @GetMapping("/ingredients")
-    public ResponseEntity<Page<RecipeResponseDTO>> searchByIngredients(
+    public ResponseEntity<?> searchByIngredients(
             @RequestParam("q") String ingredients,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "16") int size) {
+            @RequestParam(defaultValue = "16") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "rcmmCnt") String sortBy,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
         
-        log.info("재료 검색 요청 - ingredients: {}, page: {}, size: {}", ingredients, page, size);
+        log.info("재료 검색 요청 - ingredients: {}, page: {}, size: {}, cursor: {}", ingredients, page, size, cursor);
+
+        if (cursor != null) {
+            return ResponseEntity.ok(searchService.searchByIngredientsSlice(
+                    ingredients, toSortBy(sortBy), cursor, clampSize(size), withTotal));
+        }
         
-        Pageable pageable = PageRequest.of(page, size);
-        Page<RecipeResponseDTO> results = searchService.searchByIngredients(ingredients, pageable);
+        Pageable pageable = PageParams.of(page, size);
+        Page<RecipeCardDTO> results = searchService.searchByIngredients(ingredients, pageable);
         
         return ResponseEntity.ok(results);
     }
@@ -74,7 +94,7 @@ public class SearchController {
      * 개인화 추천 (로그인 사용자용)
      */
     @GetMapping("/recommendations")
-    public ResponseEntity<Page<RecipeResponseDTO>> getRecommendations(
+    public ResponseEntity<Page<RecipeCardDTO>> getRecommendations(
             @AuthenticationPrincipal CustomerDetails customer,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "16") int size) {
@@ -87,9 +107,21 @@ public class SearchController {
         Long userId = customer.getUserId();
         log.info("개인화 추천 요청 - userId: {}, page: {}, size: {}", userId, page, size);
         
-        Pageable pageable = PageRequest.of(page, size);
-        Page<RecipeResponseDTO> results = searchService.getPersonalizedRecommendations(userId, pageable);
+        Pageable pageable = PageParams.ranked(page, size);
+        RecommendationPage<RecipeCardDTO> results = searchService.getPersonalizedRecommendations(userId, pageable);
         
-        return ResponseEntity.ok(results);
+        return ResponseEntity.ok()
+                .header(RecommendationPage.GENERATED_AT_HEADER, results.getGeneratedAt().toString())
+                .body(results.getPage());
+    }
+
+    // firstRegDt | inqCnt | rcmmCnt (또는 SortBy 이름), 모르는 값이면 추천순
+    private static SortBy toSortBy(String value) {
+        SortBy sortBy = SortBy.formString(value);
+        return sortBy != null ? sortBy : SortBy.RECOMMENDED_COUNT;
+    }
+
+    private static int clampSize(int size) {
+        return Math.max(1, Math.min(size, 100));
     }
 }
\ No newline at end of file
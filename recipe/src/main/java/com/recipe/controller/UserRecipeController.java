@@ -2,6 +2,7 @@ package com.recipe.controller;
 
 import com.recipe.domain.dto.Recipe.RecipeSimpleDTO;
 import com.recipe.domain.dto.auth.CustomerDetails;
+import com.recipe.exceptions.recipe.RecipeException;
 import com.recipe.service.UserRecipeService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -29,7 +30,7 @@ public class UserRecipeController {
     @GetMapping("/liked-recipes")
     public ResponseEntity<?> getLikedRecipes(@AuthenticationPrincipal CustomerDetails user) {
         try {
-            List<RecipeSimpleDTO> likedRecipes = userRecipeService.getLikedRecipes(user.getUsername());
+            List<RecipeSimpleDTO> likedRecipes = userRecipeService.getLikedRecipes(user.getUserId());
             
             Map<String, Object> response = new HashMap<>();
             response.put("data", likedRecipes);
@@ -52,7 +53,7 @@ public class UserRecipeController {
             @AuthenticationPrincipal CustomerDetails user
     ) {
         try {
-            userRecipeService.addLike(user.getUsername(), rcpSno);
+            userRecipeService.addLike(user.getUserId(), rcpSno);
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -62,9 +63,9 @@ public class UserRecipeController {
         } catch (IllegalStateException e) {
             // 이미 좋아요한 경우
             return ResponseEntity.status(409).body(Map.of("error", e.getMessage()));
-        } catch (IllegalArgumentException e) {
-            // 존재하지 않는 사용자/레시피
-            return ResponseEntity.status(404).body(Map.of("error", e.getMessage()));
+        } catch (RecipeException e) {
+            // 존재하지 않는 레시피
+            return ResponseEntity.status(e.getCode()).body(Map.of("error", e.getMsg()));
         } catch (Exception e) {
             log.error("좋아요 추가 실패", e);
             return ResponseEntity.status(500).body(Map.of("error", "좋아요 추가 중 오류가 발생했습니다."));
@@ -80,7 +81,7 @@ public class UserRecipeController {
             @AuthenticationPrincipal CustomerDetails user
     ) {
         try {
-            userRecipeService.removeLike(user.getUsername(), rcpSno);
+            userRecipeService.removeLike(user.getUserId(), rcpSno);
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -119,7 +120,7 @@ public class UserRecipeController {
     @GetMapping("/bookmarked-recipes")
     public ResponseEntity<?> getBookmarkedRecipes(@AuthenticationPrincipal CustomerDetails user) {
         try {
-            List<RecipeSimpleDTO> bookmarkedRecipes = userRecipeService.getBookmarkedRecipes(user.getUsername());
+            List<RecipeSimpleDTO> bookmarkedRecipes = userRecipeService.getBookmarkedRecipes(user.getUserId());
             
             Map<String, Object> response = new HashMap<>();
             response.put("data", bookmarkedRecipes);
@@ -142,7 +143,7 @@ public class UserRecipeController {
             @AuthenticationPrincipal CustomerDetails user
     ) {
         try {
-            userRecipeService.addBookmark(user.getUsername(), rcpSno);
+            userRecipeService.addBookmark(user.getUserId(), rcpSno);
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -151,8 +152,8 @@ public class UserRecipeController {
             return ResponseEntity.ok(response);
         } catch (IllegalStateException e) {
             return ResponseEntity.status(409).body(Map.of("error", e.getMessage()));
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.status(404).body(Map.of("error", e.getMessage()));
+        } catch (RecipeException e) {
+            return ResponseEntity.status(e.getCode()).body(Map.of("error", e.getMsg()));
         } catch (Exception e) {
             log.error("북마크 추가 실패", e);
             return ResponseEntity.status(500).body(Map.of("error", "북마크 추가 중 오류가 발생했습니다."));
@@ -168,7 +169,7 @@ public class UserRecipeController {
             @AuthenticationPrincipal CustomerDetails user
     ) {
         try {
-            userRecipeService.removeBookmark(user.getUsername(), rcpSno);
+            userRecipeService.removeBookmark(user.getUserId(), rcpSno);
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
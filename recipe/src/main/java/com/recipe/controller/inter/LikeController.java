@@ -1,6 +1,6 @@
 package com.recipe.controller.inter;
 
-import com.recipe.domain.dto.Recipe.RecipeResponseDTO;
+import com.recipe.domain.dto.Recipe.RecipeCardDTO;
 import com.recipe.domain.dto.ResponseLikeStatus;
 import com.recipe.domain.dto.auth.CustomerDetails;
 import io.swagger.v3.oas.annotations.Operation;
@@ -27,7 +27,7 @@ public interface LikeController {
             @ApiResponse(responseCode = "404", description = "해당 회원을 찾을 수 없습니다."),
             @ApiResponse(responseCode = "403", description = "토큰 관련 문제")
     })
-    public ResponseEntity<Page<RecipeResponseDTO>> likesHistory(CustomerDetails customer);
+    public ResponseEntity<Page<RecipeCardDTO>> likesHistory(CustomerDetails customer);
 
     @Operation(summary = "좋아요 취소", description = "레시피 좋아요 기록 삭제 && 좋아요 취소(레시피 좋아요 -1)",
     responses = {
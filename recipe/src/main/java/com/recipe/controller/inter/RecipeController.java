@@ -31,23 +31,28 @@ public interface RecipeController {
                     @ApiResponse(responseCode = "200", description = "조회 성공"),
                     @ApiResponse(responseCode = "500", description = "서버 오류")
             })
-    ResponseEntity<?> getRecommendedRecipes();
+    ResponseEntity<?> getRecommendedRecipes(String ifNoneMatch);
 
     @Operation(summary = "인기 레시피 전체 조회", description = "인기 레시피 목록 반환 (조회수 높은 순)",
             responses = {
                     @ApiResponse(responseCode = "200", description = "조회 성공"),
                     @ApiResponse(responseCode = "500", description = "서버 오류")
             })
-    ResponseEntity<?> getPopularRecipes();
+    ResponseEntity<?> getPopularRecipes(String ifNoneMatch);
 
-    @Operation(summary = "전체 레시피 조회", description = "전체 레시피 목록 반환 (페이징)",
+    @Operation(summary = "전체 레시피 조회",
+            description = "전체 레시피 목록 반환 (페이징). cursor를 보내면(첫 페이지는 빈 값) 커서 페이징 - " +
+                    "sortBy(firstRegDt/inqCnt/rcmmCnt) 내림차순, 응답의 nextCursor로 다음 페이지 조회",
             responses = {
                     @ApiResponse(responseCode = "200", description = "조회 성공"),
                     @ApiResponse(responseCode = "500", description = "서버 오류")
             })
     ResponseEntity<?> getAllRecipes(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "firstRegDt") String sortBy,
+            @RequestParam(defaultValue = "false") boolean withTotal
     );
 
     @Operation(summary = "레시피 작성", description = "새로운 레시피를 작성합니다 (이미지 업로드 포함)",
@@ -0,0 +1,49 @@
+package com.recipe.domain.dto.Recipe;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.recipe.domain.entity.Recipe;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록용 레시피 카드 (재료/조리법 등 본문 컬럼 제외)
+ * 상세 화면(/api/details/{id})만 RecipeResponseDTO 사용
+ * 필드 순서는 RecipeRepository.CARD_SELECT의 생성자 인자 순서와 같아야 함
+ */
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class RecipeCardDTO {
+    private Long rcpSno;
+    private Long userId;
+    private String rcpTtl;
+    private String ckgNm;
+    private String rcpImgUrl;
+    private String rcpImgPlaceholder;   // 이미지 로딩 전 표시할 미리보기 (data URI, 없으면 null)
+    private Integer inqCnt;
+    private Integer rcmmCnt;
+    private String ckgDodfNm;
+    private String ckgTimeNm;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss", timezone = "Asia/Seoul")
+    private LocalDateTime firstRegDt;
+
+    // 이미 엔티티를 읽은 경우(추천 결과 등)의 변환
+    public static RecipeCardDTO fromEntity(Recipe recipe) {
+        return RecipeCardDTO.builder()
+                .rcpSno(recipe.getRcpSno())
+                .userId(recipe.getUserId())
+                .rcpTtl(recipe.getRcpTtl())
+                .ckgNm(recipe.getCkgNm())
+                .rcpImgUrl(recipe.getRcpImgUrl())
+                .rcpImgPlaceholder(recipe.getRcpImgPlaceholder())
+                .inqCnt(recipe.getInqCnt())
+                .rcmmCnt(recipe.getRcmmCnt())
+                .ckgDodfNm(recipe.getCkgDodfNm())
+                .ckgTimeNm(recipe.getCkgTimeNm())
+                .firstRegDt(recipe.getFirstRegDt())
+                .build();
+    }
+}
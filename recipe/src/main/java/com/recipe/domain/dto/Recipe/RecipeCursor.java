@@ -0,0 +1,82 @@
+package com.recipe.domain.dto.Recipe;
+
+import com.recipe.domain.dto.SortBy;
+import com.recipe.exceptions.recipe.RecipeException;
+import com.recipe.exceptions.recipe.RecipeExceptions;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 키셋 페이징 커서 - 이전 페이지 마지막 레시피의 (정렬 키, 레시피 번호)
+ * 클라이언트에는 "버전|정렬|키|번호"를 Base64(URL-safe)로 인코딩한 불투명 토큰으로 전달
+ * 정렬 키가 NULL인 레시피는 목록 맨 뒤(번호 역순)에 오며, 그 구간의 커서는 key == null
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class RecipeCursor {
+
+    private static final String VERSION = "1";
+
+    private final SortBy sortBy;
+    private final Comparable<?> key;
+    private final Long rcpSno;
+
+    public boolean isNullKey() {
+        return key == null;
+    }
+
+    /**
+     * 카드 다음부터 조회하는 커서 (조회수 미반영분을 더하기 전의 DB 값으로 만들어야 함)
+     */
+    public static RecipeCursor after(SortBy sortBy, RecipeCardDTO card) {
+        return new RecipeCursor(sortBy, keyOf(sortBy, card), card.getRcpSno());
+    }
+
+    public String encode() {
+        String raw = String.join("|", VERSION, sortBy.name(),
+                key == null ? "" : key.toString(), String.valueOf(rcpSno));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰 해석 - 형식이 틀리거나 요청한 정렬과 다르면 400
+     */
+    public static RecipeCursor decode(String token, SortBy sortBy) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 4 || !VERSION.equals(parts[0]) || !sortBy.name().equals(parts[1])) {
+                throw invalid();
+            }
+            Comparable<?> key = parts[2].isEmpty() ? null : parseKey(sortBy, parts[2]);
+            return new RecipeCursor(sortBy, key, Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw invalid();
+        }
+    }
+
+    private static Comparable<?> keyOf(SortBy sortBy, RecipeCardDTO card) {
+        return switch (sortBy) {
+            case CREATED_AT -> card.getFirstRegDt();
+            case INQUIRY_COUNT -> card.getInqCnt();
+            case RECOMMENDED_COUNT -> card.getRcmmCnt();
+        };
+    }
+
+    private static Comparable<?> parseKey(SortBy sortBy, String value) {
+        return switch (sortBy) {
+            case CREATED_AT -> LocalDateTime.parse(value);
+            case INQUIRY_COUNT, RECOMMENDED_COUNT -> Integer.valueOf(value);
+        };
+    }
+
+    private static RecipeException invalid() {
+        return RecipeExceptions.BAD_REQUEST.getRecipeException("잘못된 커서입니다.");
+    }
+}
@@ -0,0 +1,35 @@
+package com.recipe.domain.dto.Recipe;
+
+import com.recipe.domain.dto.SortBy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 페이징 응답 (전체 개수를 세지 않는 Slice)
+ * nextCursor를 그대로 다음 요청의 cursor로 보내면 됨 (마지막 페이지면 null)
+ */
+@Getter
+@AllArgsConstructor
+public class RecipeSliceDTO {
+
+    private List<RecipeCardDTO> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+    // withTotal=true일 때만 채움 (전체 목록은 테이블 통계 기반 근사값)
+    private Long total;
+
+    /**
+     * size + 1건까지 조회한 결과로 응답 구성 (초과분이 있으면 다음 페이지 있음)
+     */
+    public static RecipeSliceDTO of(List<RecipeCardDTO> rows, int size, SortBy sortBy, Long total) {
+        boolean hasNext = rows.size() > size;
+        List<RecipeCardDTO> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext
+                ? RecipeCursor.after(sortBy, content.get(content.size() - 1)).encode()
+                : null;
+        return new RecipeSliceDTO(content, size, hasNext, nextCursor, total);
+    }
+}
@@ -0,0 +1,15 @@
+package com.recipe.domain.dto.Recipe;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class ViewerStateRequestDTO {
+
+    @NotEmpty(message = "레시피 ID를 입력해주세요.")
+    private List<Long> recipeIds;
+}
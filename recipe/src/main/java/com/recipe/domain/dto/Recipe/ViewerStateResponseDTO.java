@@ -0,0 +1,23 @@
+package com.recipe.domain.dto.Recipe;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 레시피 목록에 대한 현재 사용자의 좋아요/북마크/작성자 여부
+ * 각 비트맵은 Base64 문자열이며, recipeIds[i]의 상태는 (bytes[i >> 3] >> (i & 7)) & 1
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ViewerStateResponseDTO {
+    private List<Long> recipeIds;
+    private String liked;
+    private String bookmarked;
+    private String mine;
+}
@@ -0,0 +1,38 @@
+package com.recipe.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장소 이미지 1건 (내용 SHA-256 = 1행)
+ * 같은 이미지를 여러 번 올려도 저장은 한 번, REF_COUNT로 참조하는 레시피 수를 세고 0이 되면 저장소에서 삭제
+ * 저장소 키: {HASH}{EXT} (크기별 파일은 {HASH}_card{EXT}, {HASH}_detail{EXT})
+ */
+@Entity
+@Table(name = "IMAGE_BLOB")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@ToString
+@Getter
+@Builder
+public class ImageBlob {
+
+    @Id
+    @Column(name = "HASH", length = 64)
+    private String hash;
+
+    // 처음 올린 파일의 확장자 (같은 내용을 다른 확장자로 올려도 같은 키 사용)
+    @Column(name = "EXT", nullable = false, length = 11)
+    private String ext;
+
+    @Column(name = "BYTE_SIZE", nullable = false)
+    private Long byteSize;
+
+    @Column(name = "REF_COUNT", nullable = false)
+    private Integer refCount;
+
+    @Column(name = "CREATED_AT", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,29 @@
+package com.recipe.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 재료 사전 (정규화된 재료명 1건 = 1행)
+ * 레시피 재료 텍스트를 IngredientParser로 정규화한 이름만 저장
+ */
+@Entity
+@Table(name = "INGREDIENT_DICTIONARY",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "UQ_INGREDIENT_NAME", columnNames = {"NAME"})
+        })
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@ToString
+@Getter
+@Builder
+public class IngredientDictionary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "INGREDIENT_ID")
+    private Long ingredientId;
+
+    @Column(name = "NAME", nullable = false, length = 100)
+    private String name;
+}
@@ -8,7 +8,15 @@ import org.hibernate.annotations.DynamicInsert;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "RECIPES")
+@Table(name = "RECIPES", indexes = {
+        // 목록 키셋 페이징용 (정렬 키, RCP_SNO)
+        @Index(name = "IDX_RECIPES_REG_DT", columnList = "FIRST_REG_DT, RCP_SNO"),
+        @Index(name = "IDX_RECIPES_INQ_CNT", columnList = "INQ_CNT, RCP_SNO"),
+        @Index(name = "IDX_RECIPES_RCMM_CNT", columnList = "RCMM_CNT, RCP_SNO")
+}, uniqueConstraints = {
+        // 공공데이터 CSV 원본 레시피 번호 (증분 적재 upsert 키, 사용자 작성 레시피는 NULL)
+        @UniqueConstraint(name = "UQ_RECIPES_SRC_RCP_SNO", columnNames = {"SRC_RCP_SNO"})
+})
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -70,6 +78,22 @@ public class Recipe {
     @Column(name = "RCP_IMG_URL", length = 500)
     private String rcpImgUrl;
 
+    // 업로드 이미지 미리보기 (작은 JPEG data URI, ImageVariantService가 채움)
+    @Column(name = "RCP_IMG_PLACEHOLDER", length = 2000)
+    private String rcpImgPlaceholder;
+
+    // 생성된 이미지 크기 목록 (예: "card,detail", 없으면 원본만)
+    @Column(name = "RCP_IMG_VARIANTS", length = 100)
+    private String rcpImgVariants;
+
+    // CSV 원본 RCP_SNO (증분 적재로 들어온 레시피만)
+    @Column(name = "SRC_RCP_SNO")
+    private Long srcRcpSno;
+
+    // CSV 원본 행 내용 SHA-256 (같으면 증분 적재에서 건너뜀)
+    @Column(name = "SRC_HASH", length = 64)
+    private String srcHash;
+
     // --- 비즈니스 로직 메서드 ---
 
     // 좋아요 수 증가
@@ -0,0 +1,29 @@
+package com.recipe.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 레시피 - 재료 사전 연결 (재료 검색은 CKG_MTRL_CN 텍스트 대신 이 테이블을 조인)
+ * PK(RCP_SNO, INGREDIENT_ID)는 레시피별 재료 조회, IDX_RECIPE_INGREDIENT_INGREDIENT는 재료별 레시피 조회용
+ */
+@Entity
+@Table(name = "RECIPE_INGREDIENT",
+        indexes = {
+                @Index(name = "IDX_RECIPE_INGREDIENT_INGREDIENT", columnList = "INGREDIENT_ID, RCP_SNO")
+        })
+@IdClass(RecipeIngredientId.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@ToString
+@Getter
+public class RecipeIngredient {
+
+    @Id
+    @Column(name = "RCP_SNO")
+    private Long rcpSno;
+
+    @Id
+    @Column(name = "INGREDIENT_ID")
+    private Long ingredientId;
+}
@@ -0,0 +1,17 @@
+package com.recipe.domain.entity;
+
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * RecipeIngredient 복합 키 (RCP_SNO, INGREDIENT_ID)
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@EqualsAndHashCode
+public class RecipeIngredientId implements Serializable {
+    private Long rcpSno;
+    private Long ingredientId;
+}
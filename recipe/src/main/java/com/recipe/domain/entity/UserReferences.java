@@ -12,7 +12,10 @@ import org.springframework.format.annotation.DateTimeFormat;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "USER_REFERENCE")
+@Table(name = "USER_REFERENCE",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "UQ_USER_REFERENCE", columnNames = {"USER_ID", "RCP_SNO", "PREFERENCE_TYPE"})
+        })
 @Builder
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -21,7 +24,9 @@ import java.time.LocalDateTime;
 @ToString
 public class UserReferences extends BaseEntityTime{
     @Id
-    @GeneratedValue
+    // pooled 최적화: 시퀀스 한 번에 50개 번호 확보 (ViewHistoryWriter도 같은 시퀀스 사용)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "USER_REFERENCES_SEQ_GENERATOR")
+    @SequenceGenerator(name = "USER_REFERENCES_SEQ_GENERATOR", sequenceName = "USER_REFERENCES_SEQ", allocationSize = 50)
     @Column(name = "PREFERENCE_ID")
     private Long preferenceId;
 
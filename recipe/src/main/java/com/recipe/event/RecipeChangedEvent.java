@@ -0,0 +1,35 @@
+package com.recipe.event;
+
+import com.recipe.domain.entity.Recipe;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 레시피 등록/삭제 이벤트
+ * 트랜잭션 커밋 후(@TransactionalEventListener AFTER_COMMIT) 재료 인덱스, 검색 인덱스 등에 반영
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class RecipeChangedEvent {
+
+    public enum ChangeType {
+        SAVED, DELETED
+    }
+
+    private final Long rcpSno;
+    private final Recipe recipe;   // DELETED면 null
+    private final ChangeType changeType;
+
+    public static RecipeChangedEvent saved(Recipe recipe) {
+        return new RecipeChangedEvent(recipe.getRcpSno(), recipe, ChangeType.SAVED);
+    }
+
+    public static RecipeChangedEvent deleted(Long rcpSno) {
+        return new RecipeChangedEvent(rcpSno, null, ChangeType.DELETED);
+    }
+
+    public boolean isDeleted() {
+        return changeType == ChangeType.DELETED;
+    }
+}
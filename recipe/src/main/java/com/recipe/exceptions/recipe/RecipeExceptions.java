@@ -6,7 +6,8 @@ import org.springframework.http.HttpStatus;
 @Getter
 public enum RecipeExceptions {
     NOT_FOUND("해당 레시피를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
-    BAD_REQUEST("요청 값이 잘못되었습니다.", HttpStatus.BAD_REQUEST);
+    BAD_REQUEST("요청 값이 잘못되었습니다.", HttpStatus.BAD_REQUEST),
+    SERVICE_UNAVAILABLE("잠시 후 다시 시도해 주세요.", HttpStatus.SERVICE_UNAVAILABLE);
 
     private final String message;
     private final HttpStatus code;
@@ -64,4 +64,26 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
     @Transactional
     @Query("DELETE FROM Bookmark b WHERE b.user.userId = :userId")
     void deleteByUserId(@Param("userId") Long userId);
+
+    /**
+     * 북마크한 레시피 번호 (User PK 기준, 등록 순서) → 카드는 RecipeCardCache에서 조회
+     */
+    @Query("SELECT b.recipe.rcpSno FROM Bookmark b WHERE b.user.userId = :userId ORDER BY b.bookmarkId")
+    List<Long> findRecipeIdsByUserPk(@Param("userId") Long userId);
+
+    /**
+     * 북마크 등록 (엔티티 조회 없이 ID로 바로 INSERT)
+     * UQ_RECIPE_BOOKMARK 중복이면 무시 → 반환값 1: 새로 등록, 0: 이미 있음(또는 레시피/사용자 없음)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO bookmarks (USER_ID, RCP_SNO, CREATED_AT, MODIFIED_AT) " +
+            "VALUES (:userId, :rcpSno, NOW(), NOW())", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("rcpSno") Long rcpSno);
+
+    /**
+     * 북마크 삭제 (User PK 기준) → 반환값 1: 삭제됨, 0: 북마크 기록 없음
+     */
+    @Modifying
+    @Query("DELETE FROM Bookmark b WHERE b.user.userId = :userId AND b.recipe.rcpSno = :rcpSno")
+    int deleteByUserPkAndRcpSno(@Param("userId") Long userId, @Param("rcpSno") Long rcpSno);
 }
\ No newline at end of file
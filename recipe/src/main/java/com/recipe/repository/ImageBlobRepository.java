@@ -0,0 +1,45 @@
+package com.recipe.repository;
+
+import com.recipe.domain.entity.ImageBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ImageBlobRepository extends JpaRepository<ImageBlob, String> {
+
+    /**
+     * 참조 1 증가 (없으면 REF_COUNT=1로 생성) - 행 잠금은 트랜잭션 끝까지 유지되어 동시 삭제와 겹치지 않음
+     */
+    @Modifying
+    @Query(value = "INSERT INTO image_blob (HASH, EXT, BYTE_SIZE, REF_COUNT, CREATED_AT) " +
+            "VALUES (:hash, :ext, :byteSize, 1, NOW()) " +
+            "ON DUPLICATE KEY UPDATE REF_COUNT = REF_COUNT + 1", nativeQuery = true)
+    int acquire(@Param("hash") String hash, @Param("ext") String ext, @Param("byteSize") long byteSize);
+
+    /**
+     * 이미 저장된 이미지의 참조 1 증가 (행이 없거나 삭제 대기 중(REF_COUNT=0)이면 0 반환)
+     */
+    @Modifying
+    @Query(value = "UPDATE image_blob SET REF_COUNT = REF_COUNT + 1 WHERE HASH = :hash AND REF_COUNT > 0", nativeQuery = true)
+    int acquireExisting(@Param("hash") String hash);
+
+    @Query(value = "SELECT EXT FROM image_blob WHERE HASH = :hash", nativeQuery = true)
+    String findExt(@Param("hash") String hash);
+
+    /**
+     * 참조 수 조회 + 행 잠금 (없으면 null)
+     */
+    @Query(value = "SELECT REF_COUNT FROM image_blob WHERE HASH = :hash FOR UPDATE", nativeQuery = true)
+    Integer lockRefCount(@Param("hash") String hash);
+
+    @Modifying
+    @Query(value = "UPDATE image_blob SET REF_COUNT = REF_COUNT - 1 WHERE HASH = :hash", nativeQuery = true)
+    int decrement(@Param("hash") String hash);
+
+    @Modifying
+    @Query(value = "DELETE FROM image_blob WHERE HASH = :hash", nativeQuery = true)
+    int deleteByHash(@Param("hash") String hash);
+}
@@ -48,4 +48,26 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
     @Modifying
     @Query("DELETE FROM Like l WHERE l.recipe.rcpSno = :recipeId")
     int deleteByRecipeId(@Param("recipeId") Long recipeId);
+
+    /**
+     * 좋아요한 레시피 번호 (User PK 기준, 등록 순서) → 카드는 RecipeCardCache에서 조회
+     */
+    @Query("SELECT l.recipe.rcpSno FROM Like l WHERE l.user.userId = :userId ORDER BY l.likeId")
+    List<Long> findRecipeIdsByUserPk(@Param("userId") Long userId);
+
+    /**
+     * 좋아요 등록 (엔티티 조회 없이 ID로 바로 INSERT)
+     * UQ_RECIPE_LIKE 중복이면 무시 → 반환값 1: 새로 등록, 0: 이미 있음(또는 레시피/사용자 없음)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO likes (USER_ID, RCP_SNO, CREATED_AT, MODIFIED_AT) " +
+            "VALUES (:userId, :rcpSno, NOW(), NOW())", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("rcpSno") Long rcpSno);
+
+    /**
+     * 좋아요 삭제 (User PK 기준) → 반환값 1: 삭제됨, 0: 좋아요 기록 없음
+     */
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.user.userId = :userId AND l.recipe.rcpSno = :rcpSno")
+    int deleteByUserPkAndRcpSno(@Param("userId") Long userId, @Param("rcpSno") Long rcpSno);
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.recipe.repository;
+
+import com.recipe.domain.dto.Recipe.RecipeCardDTO;
+import com.recipe.domain.dto.Recipe.RecipeCursor;
+import com.recipe.domain.dto.SortBy;
+import com.recipe.domain.entity.Recipe;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Specification 조건으로 카드 컬럼만 조회 (RecipeRepository 확장 fragment)
+ * JpaSpecificationExecutor.findAll은 엔티티 전체(CKG_MTRL_CN 포함)를 읽으므로 목록 검색은 이쪽 사용
+ */
+public interface RecipeCardRepository {
+
+    Page<RecipeCardDTO> findCards(Specification<Recipe> spec, Pageable pageable);
+
+    /**
+     * 키셋 페이징 - 커서 다음 카드 limit건 (정렬 키 내림차순, 같으면 번호 내림차순, 키가 NULL인 레시피는 맨 뒤)
+     * OFFSET/COUNT 없이 (정렬 키, RCP_SNO) 인덱스 범위만 읽으므로 깊은 페이지도 첫 페이지와 비용이 같음
+     * @param spec 검색 조건 (null이면 전체)
+     * @param cursor null이면 첫 페이지
+     */
+    List<RecipeCardDTO> findCardsAfter(Specification<Recipe> spec, SortBy sortBy, RecipeCursor cursor, int limit);
+}
@@ -0,0 +1,125 @@
+package com.recipe.repository;
+
+import com.recipe.domain.dto.Recipe.RecipeCardDTO;
+import com.recipe.domain.dto.Recipe.RecipeCursor;
+import com.recipe.domain.dto.SortBy;
+import com.recipe.domain.entity.Recipe;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class RecipeCardRepositoryImpl implements RecipeCardRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<RecipeCardDTO> findCards(Specification<Recipe> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<RecipeCardDTO> query = cb.createQuery(RecipeCardDTO.class);
+        Root<Recipe> root = query.from(Recipe.class);
+        selectCard(cb, query, root);
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<RecipeCardDTO> typed = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typed.setFirstResult((int) pageable.getOffset());
+            typed.setMaxResults(pageable.getPageSize());
+        }
+        List<RecipeCardDTO> content = typed.getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<RecipeCardDTO> findCardsAfter(Specification<Recipe> spec, SortBy sortBy, RecipeCursor cursor, int limit) {
+        List<RecipeCardDTO> result = new ArrayList<>(limit);
+        if (cursor == null || !cursor.isNullKey()) {
+            result.addAll(seek(spec, sortBy, cursor, false, limit));
+            if (result.size() == limit) {
+                return result;
+            }
+        }
+        // 정렬 키가 있는 구간을 다 읽었으면 키가 NULL인 구간으로 이어서 조회
+        RecipeCursor tailCursor = cursor != null && cursor.isNullKey() ? cursor : null;
+        result.addAll(seek(spec, sortBy, tailCursor, true, limit - result.size()));
+        return result;
+    }
+
+    // WHERE key < :key OR (key = :key AND RCP_SNO < :rcpSno) ORDER BY key DESC, RCP_SNO DESC LIMIT n
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private List<RecipeCardDTO> seek(Specification<Recipe> spec, SortBy sortBy, RecipeCursor cursor,
+                                     boolean nullKeys, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<RecipeCardDTO> query = cb.createQuery(RecipeCardDTO.class);
+        Root<Recipe> root = query.from(Recipe.class);
+        selectCard(cb, query, root);
+
+        Path key = root.get(sortBy.getFieldName());
+        Path<Long> rcpSno = root.get("rcpSno");
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate condition = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (condition != null) {
+            predicates.add(condition);
+        }
+        if (nullKeys) {
+            predicates.add(cb.isNull(key));
+            if (cursor != null) {
+                predicates.add(cb.lessThan(rcpSno, cursor.getRcpSno()));
+            }
+            query.orderBy(cb.desc(rcpSno));
+        } else {
+            predicates.add(cb.isNotNull(key));
+            if (cursor != null) {
+                Comparable cursorKey = cursor.getKey();
+                predicates.add(cb.or(
+                        cb.lessThan(key, cursorKey),
+                        cb.and(cb.equal(key, cursorKey), cb.lessThan(rcpSno, cursor.getRcpSno()))));
+            }
+            query.orderBy(cb.desc(key), cb.desc(rcpSno));
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    // 생성자 인자 순서는 RecipeCardDTO 필드 순서와 동일
+    private static void selectCard(CriteriaBuilder cb, CriteriaQuery<RecipeCardDTO> query, Root<Recipe> root) {
+        query.select(cb.construct(RecipeCardDTO.class,
+                root.get("rcpSno"), root.get("userId"), root.get("rcpTtl"), root.get("ckgNm"),
+                root.get("rcpImgUrl"), root.get("rcpImgPlaceholder"), root.get("inqCnt"), root.get("rcmmCnt"),
+                root.get("ckgDodfNm"), root.get("ckgTimeNm"), root.get("firstRegDt")));
+    }
+
+    private long count(Specification<Recipe> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Recipe> root = query.from(Recipe.class);
+        query.select(cb.count(root));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
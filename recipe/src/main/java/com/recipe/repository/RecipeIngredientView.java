@@ -0,0 +1,9 @@
+package com.recipe.repository;
+
+/**
+ * 재료 인덱스 적재용 프로젝션 (레시피 번호 + 재료 텍스트만 조회)
+ */
+public interface RecipeIngredientView {
+    Long getRcpSno();
+    String getCkgMtrlCn();
+}
@@ -1,33 +1,90 @@
 package com.recipe.repository;
 
+import com.recipe.domain.dto.Recipe.RecipeCardDTO;
 import com.recipe.domain.entity.Recipe;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface RecipeRepository extends JpaRepository<Recipe, Long>, JpaSpecificationExecutor<Recipe> {
+public interface RecipeRepository extends JpaRepository<Recipe, Long>, JpaSpecificationExecutor<Recipe>,
+        RecipeCardRepository {
+
+    /**
+     * 목록용 카드 컬럼만 조회 (CKG_MTRL_CN 등 본문 컬럼 제외, 인자 순서는 RecipeCardDTO 필드 순서)
+     */
+    String CARD_SELECT = "SELECT new com.recipe.domain.dto.Recipe.RecipeCardDTO(" +
+            "r.rcpSno, r.userId, r.rcpTtl, r.ckgNm, r.rcpImgUrl, r.rcpImgPlaceholder, r.inqCnt, r.rcmmCnt, " +
+            "r.ckgDodfNm, r.ckgTimeNm, r.firstRegDt) FROM Recipe r";
     
     // 기존 메서드 (인기순 10개)
     List<Recipe> findTop10ByOrderByRcmmCntDesc();
+
+    // ========== 목록 카드 ==========
+
+    /**
+     * 전체 레시피 카드 페이지 (정렬은 Pageable의 Sort)
+     */
+    @Query(value = CARD_SELECT, countQuery = "SELECT COUNT(r) FROM Recipe r")
+    Page<RecipeCardDTO> findAllCards(Pageable pageable);
+
+    /**
+     * 번호 목록의 카드 (순서 보장 안 함, 카드 캐시의 DB 조회용)
+     */
+    @Query(CARD_SELECT + " WHERE r.rcpSno IN :ids")
+    List<RecipeCardDTO> findCardsByRcpSnoIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 사용자가 작성한 레시피 카드 (최신순)
+     */
+    @Query(CARD_SELECT + " WHERE r.userId = :userId ORDER BY r.firstRegDt DESC")
+    List<RecipeCardDTO> findCardsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 전체 레시피 수 근사값 (InnoDB 테이블 통계, COUNT(*) 스캔 없음)
+     */
+    @Query(value = "SELECT CAST(TABLE_ROWS AS SIGNED) FROM information_schema.TABLES " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'recipes'",
+            nativeQuery = true)
+    Long approximateCount();
     
     // ========== 검색 메서드 ==========
     
     /**
-     * 레시피 제목, 요리명, 재료로 검색 (부분 일치)
+     * 레시피 제목, 요리명, 재료로 검색 (부분 일치) - 재료는 조건에만 쓰고 결과는 카드 컬럼만
      */
-    @Query("SELECT r FROM Recipe r WHERE " +
+    @Query(value = CARD_SELECT + " WHERE " +
             "r.rcpTtl LIKE %:keyword% OR " +
             "r.ckgNm LIKE %:keyword% OR " +
             "r.ckgMtrlCn LIKE %:keyword% " +
-            "ORDER BY r.rcmmCnt DESC, r.rcpSno DESC")
-    Page<Recipe> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
+            "ORDER BY r.rcmmCnt DESC, r.rcpSno DESC",
+            countQuery = "SELECT COUNT(r) FROM Recipe r WHERE " +
+            "r.rcpTtl LIKE %:keyword% OR " +
+            "r.ckgNm LIKE %:keyword% OR " +
+            "r.ckgMtrlCn LIKE %:keyword%")
+    Page<RecipeCardDTO> searchCardsByKeyword(@Param("keyword") String keyword, Pageable pageable);
+
+    /**
+     * FULLTEXT 인덱스(FT_RECIPE_SEARCH) 검색 - 관련도순, 같으면 추천순
+     * 레시피 번호만 반환 (카드는 RecipeCardCache에서 조립)
+     * @param query BOOLEAN MODE 검색식 (예: "+김치* +찌개*")
+     */
+    @Query(value = "SELECT RCP_SNO FROM recipes " +
+            "WHERE MATCH(RCP_TTL, CKG_NM, CKG_MTRL_CN) AGAINST (:query IN BOOLEAN MODE) " +
+            "ORDER BY MATCH(RCP_TTL, CKG_NM, CKG_MTRL_CN) AGAINST (:query IN BOOLEAN MODE) DESC, " +
+            "RCMM_CNT DESC, RCP_SNO DESC",
+            countQuery = "SELECT COUNT(*) FROM recipes " +
+            "WHERE MATCH(RCP_TTL, CKG_NM, CKG_MTRL_CN) AGAINST (:query IN BOOLEAN MODE)",
+            nativeQuery = true)
+    Page<Long> searchIdsByFullText(@Param("query") String query, Pageable pageable);
     
     /**
      * 레시피 제목으로만 검색 (List 반환)
@@ -42,7 +99,44 @@ public interface RecipeRepository extends JpaRepository<Recipe, Long>, JpaSpecif
      * 냉장고 기반 추천 레시피에 사용
      */
     List<Recipe> findByckgMtrlCnContaining(String ingredientName);
-    
+
+    /**
+     * 재료 인덱스 적재용 키셋 페이징 (rcpSno 오름차순 1000건씩)
+     */
+    List<RecipeIngredientView> findTop1000ByRcpSnoGreaterThanOrderByRcpSnoAsc(Long rcpSno);
+
+    /**
+     * 검색 인덱스 재구성용 키셋 페이징 (rcpSno 오름차순 500건씩)
+     */
+    List<Recipe> findTop500ByRcpSnoGreaterThanOrderByRcpSnoAsc(Long rcpSno);
+
+    // ========== 좋아요 수 (RCMM_CNT) ==========
+
+    /**
+     * 좋아요 수 증감 - 행 하나에 대한 원자적 UPDATE (0 미만으로 내려가지 않음)
+     * 좋아요 추가/삭제와 같은 트랜잭션에서 호출
+     */
+    @Modifying
+    @Query("UPDATE Recipe r SET r.rcmmCnt = CASE WHEN COALESCE(r.rcmmCnt, 0) + :delta < 0 THEN 0 " +
+            "ELSE COALESCE(r.rcmmCnt, 0) + :delta END WHERE r.rcpSno = :rcpSno")
+    int addLikeCount(@Param("rcpSno") Long rcpSno, @Param("delta") int delta);
+
+    /**
+     * 현재 좋아요 수 (addLikeCount 직후 호출하면 같은 트랜잭션이 잠근 값)
+     */
+    @Query("SELECT COALESCE(r.rcmmCnt, 0) FROM Recipe r WHERE r.rcpSno = :rcpSno")
+    Integer findLikeCount(@Param("rcpSno") Long rcpSno);
+
+    /**
+     * 회원 탈퇴 시 그 사용자가 좋아요한 레시피들의 좋아요 수 1씩 감소 (LIKES 삭제 전에 호출)
+     */
+    @Modifying
+    @Query(value = "UPDATE recipes r JOIN likes l ON l.RCP_SNO = r.RCP_SNO " +
+            "SET r.RCMM_CNT = GREATEST(COALESCE(r.RCMM_CNT, 0) - 1, 0) " +
+            "WHERE l.USER_ID = :userId",
+            nativeQuery = true)
+    int decreaseLikeCountsByUserId(@Param("userId") Long userId);
+
     // ========== 사용자 관련 메서드 ==========
 
     /**
@@ -1,13 +1,33 @@
 package com.recipe.repository;
 
 import com.recipe.domain.entity.Recipe;
+import com.recipe.domain.entity.RecipeIngredient;
 import org.springframework.data.jpa.domain.Specification;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 public class RecipeSpecification {
 
+    /**
+     * 제목, 요리명, 재료에 검색어 포함 (RecipeRepository.searchCardsByKeyword와 같은 조건)
+     */
+    public static Specification<Recipe> keywordContains(String keyword) {
+        return (root, query, criteriaBuilder) -> {
+            String pattern = "%" + keyword + "%";
+            return criteriaBuilder.or(
+                    criteriaBuilder.like(root.get("rcpTtl"), pattern),
+                    criteriaBuilder.like(root.get("ckgNm"), pattern),
+                    criteriaBuilder.like(root.get("ckgMtrlCn"), pattern));
+        };
+    }
+
     public static Specification<Recipe> hasIngredients(List<String> ingredients) {
         return (root, query, criteriaBuilder) -> {
             // 검색할 재료가 없으면 아무것도 필터링하지 않음 (전체 조회 방지용으로 null 리턴하거나, 빈 리스트 처리)
@@ -26,4 +46,54 @@ public class RecipeSpecification {
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
     }
+
+    /**
+     * 재료 사전 ID 그룹을 모두 포함한 레시피 (RECIPE_INGREDIENT 조인, 텍스트 검색 없음)
+     * rcpSno IN (SELECT RCP_SNO FROM RECIPE_INGREDIENT WHERE INGREDIENT_ID IN (...) GROUP BY RCP_SNO HAVING ...)
+     * @param ingredientIdGroups 입력 재료별 사전 ID (그룹 중 하나라도 포함하면 그 재료를 가진 것으로 봄)
+     */
+    public static Specification<Recipe> hasAllIngredients(List<? extends Collection<Long>> ingredientIdGroups) {
+        return (root, query, criteriaBuilder) -> {
+            if (ingredientIdGroups == null || ingredientIdGroups.isEmpty()) {
+                return null;
+            }
+
+            Set<Long> allIds = new HashSet<>();
+            boolean singleIdPerGroup = true;
+            for (Collection<Long> group : ingredientIdGroups) {
+                // 사전에 없는 재료가 있으면 결과 없음
+                if (group.isEmpty()) {
+                    return criteriaBuilder.disjunction();
+                }
+                allIds.addAll(group);
+                singleIdPerGroup &= group.size() == 1;
+            }
+
+            Subquery<Long> subquery = query.subquery(Long.class);
+            Root<RecipeIngredient> recipeIngredient = subquery.from(RecipeIngredient.class);
+            Expression<Long> ingredientId = recipeIngredient.get("ingredientId");
+
+            Predicate having;
+            if (singleIdPerGroup && allIds.size() == ingredientIdGroups.size()) {
+                // 재료 하나당 사전 ID 하나 → HAVING COUNT(*) = n
+                having = criteriaBuilder.equal(criteriaBuilder.count(recipeIngredient), (long) allIds.size());
+            } else {
+                // 재료마다 그룹 내 ID가 하나 이상 있어야 함
+                List<Predicate> perGroup = new ArrayList<>();
+                for (Collection<Long> group : ingredientIdGroups) {
+                    Expression<Integer> hit = criteriaBuilder.<Integer>selectCase()
+                            .when(ingredientId.in(group), 1)
+                            .otherwise(0);
+                    perGroup.add(criteriaBuilder.greaterThan(criteriaBuilder.sum(hit), 0));
+                }
+                having = criteriaBuilder.and(perGroup.toArray(new Predicate[0]));
+            }
+
+            subquery.select(recipeIngredient.get("rcpSno"))
+                    .where(ingredientId.in(allIds))
+                    .groupBy(recipeIngredient.get("rcpSno"))
+                    .having(having);
+            return root.get("rcpSno").in(subquery);
+        };
+    }
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.recipe.repository;
+
+import com.recipe.domain.entity.enums.PreferenceType;
+
+/**
+ * 사용자별 레시피 선호 집계 프로젝션 (레시피 번호, 선호 타입, 횟수)
+ */
+public interface UserPreferenceCount {
+    Long getRcpSno();
+    PreferenceType getPreference();
+    Long getCnt();
+}
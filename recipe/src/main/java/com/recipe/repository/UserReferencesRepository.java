@@ -62,9 +62,24 @@ public interface UserReferencesRepository extends JpaRepository<UserReferences,
     void deleteByUserId(@Param("userId") Long userId);
     
     /**
-     * ✅ 전체 UserReferences 조회 (알고리즘에서 사용)
+     * ✅ 특정 사용자의 특정 타입 레시피 번호만 조회 (카드는 RecipeCardCache에서 조회)
      */
-    List<UserReferences> findAll();
+    @Query("SELECT ur.recipe.rcpSno FROM UserReferences ur " +
+           "WHERE ur.user.userId = :userId AND ur.preference = :preference ORDER BY ur.preferenceId")
+    List<Long> findRecipeIdsByUserIdAndPreference(
+            @Param("userId") Long userId,
+            @Param("preference") PreferenceType preference);
+
+    /**
+     * ✅ 특정 사용자의 레시피별 선호 타입 집계 (추천 알고리즘에서 사용)
+     * 사용자 한 명의 기록만 GROUP BY 하므로 전체 테이블을 읽지 않음
+     */
+    @Query("SELECT ur.recipe.rcpSno AS rcpSno, ur.preference AS preference, COUNT(ur) AS cnt " +
+           "FROM UserReferences ur " +
+           "WHERE ur.user.userId = :userId " +
+           "GROUP BY ur.recipe.rcpSno, ur.preference " +
+           "ORDER BY ur.recipe.rcpSno")
+    List<UserPreferenceCount> countPreferencesByUserId(@Param("userId") Long userId);
 
     /**
      * ✅ 레시피 삭제 시 해당 레시피의 모든 참조 기록 삭제
@@ -73,4 +88,23 @@ public interface UserReferencesRepository extends JpaRepository<UserReferences,
     @Modifying
     @Query("DELETE FROM UserReferences ur WHERE ur.recipe.rcpSno = :rcpSno")
     int deleteByRecipe_RcpSno(@Param("rcpSno") Long rcpSno);
+
+    /**
+     * ✅ 좋아요 기록 추가 (ID만 사용, UQ_USER_REFERENCE 중복이면 무시)
+     * NEXTVAL 값 V 하나만 쓰므로 pooled 구간 (V - 50, V]를 쓰는 Hibernate/ViewHistoryWriter와 겹치지 않음
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO user_reference " +
+            "(PREFERENCE_ID, USER_ID, RCP_SNO, PREFERENCE_TYPE, CREATED_AT, MODIFIED_AT) " +
+            "VALUES (NEXTVAL(user_references_seq), :userId, :rcpSno, 'LIKE', NOW(), NOW())", nativeQuery = true)
+    int insertLikeIfAbsent(@Param("userId") Long userId, @Param("rcpSno") Long rcpSno);
+
+    /**
+     * ✅ 특정 사용자/레시피/선호 타입 기록 삭제 (엔티티 조회 없이 ID로 삭제)
+     */
+    @Modifying
+    @Query("DELETE FROM UserReferences ur WHERE ur.user.userId = :userId " +
+           "AND ur.recipe.rcpSno = :rcpSno AND ur.preference = :preference")
+    int deleteByIds(@Param("userId") Long userId, @Param("rcpSno") Long rcpSno,
+                    @Param("preference") PreferenceType preference);
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package com.recipe.repository;
 
 import com.recipe.domain.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -26,4 +28,8 @@ public interface UserRepository extends JpaRepository<User, Long> {  // ✅ Long
     
     // PK(userId)로 회원 찾기
     Optional<User> findByUserId(Long userId);
+
+    // 회원 행 잠금 (같은 사용자의 좋아요/북마크 토글을 트랜잭션 끝까지 한 줄로 세움)
+    @Query(value = "SELECT USER_ID FROM users WHERE USER_ID = :userId FOR UPDATE", nativeQuery = true)
+    Long lockByUserId(@Param("userId") Long userId);
 }
\ No newline at end of file
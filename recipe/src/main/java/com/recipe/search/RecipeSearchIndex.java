@@ -0,0 +1,521 @@
+package com.recipe.search;
+
+import com.recipe.domain.entity.Recipe;
+import com.recipe.event.RecipeChangedEvent;
+import com.recipe.repository.RecipeRepository;
+import com.recipe.service.SearchMode;
+import com.recipe.util.PageParams;
+import com.recipe.util.IngredientParser;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.analysis.ko.KoreanPartOfSpeechStopFilter;
+import org.apache.lucene.analysis.ko.KoreanTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.*;
+import org.apache.lucene.index.*;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.StringHelper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * 레시피 검색용 Lucene 인덱스 (recipe.search.mode=LUCENE일 때만 동작)
+ * - 로컬 디스크(MMapDirectory), 한국어 형태소 분석(Nori), BM25 관련도순
+ * - 레시피 등록/삭제는 커밋 후 NRT 검색기 갱신으로 바로 반영, 디스크 커밋(fsync)은 주기적으로 한 번에
+ *   (비정상 종료 시 마지막 커밋 이후 변경은 다음 전체 재구성에서 복구)
+ * - 전체 재구성은 새 디렉터리에 만든 뒤 교체하므로 검색이 멈추지 않음
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class RecipeSearchIndex {
+
+    static final String F_ID = "id";
+    static final String F_RCP_SNO = "rcpSno";
+    static final String F_TITLE = "title";
+    static final String F_DISH = "dish";
+    static final String F_INGREDIENTS = "ingredients";
+    static final String F_INGREDIENT_NAME = "ingredientName";
+    static final String F_METHOD = "method";
+    static final String F_DIFFICULTY = "difficulty";
+    static final String F_POPULARITY = "popularity";
+
+    private static final String GENERATION_PREFIX = "gen-";
+    private static final int LOAD_BATCH_SIZE = 500;
+    private static final int SUGGESTION_SCAN_LIMIT = 1000;
+
+    // 필드별 가중치 (제목 > 요리명 > 재료 > 조리방법/난이도)
+    private static final Map<String, Float> SEARCH_FIELDS = Map.of(
+            F_TITLE, 3.0f,
+            F_DISH, 2.0f,
+            F_INGREDIENTS, 1.0f,
+            F_METHOD, 0.5f,
+            F_DIFFICULTY, 0.5f);
+
+    // 관련도(BM25) → 추천수 → 번호 순
+    private static final Sort RANKING = new Sort(
+            SortField.FIELD_SCORE,
+            new SortField(F_POPULARITY, SortField.Type.LONG, true),
+            new SortField(F_RCP_SNO, SortField.Type.LONG, true));
+
+    private final RecipeRepository recipeRepository;
+
+    @Value("${recipe.search.mode:LIKE}")
+    private SearchMode searchMode;
+
+    @Value("${recipe.search.lucene.dir:./data/lucene}")
+    private String indexDir;
+
+    // "돼지고기" → 돼지고기 + 돼지 + 고기 (복합명사 분해 결과도 함께 색인)
+    private final Analyzer analyzer = new KoreanAnalyzer(null, KoreanTokenizer.DecompoundMode.MIXED,
+            KoreanPartOfSpeechStopFilter.DEFAULT_STOP_TAGS, false);
+
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "recipe-search-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Object rebuildLock = new Object();
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+    private volatile IndexHandle handle;
+
+    public boolean isEnabled() {
+        return searchMode == SearchMode.LUCENE;
+    }
+
+    /**
+     * 검색 가능 여부 (인덱스가 아직 없으면 DB 검색으로 대체)
+     */
+    public boolean isReady() {
+        return isEnabled() && handle != null;
+    }
+
+    /**
+     * 기동 시 기존 인덱스를 열고, 없으면 백그라운드로 전체 색인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            Optional<Path> latest = latestGeneration();
+            if (latest.isPresent() && DirectoryReader.indexExists(new MMapDirectory(latest.get()))) {
+                handle = IndexHandle.open(latest.get(), analyzer, IndexWriterConfig.OpenMode.APPEND);
+                log.info("검색 인덱스 열기 완료 - {}", latest.get());
+                return;
+            }
+        } catch (IOException e) {
+            log.warn("기존 검색 인덱스를 열 수 없어 새로 만듭니다.", e);
+        }
+        rebuildAsync();
+    }
+
+    /**
+     * 전체 재구성 요청 (백그라운드)
+     */
+    public void rebuildAsync() {
+        if (isEnabled()) {
+            rebuildExecutor.submit(this::rebuild);
+        }
+    }
+
+    /**
+     * 전체 재구성 - 새 디렉터리에 색인한 뒤 교체 (재구성 중에도 기존 인덱스로 검색)
+     * @return 색인한 레시피 수
+     */
+    public int rebuild() {
+        if (!isEnabled()) {
+            return 0;
+        }
+        synchronized (rebuildLock) {
+            long start = System.currentTimeMillis();
+            changedDuringRebuild.clear();
+            rebuilding = true;
+            IndexHandle newHandle = null;
+            int count = 0;
+            try {
+                Path path = Paths.get(indexDir).resolve(GENERATION_PREFIX + System.currentTimeMillis());
+                Files.createDirectories(path);
+                newHandle = IndexHandle.open(path, analyzer, IndexWriterConfig.OpenMode.CREATE);
+
+                long lastRcpSno = 0L;
+                while (true) {
+                    List<Recipe> recipes = recipeRepository.findTop500ByRcpSnoGreaterThanOrderByRcpSnoAsc(lastRcpSno);
+                    if (recipes.isEmpty()) {
+                        break;
+                    }
+                    for (Recipe recipe : recipes) {
+                        newHandle.writer.addDocument(toDocument(recipe));
+                    }
+                    count += recipes.size();
+                    lastRcpSno = recipes.get(recipes.size() - 1).getRcpSno();
+                }
+                newHandle.writer.commit();
+                newHandle.searcherManager.maybeRefreshBlocking();
+
+                IndexHandle oldHandle = handle;
+                handle = newHandle;
+                rebuilding = false;
+
+                // 재구성 중 들어온 변경 다시 반영
+                for (Long rcpSno : changedDuringRebuild) {
+                    recipeRepository.findById(rcpSno).ifPresentOrElse(
+                            recipe -> apply(RecipeChangedEvent.saved(recipe)),
+                            () -> apply(RecipeChangedEvent.deleted(rcpSno)));
+                }
+                changedDuringRebuild.clear();
+
+                if (oldHandle != null) {
+                    oldHandle.close();
+                }
+                deleteOldGenerations(path);
+                log.info("검색 인덱스 재구성 완료 - {}건, {}ms", count, System.currentTimeMillis() - start);
+                return count;
+            } catch (Exception e) {
+                rebuilding = false;
+                if (newHandle != null && newHandle != handle) {
+                    newHandle.close();
+                }
+                log.error("검색 인덱스 재구성 실패 - 기존 인덱스 유지", e);
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 레시피 등록/삭제 커밋 후 인덱스 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        if (!isEnabled()) {
+            return;
+        }
+        if (rebuilding) {
+            changedDuringRebuild.add(event.getRcpSno());
+        }
+        apply(event);
+    }
+
+    private void apply(RecipeChangedEvent event) {
+        IndexHandle current = handle;
+        if (current == null) {
+            return;
+        }
+        try {
+            Term id = new Term(F_ID, String.valueOf(event.getRcpSno()));
+            if (event.isDeleted()) {
+                current.writer.deleteDocuments(id);
+            } else {
+                current.writer.updateDocument(id, toDocument(event.getRecipe()));
+            }
+            // 검색 반영은 NRT 갱신으로 충분 - 커밋은 commitPending()에서 모아서
+            current.searcherManager.maybeRefresh();
+        } catch (IOException | AlreadyClosedException e) {
+            log.warn("검색 인덱스 반영 실패 - rcpSno: {}", event.getRcpSno(), e);
+        }
+    }
+
+    /**
+     * 반영된 변경을 주기적으로 디스크에 커밋 (변경이 없으면 아무것도 안 함)
+     */
+    @Scheduled(initialDelayString = "${recipe.search.lucene.commit-interval-ms:30000}",
+            fixedDelayString = "${recipe.search.lucene.commit-interval-ms:30000}")
+    public void commitPending() {
+        IndexHandle current = handle;
+        if (current == null) {
+            return;
+        }
+        try {
+            if (current.writer.hasUncommittedChanges()) {
+                current.writer.commit();
+            }
+        } catch (IOException | AlreadyClosedException e) {
+            log.warn("검색 인덱스 커밋 실패", e);
+        }
+    }
+
+    /**
+     * 제목/요리명/재료/조리방법/난이도 통합 검색
+     * 검색어의 모든 형태소가 (어느 필드든) 포함된 레시피만 BM25 관련도순으로 반환
+     */
+    public Optional<SearchHits> searchKeyword(String keyword, int offset, int size) {
+        List<String> terms = analyze(keyword);
+        if (terms.isEmpty()) {
+            return Optional.of(SearchHits.EMPTY);
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String term : terms) {
+            List<Query> perField = new ArrayList<>();
+            for (Map.Entry<String, Float> field : SEARCH_FIELDS.entrySet()) {
+                perField.add(new BoostQuery(new TermQuery(new Term(field.getKey(), term)), field.getValue()));
+            }
+            query.add(new DisjunctionMaxQuery(perField, 0.1f), BooleanClause.Occur.MUST);
+        }
+        return search(query.build(), offset, size);
+    }
+
+    /**
+     * 재료 검색 - 입력한 재료를 모두 포함한 레시피 (재료1 AND 재료2 ...)
+     */
+    public Optional<SearchHits> searchIngredients(List<String> ingredients, int offset, int size) {
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        boolean hasClause = false;
+        for (String ingredient : ingredients) {
+            for (String term : analyze(ingredient)) {
+                query.add(new TermQuery(new Term(F_INGREDIENTS, term)), BooleanClause.Occur.MUST);
+                hasClause = true;
+            }
+        }
+        if (!hasClause) {
+            return Optional.of(SearchHits.EMPTY);
+        }
+        return search(query.build(), offset, size);
+    }
+
+    /**
+     * 재료명 자동완성 - 접두어로 시작하는 재료명을 사용 레시피 수 순으로
+     */
+    public Optional<List<String>> suggestIngredients(String prefix, int limit) {
+        String normalized = IngredientParser.normalize(prefix);
+        IndexHandle current = handle;
+        if (normalized == null || current == null) {
+            return Optional.empty();
+        }
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = current.searcherManager.acquire();
+            Terms terms = MultiTerms.getTerms(searcher.getIndexReader(), F_INGREDIENT_NAME);
+            if (terms == null) {
+                return Optional.of(List.of());
+            }
+
+            BytesRef prefixBytes = new BytesRef(normalized);
+            TermsEnum termsEnum = terms.iterator();
+            List<Map.Entry<String, Integer>> matches = new ArrayList<>();
+            if (termsEnum.seekCeil(prefixBytes) != TermsEnum.SeekStatus.END) {
+                int scanned = 0;
+                do {
+                    BytesRef term = termsEnum.term();
+                    if (!StringHelper.startsWith(term, prefixBytes) || scanned++ >= SUGGESTION_SCAN_LIMIT) {
+                        break;
+                    }
+                    matches.add(Map.entry(term.utf8ToString(), termsEnum.docFreq()));
+                } while (termsEnum.next() != null);
+            }
+
+            matches.sort(Map.Entry.<String, Integer>comparingByValue().reversed()
+                    .thenComparing(Map.Entry.comparingByKey()));
+            return Optional.of(matches.stream().limit(limit).map(Map.Entry::getKey).toList());
+        } catch (IOException | AlreadyClosedException e) {
+            log.warn("재료 자동완성 실패 - prefix: {}", prefix, e);
+            return Optional.empty();
+        } finally {
+            release(current, searcher);
+        }
+    }
+
+    private Optional<SearchHits> search(Query query, int offset, int size) {
+        IndexHandle current = handle;
+        if (current == null) {
+            return Optional.empty();
+        }
+
+        // 깊은 페이지/큰 size 요청으로 수집 힙이 커지지 않도록 제한
+        int from = Math.max(0, Math.min(offset, PageParams.MAX_RANKED_WINDOW));
+        int numHits = Math.min(from + Math.max(1, Math.min(size, PageParams.MAX_SIZE)), PageParams.MAX_RANKED_WINDOW);
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = current.searcherManager.acquire();
+            if (numHits <= from) {
+                return Optional.of(new SearchHits(List.of(), searcher.count(query)));
+            }
+            // 전체 건수도 같은 수집에서 정확히 셈 (count() 재실행 없음)
+            TopFieldDocs topDocs = searcher.search(query,
+                    new TopFieldCollectorManager(RANKING, numHits, null, Integer.MAX_VALUE));
+            long total = topDocs.totalHits.value;
+
+            StoredFields storedFields = searcher.storedFields();
+            List<Long> recipeIds = new ArrayList<>(numHits - from);
+            for (int i = from; i < topDocs.scoreDocs.length; i++) {
+                Document doc = storedFields.document(topDocs.scoreDocs[i].doc, Set.of(F_RCP_SNO));
+                recipeIds.add(doc.getField(F_RCP_SNO).numericValue().longValue());
+            }
+            return Optional.of(new SearchHits(recipeIds, total));
+        } catch (IOException | AlreadyClosedException e) {
+            log.warn("검색 인덱스 조회 실패 - DB 검색으로 대체", e);
+            return Optional.empty();
+        } finally {
+            release(current, searcher);
+        }
+    }
+
+    private static void release(IndexHandle current, IndexSearcher searcher) {
+        if (searcher == null) {
+            return;
+        }
+        try {
+            current.searcherManager.release(searcher);
+        } catch (IOException | AlreadyClosedException e) {
+            log.debug("검색기 반환 실패", e);
+        }
+    }
+
+    // 검색어 형태소 분석 (색인과 같은 분석기)
+    private List<String> analyze(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        Set<String> terms = new LinkedHashSet<>();
+        try (TokenStream stream = analyzer.tokenStream(F_TITLE, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new ArrayList<>(terms);
+    }
+
+    private static Document toDocument(Recipe recipe) {
+        Document doc = new Document();
+        long rcpSno = recipe.getRcpSno();
+        doc.add(new StringField(F_ID, String.valueOf(rcpSno), Field.Store.NO));
+        doc.add(new StoredField(F_RCP_SNO, rcpSno));
+        doc.add(new NumericDocValuesField(F_RCP_SNO, rcpSno));
+        addText(doc, F_TITLE, recipe.getRcpTtl());
+        addText(doc, F_DISH, recipe.getCkgNm());
+        addText(doc, F_METHOD, recipe.getCkgMthActoNm());
+        addText(doc, F_DIFFICULTY, recipe.getCkgDodfNm());
+
+        List<String> ingredientNames = IngredientParser.parseNames(recipe.getCkgMtrlCn());
+        addText(doc, F_INGREDIENTS, String.join(" ", ingredientNames));
+        for (String name : ingredientNames) {
+            doc.add(new StringField(F_INGREDIENT_NAME, name, Field.Store.NO));
+        }
+
+        doc.add(new NumericDocValuesField(F_POPULARITY, recipe.getRcmmCnt() != null ? recipe.getRcmmCnt() : 0));
+        return doc;
+    }
+
+    private static void addText(Document doc, String field, String value) {
+        if (value != null && !value.isBlank()) {
+            doc.add(new TextField(field, value, Field.Store.NO));
+        }
+    }
+
+    private Optional<Path> latestGeneration() throws IOException {
+        Path base = Paths.get(indexDir);
+        if (!Files.isDirectory(base)) {
+            return Optional.empty();
+        }
+        try (Stream<Path> dirs = Files.list(base)) {
+            return dirs.filter(p -> p.getFileName().toString().startsWith(GENERATION_PREFIX))
+                    .max(Comparator.comparing(p -> p.getFileName().toString()));
+        }
+    }
+
+    // 이전 세대 인덱스 디렉터리 삭제 (사용 중인 파일은 다음 재구성 때 다시 시도)
+    private void deleteOldGenerations(Path keep) {
+        try (Stream<Path> dirs = Files.list(keep.getParent())) {
+            dirs.filter(p -> p.getFileName().toString().startsWith(GENERATION_PREFIX) && !p.equals(keep))
+                    .forEach(RecipeSearchIndex::deleteDirectory);
+        } catch (IOException e) {
+            log.debug("이전 검색 인덱스 정리 실패", e);
+        }
+    }
+
+    private static void deleteDirectory(Path dir) {
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        } catch (IOException e) {
+            log.debug("디렉터리 삭제 실패 - {}", dir, e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        rebuildExecutor.shutdownNow();
+        IndexHandle current = handle;
+        handle = null;
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    /**
+     * 검색 결과 (현재 페이지의 레시피 번호 + 전체 건수)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class SearchHits {
+        static final SearchHits EMPTY = new SearchHits(List.of(), 0);
+
+        private final List<Long> recipeIds;
+        private final long totalHits;
+    }
+
+    // 한 세대의 인덱스 (디렉터리 + 쓰기 + 검색기)
+    private static class IndexHandle {
+        private final MMapDirectory directory;
+        private final IndexWriter writer;
+        private final SearcherManager searcherManager;
+
+        private IndexHandle(MMapDirectory directory, IndexWriter writer, SearcherManager searcherManager) {
+            this.directory = directory;
+            this.writer = writer;
+            this.searcherManager = searcherManager;
+        }
+
+        static IndexHandle open(Path path, Analyzer analyzer, IndexWriterConfig.OpenMode mode) throws IOException {
+            MMapDirectory directory = new MMapDirectory(path);
+            IndexWriterConfig config = new IndexWriterConfig(analyzer).setOpenMode(mode);
+            IndexWriter writer = new IndexWriter(directory, config);
+            SearcherManager searcherManager = new SearcherManager(writer, null);
+            return new IndexHandle(directory, writer, searcherManager);
+        }
+
+        void close() {
+            try {
+                searcherManager.close();
+                writer.close();
+                directory.close();
+            } catch (IOException e) {
+                log.warn("검색 인덱스 닫기 실패", e);
+            }
+        }
+    }
+}
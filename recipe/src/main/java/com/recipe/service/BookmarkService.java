@@ -1,6 +1,5 @@
 package com.recipe.service;
 
-import com.recipe.domain.entity.Bookmark;
 import com.recipe.domain.entity.User;
 import com.recipe.domain.entity.Recipe;
 import com.recipe.exceptions.recipe.RecipeException;
@@ -39,43 +38,46 @@ public class BookmarkService {
     }
 
     /**
-     * 북마크 토글 (추가/삭제)
+     * 북마크 추가 (엔티티 조회 없이 ID로 INSERT IGNORE)
+     * @return 새로 등록했으면 true, 이미 북마크 상태면 false
      */
-    public BookmarkResult toggleBookmark(String username, Long recipeId) {
-        log.info("북마크 토글 시작 - username: {}, recipeId: {}", username, recipeId);
-
-        // 사용자 조회 (String id로 조회)
-        User user = userRepository.findById(username)
-                .orElseThrow(() -> {
-                    log.error("사용자를 찾을 수 없음 - username: {}", username);
-                    return new RecipeException("사용자를 찾을 수 없습니다.", HttpStatus.NOT_FOUND);  // 수정
-                });
-
-        // 레시피 조회
-        Recipe recipe = recipeRepository.findById(recipeId)
-                .orElseThrow(() -> {
-                    log.error("레시피를 찾을 수 없음 - recipeId: {}", recipeId);
-                    return new RecipeException("레시피를 찾을 수 없습니다.", HttpStatus.NOT_FOUND);  // 수정
-                });
+    public boolean addBookmark(Long userId, Long recipeId) {
+        if (bookmarkRepository.insertIfAbsent(userId, recipeId) == 0) {
+            // 중복 외에 레시피가 없어도 0건 (INSERT IGNORE는 FK 오류도 무시)
+            if (!recipeRepository.existsById(recipeId)) {
+                log.error("레시피를 찾을 수 없음 - recipeId: {}", recipeId);
+                throw new RecipeException("레시피를 찾을 수 없습니다.", HttpStatus.NOT_FOUND);
+            }
+            return false;
+        }
+        log.info("북마크 추가 완료 - userId: {}, recipeId: {}", userId, recipeId);
+        return true;
+    }
 
-        // 기존 북마크 확인 (user.id는 String 타입)
-        boolean exists = bookmarkRepository.existsByUserIdAndRcpSno(user.getId(), recipeId);
+    /**
+     * 북마크 삭제 (DELETE 결과 건수로 판단)
+     * @return 삭제했으면 true, 북마크 기록이 없었으면 false
+     */
+    public boolean removeBookmark(Long userId, Long recipeId) {
+        if (bookmarkRepository.deleteByUserPkAndRcpSno(userId, recipeId) == 0) {
+            return false;
+        }
+        log.info("북마크 삭제 완료 - userId: {}, recipeId: {}", userId, recipeId);
+        return true;
+    }
 
-        if (exists) {
-            // 북마크 삭제
-            bookmarkRepository.deleteByUserIdAndRecipeRcpSno(user.getId(), recipeId);
-            log.info("북마크 삭제 완료 - username: {}, recipeId: {}", username, recipeId);
+    /**
+     * 북마크 토글 (추가/삭제)
+     * 회원 행을 먼저 잠가서 같은 사용자의 토글을 차례로 처리 (잠금 없이 연속 클릭하면 UQ_RECIPE_BOOKMARK 갭 잠금으로 데드락)
+     * 그 다음 DELETE 먼저 실행 → 지운 행이 없으면 INSERT (사용자/레시피 엔티티 조회 없음)
+     */
+    public BookmarkResult toggleBookmark(Long userId, Long recipeId) {
+        userRepository.lockByUserId(userId);
+        if (removeBookmark(userId, recipeId)) {
             return new BookmarkResult(false);
-        } else {
-            // 북마크 추가
-            Bookmark bookmark = Bookmark.builder()
-                    .user(user)
-                    .recipe(recipe)
-                    .build();
-            bookmarkRepository.save(bookmark);
-            log.info("북마크 추가 완료 - username: {}, recipeId: {}", username, recipeId);
-            return new BookmarkResult(true);
         }
+        addBookmark(userId, recipeId);
+        return new BookmarkResult(true);
     }
 
     /**
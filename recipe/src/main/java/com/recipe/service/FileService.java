@@ -1,39 +1,114 @@
 package com.recipe.service;
 
-import org.springframework.beans.factory.annotation.Value;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.UUID;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
 
+@Log4j2
 @Service
+@RequiredArgsConstructor
 public class FileService {
 
-    @Value("${file.upload-dir:C:/project/studio-recipe/recipe/uploads/images}")
-    private String uploadDir;
+    private static final String IMAGE_PATH_PREFIX = "/images/";
 
+    private final ImageStorageService imageStorageService;
+
+    /**
+     * 업로드 파일 저장 - 힙에 올리지 않고 임시 파일로 흘려 쓰면서 같은 스트림에서 SHA-256 계산
+     * 같은 내용이 이미 저장돼 있으면 업로드 없이 참조 수만 증가 (키: {sha256}.{확장자})
+     * 크기별 파일(card/detail)은 레시피 등록 커밋 후 ImageVariantService가 백그라운드에서 생성
+     */
     public String saveImage(MultipartFile file) throws IOException {
-        // 업로드 디렉토리가 없으면 생성
-        File directory = new File(uploadDir);
-        if (!directory.exists()) {
-            directory.mkdirs();
+        String extension = extension(file.getOriginalFilename());
+
+        Path temp = Files.createTempFile("upload-", extension);
+        try {
+            MessageDigest digest = sha256();
+            long size;
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                size = Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String key = imageStorageService.save(temp, hash, extension, size);
+
+            // 저장된 파일의 URL 반환 (예: /images/{sha256}.jpg)
+            return IMAGE_PATH_PREFIX + key;
+        } finally {
+            Files.deleteIfExists(temp);
         }
+    }
 
-        // 파일명 중복 방지 (UUID 사용)
-        String originalFilename = file.getOriginalFilename();
-        String extension = originalFilename.substring(originalFilename.lastIndexOf("."));
-        String savedFilename = UUID.randomUUID().toString() + extension;
+    /**
+     * 이미 저장된 이미지 URL에 참조 추가 (외부 URL은 대상 아님 → true)
+     * 참조 기록이 없는 /images/ URL이면 false - 참조 없이 등록하면 레시피 삭제 때 다른 레시피의 이미지를 지우게 됨
+     */
+    public boolean acquireImage(String imageUrl) {
+        if (imageUrl == null || !imageUrl.startsWith(IMAGE_PATH_PREFIX)) {
+            return true;
+        }
+        return imageStorageService.acquire(imageUrl.substring(IMAGE_PATH_PREFIX.length()));
+    }
 
-        // 파일 저장
-        Path filePath = Paths.get(uploadDir, savedFilename);
-        Files.write(filePath, file.getBytes());
+    /**
+     * 이미지 참조 해제 (외부 URL은 대상 아님, 실패해도 예외를 던지지 않음)
+     * 참조가 0이 되면 감소가 커밋된 뒤 별도 트랜잭션에서 파일 삭제
+     */
+    public void releaseImage(String imageUrl) {
+        if (imageUrl == null || !imageUrl.startsWith(IMAGE_PATH_PREFIX)) {
+            return;
+        }
+        String key = imageUrl.substring(IMAGE_PATH_PREFIX.length());
+        try {
+            if (imageStorageService.release(key)) {
+                imageStorageService.purge(key);
+            }
+        } catch (Exception e) {
+            log.error("이미지 참조 해제 실패: {}", imageUrl, e);
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 후 참조 해제 (롤백되면 이미지를 그대로 둠)
+     */
+    public void releaseImageAfterCommit(String imageUrl) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            releaseImage(imageUrl);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                releaseImage(imageUrl);
+            }
+        });
+    }
 
-        // 저장된 파일의 URL 반환 (예: /images/uuid.jpg)
-        return "/images/" + savedFilename;
+    // 소문자 확장자 (경로 문자 등이 섞인 확장자는 버림)
+    private static String extension(String originalFilename) {
+        int dot = originalFilename != null ? originalFilename.lastIndexOf(".") : -1;
+        String extension = dot >= 0 ? originalFilename.substring(dot).toLowerCase(Locale.ROOT) : "";
+        return extension.matches("\\.[a-z0-9]{1,10}") ? extension : "";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
-}
\ No newline at end of file
+}
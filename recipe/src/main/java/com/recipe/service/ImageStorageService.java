@@ -0,0 +1,126 @@
+package com.recipe.service;
+
+import com.recipe.repository.ImageBlobRepository;
+import com.recipe.storage.ImageStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 내용 주소(SHA-256) 기반 이미지 저장 + 참조 수 관리
+ * 같은 내용은 한 번만 저장하고 IMAGE_BLOB.REF_COUNT로 참조하는 레시피 수를 셈
+ * 참조가 0이 되면 REF_COUNT=0을 먼저 커밋하고, 그 다음 새 트랜잭션에서 원본과 크기별 파일을 저장소에서 삭제
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class ImageStorageService {
+
+    // {sha256 hex}{확장자} (이전 UUID 이름 파일은 참조 수 없이 바로 삭제)
+    private static final Pattern HASH_KEY = Pattern.compile("([0-9a-f]{64})(\\.[a-z0-9]{1,10})?");
+
+    private final ImageBlobRepository imageBlobRepository;
+    private final ImageStore imageStore;
+
+    /**
+     * 참조 1 증가 후 저장소에 없을 때만 업로드 (저장소 키 반환)
+     * 업로드 실패 시 참조 증가도 롤백
+     */
+    @Transactional(rollbackFor = IOException.class)
+    public String save(Path file, String hash, String extension, long size) throws IOException {
+        imageBlobRepository.acquire(hash, extension, size);
+        // 같은 내용이 다른 확장자로 먼저 올라왔으면 그 키를 그대로 사용
+        String key = hash + imageBlobRepository.findExt(hash);
+        if (imageStore.exists(key)) {
+            log.info("이미 저장된 이미지 - 업로드 생략: {}", key);
+        } else {
+            imageStore.put(key, file, ImageStore.contentType(key));
+            log.info("이미지 저장: {} ({}bytes)", key, size);
+        }
+        return key;
+    }
+
+    /**
+     * 이미 저장된 이미지에 참조 1 추가 (요청에 /images/ URL을 그대로 넣어 등록하는 경우)
+     * 호출한 트랜잭션에 참여하므로 레시피 저장이 롤백되면 참조 증가도 롤백
+     * 참조 기록이 없는 키(이전 UUID 이름 파일, 없는 이미지, 삭제 대기 중)는 false
+     */
+    @Transactional
+    public boolean acquire(String key) {
+        Matcher matcher = HASH_KEY.matcher(key);
+        if (!ImageStore.isValidKey(key) || !matcher.matches()) {
+            return false;
+        }
+        String hash = matcher.group(1);
+        if (!key.equals(hash + imageBlobRepository.findExt(hash))) {
+            return false;
+        }
+        return imageBlobRepository.acquireExisting(hash) > 0;
+    }
+
+    /**
+     * 참조 1 감소 - 0이 되면 true (파일은 이 트랜잭션이 커밋된 뒤 purge()로 삭제)
+     * 레시피 삭제 커밋 후(afterCommit)에도 호출되므로 항상 새 트랜잭션에서 처리
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean release(String key) {
+        if (!ImageStore.isValidKey(key)) {
+            log.warn("허용되지 않는 이미지 키 - 삭제 생략: {}", key);
+            return false;
+        }
+        Matcher matcher = HASH_KEY.matcher(key);
+        if (!matcher.matches()) {
+            // 이전 방식(UUID) 이미지는 참조 기록이 없으므로 바로 삭제 대상
+            return true;
+        }
+
+        String hash = matcher.group(1);
+        Integer refCount = imageBlobRepository.lockRefCount(hash);
+        if (refCount == null || refCount < 1) {
+            log.warn("참조 기록 없는 이미지 - 삭제 생략: {}", key);
+            return false;
+        }
+        imageBlobRepository.decrement(hash);
+        log.info("이미지 참조 감소: {} ({} → {})", key, refCount, refCount - 1);
+        return refCount == 1;
+    }
+
+    /**
+     * 참조 0인 이미지의 원본과 크기별 파일 삭제 (release() 커밋 후 호출)
+     * 행을 잠근 채 REF_COUNT가 아직 0인지 다시 확인 - 그 사이 같은 내용이 다시 올라왔으면 파일 유지
+     * 파일 삭제가 실패하면 REF_COUNT=0 행이 남고, 다음 업로드가 그 행을 다시 사용
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, rollbackFor = IOException.class)
+    public void purge(String key) throws IOException {
+        Matcher matcher = HASH_KEY.matcher(key);
+        if (!matcher.matches()) {
+            deleteWithVariants(key);
+            log.info("이전 방식(UUID) 이미지 삭제: {}", key);
+            return;
+        }
+
+        String hash = matcher.group(1);
+        Integer refCount = imageBlobRepository.lockRefCount(hash);
+        if (refCount == null || refCount > 0) {
+            log.info("이미지 다시 참조됨 - 삭제 생략: {}", key);
+            return;
+        }
+        // 행 잠금 중에 지우므로 같은 내용의 동시 업로드는 잠금 해제 후 새 행 + 새 업로드로 처리됨
+        deleteWithVariants(key);
+        imageBlobRepository.deleteByHash(hash);
+        log.info("이미지 삭제 (참조 0): {}", key);
+    }
+
+    private void deleteWithVariants(String key) throws IOException {
+        for (ImageVariant variant : ImageVariant.values()) {
+            imageStore.delete(variant.keyOf(key));
+        }
+    }
+}
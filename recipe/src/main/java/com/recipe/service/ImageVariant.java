@@ -0,0 +1,42 @@
+package com.recipe.service;
+
+import java.util.Locale;
+
+/**
+ * 업로드 이미지 크기 (GET /images/{filename}?variant=card)
+ * 생성 전이거나 원본이 더 작으면 원본으로 응답
+ */
+public enum ImageVariant {
+    CARD,       // 목록 카드 (recipe.image.card-width)
+    DETAIL,     // 상세 화면 (recipe.image.detail-width)
+    ORIGINAL;   // 업로드 원본
+
+    public String suffix() {
+        return "_" + name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 원본 키의 크기별 키 (abc.jpg → abc_card.jpg, ORIGINAL이면 원본 키)
+     */
+    public String keyOf(String originalKey) {
+        if (this == ORIGINAL) {
+            return originalKey;
+        }
+        int dot = originalKey.lastIndexOf('.');
+        return dot >= 0
+                ? originalKey.substring(0, dot) + suffix() + originalKey.substring(dot)
+                : originalKey + suffix();
+    }
+
+    // 모르는 값이면 원본
+    public static ImageVariant from(String value) {
+        if (value != null) {
+            for (ImageVariant variant : values()) {
+                if (variant.name().equalsIgnoreCase(value)) {
+                    return variant;
+                }
+            }
+        }
+        return ORIGINAL;
+    }
+}
@@ -0,0 +1,288 @@
+package com.recipe.service;
+
+import com.recipe.event.RecipeChangedEvent;
+import com.recipe.storage.ImageStore;
+import com.recipe.storage.StoredImage;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 이미지 크기별 파일(card/detail)과 미리보기(placeholder) 생성
+ * 레시피 등록 커밋 후 크기 제한된 작업 큐에 넣고 백그라운드 스레드에서 처리 (요청 스레드는 기다리지 않음)
+ * 큐가 가득 차면 버림 - 크기별 파일이 없으면 ImageController가 원본으로 응답
+ * 원본이 목표 너비보다 작거나 읽을 수 없는 형식이면 원본을 저장소 안에서 복사해서 크기별 파일로 사용
+ * 픽셀 수가 max-pixels를 넘는 원본은 디코딩하지 않음 (헤더의 가로/세로만 읽어서 확인)
+ * 키: {원본 키}_card.{확장자}, {원본 키}_detail.{확장자} (같은 내용의 이미지면 이미 만든 파일을 그대로 사용)
+ */
+@Log4j2
+@Service
+public class ImageVariantService {
+
+    private static final String UPDATE_SQL =
+            "UPDATE recipes SET RCP_IMG_VARIANTS = ?, RCP_IMG_PLACEHOLDER = ? WHERE RCP_SNO = ?";
+    private static final String IMAGE_PATH_PREFIX = "/images/";
+    private static final int PLACEHOLDER_MAX_LENGTH = 2000;   // RCP_IMG_PLACEHOLDER 컬럼 길이
+
+    private final ImageStore imageStore;
+    private final JdbcTemplate jdbcTemplate;
+    private final RecipeCardCache recipeCardCache;
+    private final int cardWidth;
+    private final int detailWidth;
+    private final int placeholderWidth;
+    private final long maxPixels;
+    private final ThreadPoolExecutor executor;
+
+    public ImageVariantService(JdbcTemplate jdbcTemplate,
+                               RecipeCardCache recipeCardCache,
+                               ImageStore imageStore,
+                               @Value("${recipe.image.card-width:400}") int cardWidth,
+                               @Value("${recipe.image.detail-width:1080}") int detailWidth,
+                               @Value("${recipe.image.placeholder-width:16}") int placeholderWidth,
+                               @Value("${recipe.image.worker-threads:2}") int workerThreads,
+                               @Value("${recipe.image.queue-capacity:100}") int queueCapacity,
+                               @Value("${recipe.image.max-pixels:40000000}") long maxPixels) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.recipeCardCache = recipeCardCache;
+        this.imageStore = imageStore;
+        this.cardWidth = cardWidth;
+        this.detailWidth = detailWidth;
+        this.placeholderWidth = placeholderWidth;
+        this.maxPixels = maxPixels;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "image-variant-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        if (event.isDeleted()) {
+            return;
+        }
+        String imageUrl = event.getRecipe().getRcpImgUrl();
+        // 외부 URL(CSV 적재 레시피)은 대상 아님
+        if (imageUrl != null && imageUrl.startsWith(IMAGE_PATH_PREFIX)) {
+            submit(event.getRcpSno(), imageUrl.substring(IMAGE_PATH_PREFIX.length()));
+        }
+    }
+
+    /**
+     * 생성 작업 등록 (큐가 가득 차면 버리고 원본으로 서빙)
+     */
+    public void submit(Long rcpSno, String key) {
+        try {
+            executor.execute(() -> generate(rcpSno, key));
+        } catch (RejectedExecutionException e) {
+            log.warn("이미지 변환 대기열 가득 참 - 원본으로 서빙 (recipeId: {}, file: {})", rcpSno, key);
+        }
+    }
+
+    private void generate(Long rcpSno, String key) {
+        if (!ImageStore.isValidKey(key)) {
+            log.warn("허용되지 않는 이미지 키 - 변환 생략: {}", key);
+            return;
+        }
+        Path temp = null;
+        try {
+            boolean cardExists = imageStore.exists(ImageVariant.CARD.keyOf(key));
+            boolean detailExists = imageStore.exists(ImageVariant.DETAIL.keyOf(key));
+            // 같은 내용의 이미지가 이미 변환돼 있으면 미리보기만 작은 card 파일에서 만듦
+            String sourceKey = cardExists && detailExists ? ImageVariant.CARD.keyOf(key) : key;
+            Optional<StoredImage> stored = imageStore.find(sourceKey);
+            if (stored.isEmpty()) {
+                log.warn("저장소에 이미지 없음 - 변환 생략 (recipeId: {}, file: {})", rcpSno, sourceKey);
+                return;
+            }
+            Path file = stored.get().getLocalPath();
+            if (file == null) {
+                // S3 등 원격 저장소면 임시 파일로 받아서 디코딩
+                temp = Files.createTempFile("image-variant-", ".tmp");
+                try (InputStream in = stored.get().getResource().getInputStream()) {
+                    Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+                }
+                file = temp;
+            }
+
+            BufferedImage source = decode(file, key);
+            String format = format(key);
+            if (source == null || format == null) {
+                log.info("변환할 수 없는 이미지 형식 - 원본을 그대로 사용: {}", key);
+            }
+            List<String> variants = new ArrayList<>(2);
+            if (cardExists || writeVariant(source, key, ImageVariant.CARD, cardWidth, format)) {
+                variants.add("card");
+            }
+            if (detailExists || writeVariant(source, key, ImageVariant.DETAIL, detailWidth, format)) {
+                variants.add("detail");
+            }
+            String placeholder = source != null ? placeholder(source) : null;
+
+            jdbcTemplate.update(UPDATE_SQL, String.join(",", variants), placeholder, rcpSno);
+            recipeCardCache.evict(rcpSno);
+            log.info("이미지 변환 완료 - recipeId: {}, 크기: {}, 재사용: {}, 미리보기: {}bytes",
+                    rcpSno, variants, cardExists && detailExists, placeholder != null ? placeholder.length() : 0);
+        } catch (Exception e) {
+            log.warn("이미지 변환 실패 - 원본으로 서빙 (recipeId: {}, file: {})", rcpSno, key, e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    // 원본이 목표 너비보다 넓으면 축소본, 아니면 원본 복사
+    private boolean writeVariant(BufferedImage source, String key, ImageVariant variant, int width,
+                                 String format) throws IOException {
+        String target = variant.keyOf(key);
+        if (source == null || format == null || source.getWidth() <= width) {
+            imageStore.copy(key, target);
+            return true;
+        }
+        Path temp = Files.createTempFile("image-variant-", "." + format);
+        try {
+            boolean alpha = source.getColorModel().hasAlpha() && supportsAlpha(format);
+            if (!ImageIO.write(scale(source, width, alpha), format, temp.toFile())) {
+                return false;
+            }
+            imageStore.put(target, temp, ImageStore.contentType(target));
+            return true;
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    // 헤더에서 가로/세로를 먼저 읽고 max-pixels 이하일 때만 디코딩 (읽을 수 없는 형식이거나 너무 크면 null)
+    private BufferedImage decode(Path file, String key) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            if (in == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    log.warn("이미지 픽셀 수 초과 - 디코딩 생략 ({}x{}, 최대 {}px): {}", width, height, maxPixels, key);
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 목록에서 원본 로딩 전에 보여줄 아주 작은 JPEG (data URI)
+    private String placeholder(BufferedImage source) throws IOException {
+        BufferedImage tiny = scale(source, Math.min(placeholderWidth, source.getWidth()), false);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (!ImageIO.write(tiny, "jpg", out)) {
+            return null;
+        }
+        String dataUri = "data:image/jpeg;base64," + Base64.getEncoder().encodeToString(out.toByteArray());
+        return dataUri.length() <= PLACEHOLDER_MAX_LENGTH ? dataUri : null;
+    }
+
+    // 절반씩 줄여 가며 축소 (한 번에 크게 줄이면 bilinear 보간이 거칠어짐)
+    private static BufferedImage scale(BufferedImage source, int width, boolean alpha) {
+        int type = alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            int nextWidth = Math.max(width, currentWidth / 2);
+            int nextHeight = Math.max(1, (int) Math.round((double) currentHeight * nextWidth / currentWidth));
+            BufferedImage next = new BufferedImage(nextWidth, nextHeight, type);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, nextWidth, nextHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+            currentWidth = nextWidth;
+            currentHeight = nextHeight;
+        } while (currentWidth > width);
+        return current;
+    }
+
+    // 확장자로 ImageIO 출력 형식 결정 (쓸 수 없는 형식이면 null → 크기별 파일 없이 원본 사용)
+    private static String format(String filename) {
+        int dot = filename.lastIndexOf('.');
+        String extension = dot >= 0 ? filename.substring(dot + 1).toLowerCase(Locale.ROOT) : "";
+        return ImageIO.getImageWritersBySuffix(extension).hasNext() ? extension : null;
+    }
+
+    private static void deleteQuietly(Path temp) {
+        if (temp == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException e) {
+            log.debug("임시 파일 삭제 실패: {}", temp, e);
+        }
+    }
+
+    // 출력 형식이 알파 채널을 저장할 수 있는지 (jpg, bmp 등은 불가 → RGB로 축소)
+    private static boolean supportsAlpha(String format) {
+        ImageTypeSpecifier argb = ImageTypeSpecifier.createFromBufferedImageType(BufferedImage.TYPE_INT_ARGB);
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersBySuffix(format);
+        while (writers.hasNext()) {
+            ImageWriter writer = writers.next();
+            try {
+                if (writer.getOriginatingProvider().canEncodeImage(argb)) {
+                    return true;
+                }
+            } finally {
+                writer.dispose();
+            }
+        }
+        return false;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
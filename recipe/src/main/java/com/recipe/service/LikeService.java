@@ -1,12 +1,12 @@
 package com.recipe.service;
 
-import com.recipe.algorithm.RecipeRecommendAlgorithm;
+import com.recipe.algorithm.RecommendationPage;
 import com.recipe.algorithm.RecommendationResult;
 import com.recipe.domain.entity.Like;
 import com.recipe.domain.entity.Recipe;
 import com.recipe.domain.entity.User;
-import com.recipe.domain.entity.UserReferences;
 import com.recipe.domain.entity.enums.PreferenceType;
+import com.recipe.exceptions.recipe.RecipeExceptions;
 import com.recipe.repository.LikeRepository;
 import com.recipe.repository.RecipeRepository;
 import com.recipe.repository.UserReferencesRepository;
@@ -14,14 +14,11 @@ import com.recipe.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
-
 @Log4j2
 @Service
 @RequiredArgsConstructor
@@ -32,44 +29,30 @@ public class LikeService {
     private final UserRepository userRepository;
     private final RecipeRepository recipeRepository;
     private final UserReferencesRepository userReferencesRepository;
-    private final RecipeRecommendAlgorithm recommendAlgorithm;
+    private final RecipeRecommendService recipeRecommendService;
+    private final RecipeCardCache recipeCardCache;
 
     /**
      * 좋아요 추가 (UserReferences에 LIKE 기록)
+     * 엔티티 조회 없이 ID로 INSERT IGNORE → 동시에 눌러도 한 번만 등록되고 좋아요 수도 한 번만 증가
+     * @return 새로 등록했으면 true, 이미 좋아요 상태면 false
      */
-    public void addLike(String username, Long recipeId) {
-        User user = userRepository.findById(username)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-        Recipe recipe = recipeRepository.findById(recipeId)
-                .orElseThrow(() -> new RuntimeException("레시피를 찾을 수 없습니다."));
-
-        // 중복 확인
-        Optional<Like> checkTheLike = likeRepository.findByUserAndRecipe(user, recipe);
-        if (checkTheLike.isPresent()) {
-            throw new RuntimeException("이미 좋아요한 레시피입니다.");
+    public boolean addLike(Long userId, Long recipeId) {
+        if (likeRepository.insertIfAbsent(userId, recipeId) == 0) {
+            // 중복 외에 레시피가 없어도 0건 (INSERT IGNORE는 FK 오류도 무시)
+            if (!recipeRepository.existsById(recipeId)) {
+                throw RecipeExceptions.NOT_FOUND.getRecipeException();
+            }
+            return false;
         }
+        recipeRepository.addLikeCount(recipeId, 1);
+        recipeCardCache.evictAfterCommit(recipeId);
 
-        // Like 저장
-        Like like = Like.builder()
-                .user(user)
-                .recipe(recipe)
-                .build();
-        likeRepository.save(like);
-
-        // UserReferences에 LIKE 기록 (알고리즘용)
-        Optional<UserReferences> existingRef = userReferencesRepository
-                .findFirstByUser_UserIdAndRecipe_RcpSnoAndPreference(user.getUserId(), recipeId, PreferenceType.LIKE);
-        
-        if (existingRef.isEmpty()) {
-            UserReferences userRef = UserReferences.builder()
-                    .user(user)
-                    .recipe(recipe)
-                    .preference(PreferenceType.LIKE)
-                    .build();
-            userReferencesRepository.save(userRef);
-        }
+        // UserReferences에 LIKE 기록 (알고리즘용, 중복이면 무시)
+        userReferencesRepository.insertLikeIfAbsent(userId, recipeId);
 
-        log.info("좋아요 추가 및 UserReferences 기록 완료 - username: {}, recipeId: {}", username, recipeId);
+        log.info("좋아요 추가 및 UserReferences 기록 완료 - userId: {}, recipeId: {}", userId, recipeId);
+        return true;
     }
 
     /**
@@ -85,23 +68,21 @@ public class LikeService {
     }
 
     /**
-     * 좋아요 취소
+     * 좋아요 취소 (DELETE 결과 건수로 판단)
+     * @return 삭제했으면 true, 좋아요 기록이 없었으면 false
      */
-    public void removeLike(String username, Long recipeId) {
-        User user = userRepository.findById(username)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-        Recipe recipe = recipeRepository.findById(recipeId)
-                .orElseThrow(() -> new RuntimeException("레시피를 찾을 수 없습니다."));
-
-        Like like = likeRepository.findByUserAndRecipe(user, recipe)
-                .orElseThrow(() -> new RuntimeException("좋아요를 찾을 수 없습니다."));
+    public boolean removeLike(Long userId, Long recipeId) {
+        if (likeRepository.deleteByUserPkAndRcpSno(userId, recipeId) == 0) {
+            return false;
+        }
+        recipeRepository.addLikeCount(recipeId, -1);
+        recipeCardCache.evictAfterCommit(recipeId);
 
-        likeRepository.delete(like);
-        
         // UserReferences에서도 LIKE 기록 삭제
-        userReferencesRepository.deleteByUserAndRecipeAndPreference(user, recipe, PreferenceType.LIKE);
-        
-        log.info("좋아요 취소 완료 - username: {}, recipeId: {}", username, recipeId);
+        userReferencesRepository.deleteByIds(userId, recipeId, PreferenceType.LIKE);
+
+        log.info("좋아요 취소 완료 - userId: {}, recipeId: {}", userId, recipeId);
+        return true;
     }
 
     /**
@@ -124,53 +105,23 @@ public class LikeService {
 
     /**
      * 좋아요 토글 (추가/취소) + 좋아요 수 반환
+     * 회원 행을 먼저 잠가서 같은 사용자의 토글을 차례로 처리
+     * (잠금 없이 연속 클릭하면 두 DELETE가 UQ_RECIPE_LIKE 갭 잠금을 잡고 서로의 INSERT를 기다려 데드락)
+     * 그 다음 DELETE 먼저 실행 → 지운 행이 없으면 INSERT (조회 후 쓰기 대신 영향받은 행 수로 분기)
      */
-    public LikeResult toggleLike(String username, Long recipeId) {
-        User user = userRepository.findById(username)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-        Recipe recipe = recipeRepository.findById(recipeId)
-                .orElseThrow(() -> new RuntimeException("레시피를 찾을 수 없습니다."));
-
-        Optional<Like> existingLike = likeRepository.findByUserAndRecipe(user, recipe);
+    public LikeResult toggleLike(Long userId, Long recipeId) {
+        userRepository.lockByUserId(userId);
         boolean isLiked;
-        
-        if (existingLike.isPresent()) {
-            // 좋아요 취소
-            likeRepository.delete(existingLike.get());
-            
-            // UserReferences에서도 삭제
-            userReferencesRepository.deleteByUserAndRecipeAndPreference(user, recipe, PreferenceType.LIKE);
-            
+        if (removeLike(userId, recipeId)) {
             isLiked = false;
-            log.info("좋아요 취소 - username: {}, recipeId: {}", username, recipeId);
         } else {
-            // 좋아요 추가
-            Like like = Like.builder()
-                    .user(user)
-                    .recipe(recipe)
-                    .build();
-            likeRepository.save(like);
-            
-            // UserReferences에 LIKE 기록 (중복 체크)
-            Optional<UserReferences> existingRef = userReferencesRepository
-                    .findFirstByUser_UserIdAndRecipe_RcpSnoAndPreference(user.getUserId(), recipeId, PreferenceType.LIKE);
-            
-            if (existingRef.isEmpty()) {
-                UserReferences userRef = UserReferences.builder()
-                        .user(user)
-                        .recipe(recipe)
-                        .preference(PreferenceType.LIKE)
-                        .build();
-                userReferencesRepository.save(userRef);
-            }
-            
+            addLike(userId, recipeId);
             isLiked = true;
-            log.info("좋아요 추가 - username: {}, recipeId: {}", username, recipeId);
         }
-        
-        // 해당 레시피의 총 좋아요 수 계산 (이 레시피를 좋아요한 모든 사용자 수)
-        int likeCount = likeRepository.countByRecipe(recipe);
-        
+
+        // 좋아요 수는 위에서 갱신한 RCMM_CNT (LIKES 전체 COUNT 없음)
+        int likeCount = recipeRepository.findLikeCount(recipeId);
+
         return new LikeResult(isLiked, likeCount);
     }
 
@@ -178,11 +129,9 @@ public class LikeService {
      * 추천 레시피 조회 (알고리즘 기반)
      */
     @Transactional(readOnly = true)
-    public List<Recipe> getRecommendedRecipes(Long userId) {
-        List<RecommendationResult> results = recommendAlgorithm.recommendRecipes(userId);
-        return results.stream()
-                .map(RecommendationResult::getRecipe)
-                .collect(Collectors.toList());
+    public RecommendationPage<Recipe> getRecommendedRecipes(Long userId) {
+        return recipeRecommendService.getRecommendations(userId, PageRequest.of(0, 10))
+                .map(RecommendationResult::getRecipe);
     }
 
     /**
@@ -0,0 +1,226 @@
+package com.recipe.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipe.domain.dto.Recipe.RecipeCardDTO;
+import com.recipe.event.RecipeChangedEvent;
+import com.recipe.exceptions.recipe.RecipeExceptions;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 메인 페이지 / 추천(최신순) / 인기(조회수순) 목록 스냅샷
+ * 주기적으로 또는 레시피 등록/삭제 후 한 번에 재구성하고, 직렬화된 JSON 바이트와 ETag를 메모리에 보관
+ * 요청은 DB 조회/DTO 변환 없이 바이트를 그대로 응답 (ETag가 같으면 304)
+ * 재구성은 한 번에 하나만 실행 (진행 중이면 이전 스냅샷으로 응답)
+ * 스냅샷이 없는데 재구성이 실패하면 recipe.main-page.retry-backoff-ms 동안 요청은 DB 조회 없이 503
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class MainPageSnapshotService {
+
+    public static final int MAIN_PAGE_SIZE = 10;
+    public static final int LIST_SIZE = 100;
+
+    private final RecipeService recipeService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${recipe.main-page.retry-backoff-ms:10000}")
+    private long retryBackoffMs;
+
+    private volatile Snapshot snapshot;
+
+    // 마지막 재구성 실패 시각 (성공하면 0)
+    private volatile long lastFailureAt;
+
+    // 레시피 변경 이벤트가 몰려도 재구성 작업은 하나만 대기
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "main-page-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public Payload getMainPage() {
+        return current().mainPage;
+    }
+
+    public Payload getRecommended() {
+        return current().recommended;
+    }
+
+    public Payload getPopular() {
+        return current().popular;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    /**
+     * 레시피 등록/삭제 커밋 후 백그라운드에서 재구성
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        if (refreshPending.compareAndSet(false, true)) {
+            refreshExecutor.execute(() -> {
+                refreshPending.set(false);
+                refresh();
+            });
+        }
+    }
+
+    /**
+     * 조회수 순위 반영을 위한 주기적 재구성
+     */
+    @Scheduled(fixedDelayString = "${recipe.main-page.refresh-interval-ms:60000}")
+    public void refreshPeriodically() {
+        refresh();
+    }
+
+    /**
+     * 최신순/조회수순 목록을 한 번씩 조회해 세 응답을 모두 만든다 (메인 페이지 10개는 100개 목록의 앞부분)
+     * 실패하면 기존 스냅샷 유지
+     */
+    public synchronized void refresh() {
+        long start = System.currentTimeMillis();
+        try {
+            List<RecipeCardDTO> recommended = recipeService.getRecommendedRecipes(LIST_SIZE);
+            List<RecipeCardDTO> popular = recipeService.getTopRecipes(LIST_SIZE);
+
+            Map<String, Object> mainData = new LinkedHashMap<>();
+            mainData.put("recommended-recipe", head(recommended));
+            mainData.put("recipe", head(popular));
+
+            snapshot = new Snapshot(
+                    toPayload(Map.of("data", mainData)),
+                    toPayload(listBody(recommended)),
+                    toPayload(listBody(popular)));
+            lastFailureAt = 0;
+            log.info("메인 페이지 스냅샷 구성 완료 - 추천: {}개, 인기: {}개, {}ms",
+                    recommended.size(), popular.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            lastFailureAt = System.currentTimeMillis();
+            log.error("메인 페이지 스냅샷 구성 실패 - 기존 스냅샷 유지", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    // 기동 직후 첫 요청이 재구성보다 빠르면 한 스레드만 만들고 나머지는 기다렸다가 결과 사용
+    // 최근에 실패했으면 대기 시간이 지날 때까지 요청마다 재구성하지 않음 (DB 장애 시 요청이 모니터에 줄 서지 않도록)
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            if (!retryDue()) {
+                throw unavailable();
+            }
+            synchronized (this) {
+                if (snapshot == null && retryDue()) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+            if (current == null) {
+                throw unavailable();
+            }
+        }
+        return current;
+    }
+
+    private boolean retryDue() {
+        return System.currentTimeMillis() - lastFailureAt >= retryBackoffMs;
+    }
+
+    private static RuntimeException unavailable() {
+        return RecipeExceptions.SERVICE_UNAVAILABLE.getRecipeException("메인 페이지 데이터를 구성하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    private static List<RecipeCardDTO> head(List<RecipeCardDTO> recipes) {
+        return recipes.subList(0, Math.min(MAIN_PAGE_SIZE, recipes.size()));
+    }
+
+    private static Map<String, Object> listBody(List<RecipeCardDTO> recipes) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("data", recipes);
+        body.put("total", recipes.size());
+        return body;
+    }
+
+    private Payload toPayload(Object body) throws Exception {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        return new Payload(bytes, "\"" + DigestUtils.md5DigestAsHex(bytes) + "\"");
+    }
+
+    @AllArgsConstructor
+    private static class Snapshot {
+        private final Payload mainPage;
+        private final Payload recommended;
+        private final Payload popular;
+    }
+
+    /**
+     * 직렬화된 응답 본문 + ETag
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Payload {
+        private final byte[] body;
+        private final String etag;
+
+        /**
+         * If-None-Match가 같으면 304, 아니면 JSON 바이트 그대로 응답
+         */
+        public ResponseEntity<byte[]> toResponse(String ifNoneMatch) {
+            if (matches(ifNoneMatch)) {
+                return ResponseEntity.status(304).eTag(etag).cacheControl(CacheControl.noCache()).build();
+            }
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .body(body);
+        }
+
+        private boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null) {
+                return false;
+            }
+            for (String candidate : ifNoneMatch.split(",")) {
+                String value = candidate.trim();
+                if (value.startsWith("W/")) {
+                    value = value.substring(2);
+                }
+                if (value.equals(etag) || value.equals("*")) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.recipe.service;
 
+import com.recipe.algorithm.FridgeMatchEngine;
+import com.recipe.algorithm.FridgeMatchMode;
+import com.recipe.algorithm.FridgeMatchResult;
 import com.recipe.domain.dto.IngredientDto;
-import com.recipe.domain.dto.Recipe.RecipeResponseDTO;
+import com.recipe.domain.dto.Recipe.RecipeCardDTO;
 import com.recipe.domain.dto.mypage.MyPageResponseDto;
-import com.recipe.domain.entity.Bookmark;
 import com.recipe.domain.entity.Ingredient;
 import com.recipe.domain.entity.Recipe;
 import com.recipe.domain.entity.User;
@@ -12,10 +14,15 @@ import com.recipe.domain.entity.enums.PreferenceType;
 import com.recipe.repository.BookmarkRepository;
 import com.recipe.repository.IngredientRepository;
 import com.recipe.repository.RecipeRepository;
+import com.recipe.repository.RecipeSpecification;
 import com.recipe.repository.UserRepository;
 import com.recipe.repository.UserReferencesRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,6 +41,9 @@ public class MyPageService {
     private final UserReferencesRepository userReferencesRepository;
     private final BookmarkRepository bookmarkRepository;
     private final IngredientRepository ingredientRepository;
+    private final RecipeIngredientService recipeIngredientService;
+    private final FridgeMatchEngine fridgeMatchEngine;
+    private final RecipeCardCache recipeCardCache;
 
     /**
      * 마이페이지 데이터 조회 (username 기반)
@@ -90,14 +100,10 @@ public class MyPageService {
      * @param userId 사용자 고유 ID
      * @return 작성한 레시피 DTO 리스트
      */
-    public List<RecipeResponseDTO> getMyRecipes(Long userId) {
+    public List<RecipeCardDTO> getMyRecipes(Long userId) {
         log.info("내 레시피 목록 조회 - userId: {}", userId);
         
-        List<Recipe> myRecipes = getAuthoredRecipes(userId);
-        
-        return myRecipes.stream()
-                .map(RecipeResponseDTO::fromEntity)
-                .collect(Collectors.toList());
+        return recipeRepository.findCardsByUserId(userId);
     }
 
     /**
@@ -105,21 +111,12 @@ public class MyPageService {
      * @param userId 사용자 고유 ID
      * @return 찜한 레시피 DTO 리스트
      */
-    public List<RecipeResponseDTO> getBookmarkedRecipes(Long userId) {
+    public List<RecipeCardDTO> getBookmarkedRecipes(Long userId) {
         log.info("찜한 레시피 목록 조회 - userId: {}", userId);
         
-        // User 조회
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-        
-        // 북마크 목록 조회
-        List<Bookmark> bookmarks = bookmarkRepository.findByUser(user);
-        
-        // Recipe 추출 및 DTO 변환
-        return bookmarks.stream()
-                .map(Bookmark::getRecipe)
-                .map(RecipeResponseDTO::fromEntity)
-                .collect(Collectors.toList());
+        // 북마크한 레시피 번호만 조회 → 카드 캐시에서 조립
+        List<Long> recipeIds = bookmarkRepository.findRecipeIdsByUserPk(userId);
+        return recipeCardCache.getAllInOrder(recipeIds);
     }
 
     /**
@@ -127,14 +124,12 @@ public class MyPageService {
      * @param userId 사용자 고유 ID
      * @return 좋아요 레시피 DTO 리스트
      */
-    public List<RecipeResponseDTO> getLikedRecipesDTO(Long userId) {
+    public List<RecipeCardDTO> getLikedRecipesDTO(Long userId) {
         log.info("좋아요 레시피 목록 조회 - userId: {}", userId);
         
-        List<Recipe> likedRecipes = getLikedRecipes(userId);
-        
-        return likedRecipes.stream()
-                .map(RecipeResponseDTO::fromEntity)
-                .collect(Collectors.toList());
+        // 좋아요 기록의 레시피 번호만 조회 → 카드 캐시에서 조립
+        List<Long> recipeIds = userReferencesRepository.findRecipeIdsByUserIdAndPreference(userId, PreferenceType.LIKE);
+        return recipeCardCache.getAllInOrder(recipeIds);
     }
 
     /**
@@ -185,12 +180,51 @@ public class MyPageService {
         ingredientRepository.deleteByIdAndUserId(ingredientId, userId);
     }
 
+    /**
+     * 냉장고 재료 기반 추천 레시피 한 페이지 (비트맵 매칭 엔진)
+     * @param userId 사용자 고유 ID
+     * @param mode ALL: 냉장고 재료 모두 포함 / MISSING: 부족한 재료 maxMissing개 이하 / COOKABLE: 냉장고 재료만으로 가능
+     * @param maxMissing MISSING 모드의 부족한 재료 허용 개수
+     * @return 부족한 재료가 적은 순 → 가진 재료가 많은 순
+     */
+    public Page<RecipeCardDTO> getRecommendedRecipes(Long userId, FridgeMatchMode mode, int maxMissing,
+                                                         Pageable pageable) {
+        log.info("재료 기반 추천 레시피 조회 - userId: {}, mode: {}, maxMissing: {}", userId, mode, maxMissing);
+
+        List<String> ingredientNames = ingredientRepository.findByUserId(userId).stream()
+                .map(Ingredient::getName)
+                .collect(Collectors.toList());
+        if (ingredientNames.isEmpty()) {
+            log.info("냉장고 재료가 없습니다 - userId: {}", userId);
+            return Page.empty(pageable);
+        }
+
+        // 비트맵이 아직 없으면 기존 교집합 검색 (ALL)
+        if (!fridgeMatchEngine.isReady()) {
+            List<RecipeCardDTO> recipes = findRecipesContainingAll(ingredientNames);
+            int from = (int) Math.min(pageable.getOffset(), recipes.size());
+            int to = Math.min(from + pageable.getPageSize(), recipes.size());
+            return new PageImpl<>(recipes.subList(from, to), pageable, recipes.size());
+        }
+
+        FridgeMatchResult result = fridgeMatchEngine.match(
+                ingredientNames, mode, maxMissing, (int) pageable.getOffset(), pageable.getPageSize());
+        log.info("냉장고 매칭 레시피: 전체 {}개", result.getTotal());
+
+        List<Long> recipeIds = new ArrayList<>(result.size());
+        for (long recipeId : result.getRecipeIds()) {
+            recipeIds.add(recipeId);
+        }
+        List<RecipeCardDTO> content = recipeCardCache.getAllInOrder(recipeIds);
+        return new PageImpl<>(content, pageable, result.getTotal());
+    }
+
     /**
      * ✅ 재료 기반 추천 레시피 조회 (교집합 방식으로 수정)
      * @param userId 사용자 고유 ID
      * @return 추천 레시피 DTO 리스트
      */
-    public List<RecipeResponseDTO> getRecommendedRecipes(Long userId) {
+    public List<RecipeCardDTO> getRecommendedRecipes(Long userId) {
         log.info("재료 기반 추천 레시피 조회 - userId: {}", userId);
         
         // 1. 사용자의 냉장고 재료 조회
@@ -208,8 +242,22 @@ public class MyPageService {
                 .map(Ingredient::getName)
                 .collect(Collectors.toList());
         log.info("재료 목록: {}", ingredientNames);
+
+        return findRecipesContainingAll(ingredientNames);
+    }
+
+    // 냉장고 재료를 모두 포함한 레시피 (조회수 순)
+    private List<RecipeCardDTO> findRecipesContainingAll(List<String> ingredientNames) {
+        // 3. 재료 연결 테이블 조인 (GROUP BY ... HAVING) - 조회수 순
+        if (recipeIngredientService.isLinked()) {
+            List<RecipeCardDTO> recipes = recipeRepository.findCards(
+                    RecipeSpecification.hasAllIngredients(recipeIngredientService.resolveIngredientIds(ingredientNames)),
+                    Pageable.unpaged(Sort.by(Sort.Direction.DESC, "inqCnt"))).getContent();
+            log.info("최종 매칭된 레시피 (교집합): {}개", recipes.size());
+            return recipes;
+        }
         
-        // 3. 첫 번째 재료로 초기 레시피 목록 조회
+        // 재료 연결 백필 전: 첫 번째 재료로 초기 레시피 목록 조회
         List<Recipe> matchedRecipes = recipeRepository.findByckgMtrlCnContaining(ingredientNames.get(0));
         log.info("초기 레시피 수 ({}): {}개", ingredientNames.get(0), matchedRecipes.size());
         
@@ -238,7 +286,7 @@ public class MyPageService {
         });
         
         return matchedRecipes.stream()
-                .map(RecipeResponseDTO::fromEntity)
+                .map(RecipeCardDTO::fromEntity)
                 .collect(Collectors.toList());
     }
 
@@ -0,0 +1,291 @@
+package com.recipe.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.recipe.domain.dto.Recipe.RecipeCardDTO;
+import com.recipe.event.RecipeChangedEvent;
+import com.recipe.repository.RecipeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 레시피 카드(RecipeCardDTO) 2단계 캐시
+ * - L1: 노드별 Caffeine (크기 제한, 짧은 TTL로 다른 노드의 변경 반영)
+ * - L2: Redis recipe:card:{rcpSno} (RedisConfig의 RedisTemplate, JSON 직렬화)
+ * 여러 번호를 한 번에 조회할 때 L1 → Redis MGET → 남은 번호만 DB IN 쿼리 1회 (카드 컬럼만 조회)
+ * 조회수 미반영분은 캐시에 넣지 않으므로 호출하는 쪽에서 ViewCountService.withPending 적용
+ * 제거할 때마다 번호별 버전(recipe:card-ver:{rcpSno})을 올리고, DB에서 읽은 카드는 읽기 전 버전이 그대로일 때만 저장
+ * → 제거와 겹친 조회가 변경 전 카드를 다시 캐시하지 않음 (다른 노드의 제거 포함)
+ */
+@Service
+@Log4j2
+public class RecipeCardCache {
+
+    private static final String REDIS_PREFIX = "recipe:card:";
+    private static final String VERSION_PREFIX = "recipe:card-ver:";
+    private static final byte[] NO_VERSION = new byte[0];
+
+    // KEYS[1] 버전, KEYS[2] 카드 / ARGV[1] 읽기 전 버전(없으면 ""), ARGV[2] 카드, ARGV[3] TTL(ms)
+    private static final byte[] WRITE_IF_UNCHANGED_SCRIPT = (
+            "local v = redis.call('GET', KEYS[1]) " +
+            "if (v or '') == ARGV[1] then " +
+            "redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3]) return 1 end " +
+            "return 0").getBytes(StandardCharsets.UTF_8);
+    private static final int DELETE_BATCH_SIZE = 500;
+
+    private final RecipeRepository recipeRepository;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Cache<Long, RecipeCardDTO> local;
+    private final Duration redisTtl;
+
+    public RecipeCardCache(RecipeRepository recipeRepository,
+                           RedisTemplate<String, Object> redisTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${recipe.card-cache.local-max-size:10000}") long localMaxSize,
+                           @Value("${recipe.card-cache.local-ttl-seconds:30}") long localTtlSeconds,
+                           @Value("${recipe.card-cache.redis-ttl-minutes:30}") long redisTtlMinutes) {
+        this.recipeRepository = recipeRepository;
+        this.redisTemplate = redisTemplate;
+        this.redisTtl = Duration.ofMinutes(redisTtlMinutes);
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "recipeCard");
+    }
+
+    /**
+     * 레시피 카드 한 건 조회 (없는 레시피면 empty)
+     */
+    public Optional<RecipeCardDTO> get(Long rcpSno) {
+        return Optional.ofNullable(getAll(List.of(rcpSno)).get(rcpSno));
+    }
+
+    /**
+     * 번호 순서대로 레시피 카드 조회 (없는 레시피는 제외)
+     */
+    public List<RecipeCardDTO> getAllInOrder(List<Long> rcpSnos) {
+        Map<Long, RecipeCardDTO> cards = getAll(rcpSnos);
+        List<RecipeCardDTO> result = new ArrayList<>(cards.size());
+        for (Long rcpSno : rcpSnos) {
+            RecipeCardDTO card = cards.get(rcpSno);
+            if (card != null) {
+                result.add(card);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 여러 레시피 카드 조회 (반환값은 복사본이라 호출하는 쪽에서 수정해도 캐시에 영향 없음)
+     */
+    public Map<Long, RecipeCardDTO> getAll(Collection<Long> rcpSnos) {
+        Map<Long, RecipeCardDTO> result = new HashMap<>(rcpSnos.size() * 2);
+        List<Long> missing = new ArrayList<>();
+        for (Long rcpSno : new LinkedHashSet<>(rcpSnos)) {
+            if (rcpSno == null) {
+                continue;
+            }
+            RecipeCardDTO card = local.getIfPresent(rcpSno);
+            if (card != null) {
+                result.put(rcpSno, copy(card));
+            } else {
+                missing.add(rcpSno);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        Map<Long, byte[]> versions = new HashMap<>();
+        List<Long> dbMissing = fetchFromRedis(missing, result, versions);
+        if (dbMissing.isEmpty()) {
+            return result;
+        }
+
+        List<RecipeCardDTO> loaded = recipeRepository.findCardsByRcpSnoIn(dbMissing);
+        Set<Long> stale = writeToRedis(loaded, versions);
+        for (RecipeCardDTO card : loaded) {
+            if (!stale.contains(card.getRcpSno())) {
+                local.put(card.getRcpSno(), card);
+            }
+            result.put(card.getRcpSno(), copy(card));
+        }
+        return result;
+    }
+
+    /**
+     * 캐시에서 제거 (레시피 수정/삭제, 좋아요 수/조회수 반영 후)
+     */
+    public void evict(Long rcpSno) {
+        evictAll(List.of(rcpSno));
+    }
+
+    public void evictAll(Collection<? extends Long> rcpSnos) {
+        if (rcpSnos.isEmpty()) {
+            return;
+        }
+        local.invalidateAll(rcpSnos);
+        long versionTtlMillis = redisTtl.toMillis();
+        try {
+            // 카드 삭제 + 버전 증가 (진행 중인 조회의 저장을 막음)
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long rcpSno : rcpSnos) {
+                    byte[] versionKey = raw(VERSION_PREFIX + rcpSno);
+                    connection.keyCommands().del(raw(REDIS_PREFIX + rcpSno));
+                    connection.stringCommands().incr(versionKey);
+                    connection.keyCommands().pExpire(versionKey, versionTtlMillis);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("레시피 카드 캐시(Redis) 삭제 실패 - {}건", rcpSnos.size(), e);
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 후 제거 (커밋 전에 지우면 다른 요청이 이전 값을 다시 캐시할 수 있음)
+     */
+    public void evictAfterCommit(Collection<? extends Long> rcpSnos) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictAll(rcpSnos);
+            return;
+        }
+        List<Long> targets = List.copyOf(rcpSnos);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictAll(targets);
+            }
+        });
+    }
+
+    public void evictAfterCommit(Long rcpSno) {
+        evictAfterCommit(List.of(rcpSno));
+    }
+
+    /**
+     * 전체 비우기 (CSV 적재 등 배치로 레시피가 대량 변경된 뒤)
+     */
+    public void clear() {
+        local.invalidateAll();
+        ScanOptions options = ScanOptions.scanOptions().match(REDIS_PREFIX + "*").count(1000).build();
+        List<String> batch = new ArrayList<>(DELETE_BATCH_SIZE);
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == DELETE_BATCH_SIZE) {
+                    redisTemplate.delete(batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                redisTemplate.delete(batch);
+            }
+        } catch (Exception e) {
+            log.warn("레시피 카드 캐시(Redis) 전체 삭제 실패", e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        evict(event.getRcpSno());
+    }
+
+    // Redis MGET 한 번으로 카드와 버전 조회, 찾은 카드는 L1에도 저장 → DB에서 읽어야 할 번호 반환 (버전은 versions에)
+    private List<Long> fetchFromRedis(List<Long> rcpSnos, Map<Long, RecipeCardDTO> result, Map<Long, byte[]> versions) {
+        try {
+            int n = rcpSnos.size();
+            byte[][] rawKeys = new byte[n * 2][];
+            for (int i = 0; i < n; i++) {
+                rawKeys[i] = raw(REDIS_PREFIX + rcpSnos.get(i));
+                rawKeys[n + i] = raw(VERSION_PREFIX + rcpSnos.get(i));
+            }
+            List<byte[]> values = redisTemplate.execute(
+                    (RedisCallback<List<byte[]>>) connection -> connection.stringCommands().mGet(rawKeys));
+            if (values == null) {
+                return rcpSnos;
+            }
+            List<Long> dbMissing = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                Long rcpSno = rcpSnos.get(i);
+                byte[] value = values.get(i);
+                if (value != null && redisTemplate.getValueSerializer().deserialize(value) instanceof RecipeCardDTO card) {
+                    local.put(rcpSno, card);
+                    result.put(rcpSno, copy(card));
+                } else {
+                    dbMissing.add(rcpSno);
+                    versions.put(rcpSno, values.get(n + i) != null ? values.get(n + i) : NO_VERSION);
+                }
+            }
+            return dbMissing;
+        } catch (Exception e) {
+            log.warn("레시피 카드 캐시(Redis) 조회 실패 - DB에서 조회", e);
+            return rcpSnos;
+        }
+    }
+
+    /**
+     * DB에서 읽은 카드를 파이프라인으로 한 번에 저장 - 읽기 전 버전이 그대로인 번호만 (Lua로 비교 후 SET)
+     * 버전을 모르는 번호(Redis 조회 실패)는 저장하지 않음
+     * @return 읽는 도중 제거되어 저장하지 않은 번호 (L1에도 넣지 않음)
+     */
+    private Set<Long> writeToRedis(List<RecipeCardDTO> cards, Map<Long, byte[]> versions) {
+        List<RecipeCardDTO> targets = cards.stream().filter(card -> versions.containsKey(card.getRcpSno())).toList();
+        if (targets.isEmpty()) {
+            return Set.of();
+        }
+        byte[] ttlMillis = raw(String.valueOf(redisTtl.toMillis()));
+        @SuppressWarnings("unchecked")
+        RedisSerializer<Object> serializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        try {
+            List<Object> replies = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (RecipeCardDTO card : targets) {
+                    connection.scriptingCommands().eval(WRITE_IF_UNCHANGED_SCRIPT, ReturnType.INTEGER, 2,
+                            raw(VERSION_PREFIX + card.getRcpSno()), raw(REDIS_PREFIX + card.getRcpSno()),
+                            versions.get(card.getRcpSno()), serializer.serialize(card), ttlMillis);
+                }
+                return null;
+            });
+            Set<Long> stale = new HashSet<>();
+            for (int i = 0; i < targets.size(); i++) {
+                if (replies.get(i) instanceof Long stored && stored == 0L) {
+                    stale.add(targets.get(i).getRcpSno());
+                }
+            }
+            if (!stale.isEmpty()) {
+                log.debug("조회 중 제거된 레시피 카드 저장 생략 - {}", stale);
+            }
+            return stale;
+        } catch (Exception e) {
+            log.warn("레시피 카드 캐시(Redis) 저장 실패 - {}건", targets.size(), e);
+            return Set.of();
+        }
+    }
+
+    private static byte[] raw(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static RecipeCardDTO copy(RecipeCardDTO card) {
+        return card.toBuilder().build();
+    }
+}
@@ -0,0 +1,193 @@
+package com.recipe.service;
+
+import com.recipe.domain.entity.Recipe;
+import com.recipe.util.IngredientParser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * 레시피 재료 정규화 (CKG_MTRL_CN 텍스트 → INGREDIENT_DICTIONARY + RECIPE_INGREDIENT)
+ * 레시피 등록(RecipeService), CSV 배치 2종, 백필 Job이 모두 이 서비스로 연결 정보를 저장
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class RecipeIngredientService {
+
+    // INGREDIENT_DICTIONARY.NAME 길이
+    private static final int MAX_NAME_LENGTH = 100;
+
+    // IN 절 하나에 넣는 최대 개수
+    private static final int IN_CHUNK_SIZE = 1000;
+
+    public static final String BACKFILL_JOB_NAME = "recipeIngredientBackfillJob";
+
+    // 백필 완료 전에는 이 간격마다만 Job 실행 기록을 다시 확인
+    private static final long LINKED_RECHECK_MILLIS = 60_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final JobExplorer jobExplorer;
+
+    // 백필 Job 완료 여부 (완료 전에는 기존 텍스트 검색 사용)
+    // 레시피 등록/CSV 적재로 일부만 연결된 상태에서 조인 검색으로 바꾸면 결과가 거의 비므로 연결 행 존재 여부로 판단하지 않음
+    private volatile boolean linked;
+    private volatile long linkedCheckedAt;
+
+    /**
+     * 레시피 한 건의 재료 연결 저장 (기존 연결은 교체)
+     */
+    @Transactional
+    public void link(Recipe recipe) {
+        linkAll(List.of(recipe));
+    }
+
+    /**
+     * 레시피 여러 건의 재료 연결 저장 (배치 청크 단위)
+     * 재료명은 사전에서 한 번에 조회하고, 없는 이름만 INSERT IGNORE로 추가
+     */
+    @Transactional
+    public void linkAll(Collection<? extends Recipe> recipes) {
+        Map<Long, List<String>> namesByRecipe = new LinkedHashMap<>();
+        Set<String> allNames = new HashSet<>();
+        for (Recipe recipe : recipes) {
+            if (recipe.getRcpSno() == null) {
+                continue;
+            }
+            List<String> names = IngredientParser.parseNames(recipe.getCkgMtrlCn()).stream()
+                    .filter(name -> name.length() <= MAX_NAME_LENGTH)
+                    .toList();
+            namesByRecipe.put(recipe.getRcpSno(), names);
+            allNames.addAll(names);
+        }
+        if (namesByRecipe.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> ingredientIds = findOrCreateIngredientIds(allNames);
+
+        List<Object[]> deleteArgs = new ArrayList<>(namesByRecipe.size());
+        List<Object[]> insertArgs = new ArrayList<>();
+        for (Map.Entry<Long, List<String>> entry : namesByRecipe.entrySet()) {
+            deleteArgs.add(new Object[]{entry.getKey()});
+            for (String name : entry.getValue()) {
+                Long ingredientId = ingredientIds.get(name);
+                if (ingredientId != null) {
+                    insertArgs.add(new Object[]{entry.getKey(), ingredientId});
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("DELETE FROM recipe_ingredient WHERE RCP_SNO = ?", deleteArgs);
+        jdbcTemplate.batchUpdate("INSERT INTO recipe_ingredient (RCP_SNO, INGREDIENT_ID) VALUES (?, ?)", insertArgs);
+    }
+
+    /**
+     * 레시피 삭제 시 재료 연결 삭제
+     */
+    @Transactional
+    public void unlink(Long rcpSno) {
+        jdbcTemplate.update("DELETE FROM recipe_ingredient WHERE RCP_SNO = ?", rcpSno);
+    }
+
+    /**
+     * 전체 레시피의 재료 연결이 끝났는지 (백필 Job이 한 번이라도 COMPLETED로 끝났으면 true)
+     * 다른 노드에서 백필한 경우도 Job 저장소로 확인 - 완료 전에는 LINKED_RECHECK_MILLIS마다만 조회
+     */
+    public boolean isLinked() {
+        if (linked) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        if (now - linkedCheckedAt < LINKED_RECHECK_MILLIS) {
+            return false;
+        }
+        linkedCheckedAt = now;
+        linked = backfillCompleted();
+        return linked;
+    }
+
+    /**
+     * 백필 Job 완료 시 호출 (이 노드는 다음 검색부터 바로 조인 사용)
+     */
+    public void markLinked() {
+        linked = true;
+        log.info("재료 연결 백필 완료 - 재료 검색을 연결 테이블 조인으로 전환");
+    }
+
+    private boolean backfillCompleted() {
+        for (JobInstance instance : jobExplorer.findJobInstancesByJobName(BACKFILL_JOB_NAME, 0, Integer.MAX_VALUE)) {
+            boolean completed = jobExplorer.getJobExecutions(instance).stream()
+                    .anyMatch(execution -> execution.getStatus() == BatchStatus.COMPLETED);
+            if (completed) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 사용자 입력 재료명 → 재료 사전 ID 그룹
+     * 입력 재료명을 포함하는 사전 재료(예: "돼지" → 돼지고기, 돼지목살)를 한 그룹으로 묶는다
+     * 사전에 없는 재료는 빈 그룹 (→ 검색 결과 없음)
+     */
+    @Transactional(readOnly = true)
+    public List<Set<Long>> resolveIngredientIds(List<String> ingredientNames) {
+        List<Set<Long>> groups = new ArrayList<>();
+        for (String ingredientName : ingredientNames) {
+            String normalized = IngredientParser.normalize(ingredientName);
+            if (normalized == null) {
+                continue;
+            }
+            List<Long> ids = jdbcTemplate.queryForList(
+                    "SELECT INGREDIENT_ID FROM ingredient_dictionary WHERE NAME LIKE ? ESCAPE '!'",
+                    Long.class, "%" + escapeLike(normalized) + "%");
+            groups.add(new HashSet<>(ids));
+        }
+        return groups;
+    }
+
+    private Map<String, Long> findOrCreateIngredientIds(Set<String> names) {
+        Map<String, Long> ids = findIngredientIds(names);
+        if (ids.size() < names.size()) {
+            List<Object[]> missing = names.stream()
+                    .filter(name -> !ids.containsKey(name))
+                    .map(name -> new Object[]{name})
+                    .toList();
+            // 동시에 같은 이름을 추가해도 UQ_INGREDIENT_NAME으로 한 건만 남음
+            jdbcTemplate.batchUpdate("INSERT IGNORE INTO ingredient_dictionary (NAME) VALUES (?)", missing);
+            Set<String> missingNames = new HashSet<>();
+            missing.forEach(args -> missingNames.add((String) args[0]));
+            ids.putAll(findIngredientIds(missingNames));
+        }
+        return ids;
+    }
+
+    private Map<String, Long> findIngredientIds(Collection<String> names) {
+        Map<String, Long> ids = new HashMap<>();
+        List<String> list = new ArrayList<>(names);
+        for (int from = 0; from < list.size(); from += IN_CHUNK_SIZE) {
+            List<String> chunk = list.subList(from, Math.min(from + IN_CHUNK_SIZE, list.size()));
+            namedParameterJdbcTemplate.query(
+                    "SELECT INGREDIENT_ID, NAME FROM ingredient_dictionary WHERE NAME IN (:names)",
+                    Map.of("names", chunk),
+                    (RowCallbackHandler) rs -> {
+                        ids.put(rs.getString(2), rs.getLong(1));
+                    });
+        }
+        return ids;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+}
@@ -1,34 +1,92 @@
 package com.recipe.service;
 
 import com.recipe.algorithm.RecipeRecommendAlgorithm;
+import com.recipe.algorithm.RecommendationPage;
 import com.recipe.algorithm.RecommendationResult;
-import com.recipe.domain.dto.Recipe.RecipeResponseDTO;
+import com.recipe.algorithm.TopKSelector;
+import com.recipe.domain.dto.Recipe.RecipeCardDTO;
+import com.recipe.domain.entity.Recipe;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.time.Instant;
+import java.util.*;
 import java.util.stream.Collectors;
 
+/**
+ * 개인화 추천 조회
+ * 배치로 미리 계산해 둔 Redis 추천 결과를 먼저 사용하고, 없으면 즉시 계산 후 저장
+ */
 @Log4j2
 @Service
 @RequiredArgsConstructor
 public class RecipeRecommendService {
 
+    private static final int DEFAULT_SIZE = 10;
+
     private final RecipeRecommendAlgorithm recommendAlgorithm;
+    private final RecommendationStore recommendationStore;
+
+    // 사용자별로 저장하는 추천 개수
+    @Value("${recipe.recommend.top-n:100}")
+    private int topN;
+
+    // 목록 화면용 카드(RecipeCardDTO)로 반환
+    public List<RecipeCardDTO> getRecommendedRecipes(Long userId) {
+        return getRecommendations(userId, PageRequest.of(0, DEFAULT_SIZE)).getPage().getContent().stream()
+                .map(result -> RecipeCardDTO.fromEntity(result.getRecipe()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 개인화 추천 페이지 조회
+     * 1. Redis에 저장된 추천 결과 사용
+     * 2. 없으면 상위 N개를 즉시 계산해 저장 (선호 기록이 없으면 인기 레시피)
+     * 3. 저장 개수(N)를 넘는 페이지는 즉시 계산
+     */
+    public RecommendationPage<RecommendationResult> getRecommendations(Long userId, Pageable pageable) {
+        log.info("Service: 추천 조회 - userId: {}, page: {}, size: {}",
+                userId, pageable.getPageNumber(), pageable.getPageSize());
 
-    // 반환 타입을 List<RecipeResponseDTO>로 변경
-    public List<RecipeResponseDTO> getRecommendedRecipes(Long userId) {
-        
-        log.info("Service: 추천 알고리즘 실행 요청 - userId: {}", userId);
+        if (pageable.getOffset() + pageable.getPageSize() > topN) {
+            return new RecommendationPage<>(recommendAlgorithm.recommendRecipes(userId, pageable), Instant.now());
+        }
 
-        List<RecommendationResult> results = recommendAlgorithm.recommendRecipes(userId);
-        
-        log.info("Service: 알고리즘 결과 {}개 반환됨", results.size());
+        Optional<RecommendationStore.StoredRecommendations> stored =
+                recommendationStore.find(userId, pageable.getOffset(), pageable.getPageSize());
+        if (stored.isPresent()) {
+            return fromStore(stored.get(), pageable);
+        }
 
-        // RecommendationResult를 RecipeResponseDTO로 변환
-        return results.stream()
-                .map(result -> RecipeResponseDTO.fromEntity(result.getRecipe()))
+        // 저장된 추천 없음 → 즉시 계산 후 저장
+        Instant generatedAt = Instant.now();
+        TopKSelector selector = recommendAlgorithm.selectTopK(userId, topN);
+        if (selector.offeredCount() == 0) {
+            return new RecommendationPage<>(recommendAlgorithm.recommendPopular(pageable), generatedAt);
+        }
+        recommendationStore.save(userId, selector, generatedAt);
+
+        log.info("Service: 추천 즉시 계산 - userId: {}, 후보 {}개", userId, selector.offeredCount());
+        return new RecommendationPage<>(recommendAlgorithm.toPage(selector, pageable), generatedAt);
+    }
+
+    private RecommendationPage<RecommendationResult> fromStore(RecommendationStore.StoredRecommendations stored,
+                                                               Pageable pageable) {
+        Map<Long, Double> scores = new HashMap<>();
+        for (int i = 0; i < stored.getRecipeIds().size(); i++) {
+            scores.put(stored.getRecipeIds().get(i), stored.getScores().get(i));
+        }
+
+        List<Recipe> recipes = recommendAlgorithm.findRecipesInOrder(stored.getRecipeIds());
+        List<RecommendationResult> content = recipes.stream()
+                .map(recipe -> new RecommendationResult(recipe, scores.get(recipe.getRcpSno())))
                 .collect(Collectors.toList());
+
+        return new RecommendationPage<>(new PageImpl<>(content, pageable, stored.getTotal()), stored.getGeneratedAt());
     }
-}
\ No newline at end of file
+}
@@ -2,14 +2,20 @@ package com.recipe.service;
 
 import com.recipe.domain.dto.RecipeCreateDTO;
 import com.recipe.domain.dto.RecipeWriteRequestDTO;
+import com.recipe.domain.dto.Recipe.RecipeCardDTO;
+import com.recipe.domain.dto.Recipe.RecipeCursor;
+import com.recipe.domain.dto.Recipe.RecipeSliceDTO;
+import com.recipe.domain.dto.SortBy;
 import com.recipe.domain.dto.Recipe.RecipeResponseDTO;  // ✅ 수정: Recipe 패키지 추가
 import com.recipe.domain.entity.Recipe;
+import com.recipe.event.RecipeChangedEvent;
 import com.recipe.exceptions.recipe.RecipeExceptions;
 import com.recipe.repository.RecipeRepository;
 import com.recipe.repository.LikeRepository;
 import com.recipe.repository.BookmarkRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -17,10 +23,6 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -35,6 +37,11 @@ public class RecipeService {
     private final UserService userService;
     private final LikeRepository likeRepository;
     private final BookmarkRepository bookmarkRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SearchService searchService;
+    private final RecipeIngredientService recipeIngredientService;
+    private final ViewCountService viewCountService;
+    private final FileService fileService;
 
     @Transactional
     public Long createRecipe(RecipeCreateDTO dto, Long userId, String imageUrl) {
@@ -57,12 +64,18 @@ public class RecipeService {
             }
         }
 
+        // 업로드 없이 /images/ URL을 그대로 보낸 경우 같은 트랜잭션에서 참조 추가 (참조 기록 없는 URL은 거부)
+        String rcpImgUrl = imageUrl != null ? imageUrl : (dto.getRcpImgUrl() != null ? dto.getRcpImgUrl() : "");
+        if (imageUrl == null && !fileService.acquireImage(rcpImgUrl)) {
+            throw RecipeExceptions.BAD_REQUEST.getRecipeException("등록되지 않은 이미지 URL입니다: " + rcpImgUrl);
+        }
+
         Recipe recipe = Recipe.builder()
                 .rcpTtl(dto.getTitle())
                 .ckgNm(dto.getTitle())
                 .ckgMthActoNm(dto.getDescription())
                 .ckgMtrlCn(ingredientsBuilder.toString())
-                .rcpImgUrl(imageUrl != null ? imageUrl : (dto.getRcpImgUrl() != null ? dto.getRcpImgUrl() : ""))
+                .rcpImgUrl(rcpImgUrl)
                 .userId(userId)
                 .firstRegDt(LocalDateTime.now())
                 .inqCnt(0)
@@ -70,6 +83,8 @@ public class RecipeService {
                 .build();
 
         Recipe savedRecipe = recipeRepository.save(recipe);
+        recipeIngredientService.link(savedRecipe);
+        eventPublisher.publishEvent(RecipeChangedEvent.saved(savedRecipe));
         
         log.info("레시피 저장 완료 - rcpSno: {}, userId: {}", savedRecipe.getRcpSno(), userId);
         
@@ -107,24 +122,28 @@ public class RecipeService {
                 .rcmmCnt(0)
                 .build();
         
-        return recipeRepository.save(recipe);
+        Recipe savedRecipe = recipeRepository.save(recipe);
+        recipeIngredientService.link(savedRecipe);
+        eventPublisher.publishEvent(RecipeChangedEvent.saved(savedRecipe));
+        return savedRecipe;
     }
 
     @Transactional
-    public Page<RecipeResponseDTO> readRecipePage(Pageable pageable) {
-        Page<Recipe> recipePage = recipeRepository.findAll(pageable);
-        return recipePage.map(RecipeResponseDTO::fromEntity);
+    public Page<RecipeCardDTO> readRecipePage(Pageable pageable) {
+        return recipeRepository.findAllCards(pageable).map(viewCountService::withPending);
     }
 
-    @Transactional
+    // 조회수/조회 기록 모두 비동기 반영 → 읽기 전용 트랜잭션
+    // 상세 화면만 본문(재료/조리법)까지 담은 전체 DTO를 PK로 조회, 목록은 카드(RecipeCardDTO) 사용
     public RecipeResponseDTO findOneRecipe(Long recipeId, Long userId) {
-        Recipe findRecipe = findByRecipeId(recipeId);
+        RecipeResponseDTO recipe = RecipeResponseDTO.fromEntity(findByRecipeId(recipeId));
 
         if (userId != null) {
-            findRecipe.increaseViewCount();
-            referenceService.userRecipeView(findRecipe, userId);
+            // 조회수는 메모리에서 집계 후 주기적으로 반영 (레시피 행 잠금 없음)
+            viewCountService.increment(recipeId);
+            referenceService.userRecipeView(recipeId, userId);
         }
-        return RecipeResponseDTO.fromEntity(findRecipe);
+        return viewCountService.withPending(recipe);
     }
 
     public Recipe findByRecipeId(Long recipeId) {
@@ -155,11 +174,12 @@ public class RecipeService {
             referenceService.deleteByRecipeId(recipeId);
             log.info("사용자 참조 기록 삭제 완료 - recipeId: {}", recipeId);
             
-            if (recipe.getRcpImgUrl() != null && !recipe.getRcpImgUrl().isEmpty()) {
-                deleteImageFile(recipe.getRcpImgUrl());
-            }
+            // 이미지 참조는 삭제가 커밋된 뒤에 해제 (같은 이미지를 쓰는 다른 레시피가 있으면 파일 유지)
+            fileService.releaseImageAfterCommit(recipe.getRcpImgUrl());
             
+            recipeIngredientService.unlink(recipeId);
             recipeRepository.delete(recipe);
+            eventPublisher.publishEvent(RecipeChangedEvent.deleted(recipeId));
             log.info("레시피 삭제 완료 - recipeId: {}", recipeId);
             
         } catch (Exception e) {
@@ -168,52 +188,41 @@ public class RecipeService {
         }
     }
     
-    private void deleteImageFile(String imageUrl) {
-        try {
-            if (imageUrl.startsWith("http")) {
-                log.info("외부 URL 이미지는 삭제하지 않음: {}", imageUrl);
-                return;
-            }
-            
-            String fileName = imageUrl;
-            if (imageUrl.contains("/")) {
-                fileName = imageUrl.substring(imageUrl.lastIndexOf("/") + 1);
-            }
-            
-            fileName = fileName.replace("images/", "").replace("images\\", "");
-            
-            String uploadDir = System.getProperty("user.dir") + "/src/main/resources/static/images/";
-            Path filePath = Paths.get(uploadDir + fileName);
-            
-            if (Files.exists(filePath)) {
-                Files.delete(filePath);
-                log.info("이미지 파일 삭제 성공: {}", fileName);
-            } else {
-                log.info("이미지 파일이 존재하지 않음: {}", fileName);
-            }
-            
-        } catch (IOException e) {
-            log.error("이미지 파일 삭제 실패: {}", imageUrl, e);
-        }
-    }
-
-    public List<RecipeResponseDTO> getRecommendedRecipes(int limit) {
+    // 목록은 카드 컬럼만 조회 + 조회수 미반영분 합산
+    public List<RecipeCardDTO> getRecommendedRecipes(int limit) {
         Pageable pageable = PageRequest.of(0, limit, Sort.by("firstRegDt").descending());
-        return recipeRepository.findAll(pageable).getContent().stream()
-                .map(RecipeResponseDTO::fromEntity).toList();
+        return recipeRepository.findAllCards(pageable).getContent().stream()
+                .map(viewCountService::withPending).toList();
     }
 
-    public List<RecipeResponseDTO> getTopRecipes(int limit) {
+    public List<RecipeCardDTO> getTopRecipes(int limit) {
         Pageable pageable = PageRequest.of(0, limit, Sort.by("inqCnt").descending());
-        return recipeRepository.findAll(pageable).getContent().stream()
-                .map(RecipeResponseDTO::fromEntity).toList();
+        return recipeRepository.findAllCards(pageable).getContent().stream()
+                .map(viewCountService::withPending).toList();
+    }
+
+    public Page<RecipeCardDTO> getAllRecipes(Pageable pageable) {
+        return recipeRepository.findAllCards(pageable).map(viewCountService::withPending);
     }
 
-    public Page<RecipeResponseDTO> getAllRecipes(Pageable pageable) {
-        return recipeRepository.findAll(pageable).map(RecipeResponseDTO::fromEntity);
+    /**
+     * 전체 레시피 커서 페이징 (OFFSET/COUNT 없음)
+     * @param cursor 이전 응답의 nextCursor (빈 값이면 첫 페이지)
+     * @param withTotal true면 전체 개수 근사값 포함
+     */
+    public RecipeSliceDTO getAllRecipeSlice(SortBy sortBy, String cursor, int size, boolean withTotal) {
+        RecipeCursor after = cursor == null || cursor.isBlank() ? null : RecipeCursor.decode(cursor, sortBy);
+        List<RecipeCardDTO> rows = recipeRepository.findCardsAfter(null, sortBy, after, size + 1);
+        Long total = withTotal ? recipeRepository.approximateCount() : null;
+
+        // 커서는 DB 값으로 만든 뒤 조회수 미반영분 합산
+        RecipeSliceDTO slice = RecipeSliceDTO.of(rows, size, sortBy, total);
+        slice.getContent().forEach(viewCountService::withPending);
+        return slice;
     }
 
-    public Page<RecipeResponseDTO> searchRecipes(String keyword, Pageable pageable) {
-        return recipeRepository.searchByKeyword(keyword, pageable).map(RecipeResponseDTO::fromEntity);
+    public Page<RecipeCardDTO> searchRecipes(String keyword, Pageable pageable) {
+        // 검색 방식(recipe.search.mode)은 SearchService와 동일하게 적용
+        return searchService.searchByTitle(keyword, pageable);
     }
 }
\ No newline at end of file
@@ -0,0 +1,129 @@
+package com.recipe.service;
+
+import com.recipe.algorithm.TopKSelector;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 사용자별 추천 결과 Redis 저장소
+ * - recommend:user:{userId}             → ZSET (member: 레시피 번호, score: 추천 점수)
+ * - recommend:user:{userId}:generatedAt → 생성 시각 (epoch millis)
+ */
+@Service
+@Log4j2
+@RequiredArgsConstructor
+public class RecommendationStore {
+
+    private static final String REDIS_PREFIX = "recommend:user:";
+    private static final String GENERATED_AT_SUFFIX = ":generatedAt";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${recipe.recommend.ttl-hours:48}")
+    private long ttlHours;
+
+    /**
+     * 추천 결과 저장 (기존 값을 한 트랜잭션으로 교체)
+     * @param selector 점수 내림차순으로 정렬된 선택기
+     */
+    public void save(Long userId, TopKSelector selector, Instant generatedAt) {
+        if (selector.size() == 0) {
+            evict(userId);
+            return;
+        }
+
+        String key = REDIS_PREFIX + userId;
+        Duration ttl = Duration.ofHours(ttlHours);
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>(selector.size() * 2);
+        for (int i = 0; i < selector.size(); i++) {
+            tuples.add(new DefaultTypedTuple<>(String.valueOf(selector.idAt(i)), selector.scoreAt(i)));
+        }
+
+        try {
+            redisTemplate.execute(new SessionCallback<List<Object>>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> List<Object> execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    ops.multi();
+                    ops.delete(key);
+                    ops.opsForZSet().add(key, tuples);
+                    ops.expire(key, ttl);
+                    ops.opsForValue().set(key + GENERATED_AT_SUFFIX, String.valueOf(generatedAt.toEpochMilli()), ttl);
+                    return ops.exec();
+                }
+            });
+        } catch (Exception e) {
+            log.warn("추천 결과 저장 실패 - userId: {}", userId, e);
+        }
+    }
+
+    /**
+     * 저장된 추천 결과의 한 구간 조회 (점수 내림차순)
+     * @return 저장된 값이 없거나 Redis 오류면 Optional.empty()
+     */
+    public Optional<StoredRecommendations> find(Long userId, long offset, int size) {
+        String key = REDIS_PREFIX + userId;
+        try {
+            String generatedAt = redisTemplate.opsForValue().get(key + GENERATED_AT_SUFFIX);
+            if (generatedAt == null) {
+                return Optional.empty();
+            }
+
+            Long total = redisTemplate.opsForZSet().zCard(key);
+            if (total == null || total == 0) {
+                return Optional.empty();
+            }
+
+            Set<ZSetOperations.TypedTuple<String>> tuples =
+                    redisTemplate.opsForZSet().reverseRangeWithScores(key, offset, offset + size - 1);
+            List<Long> recipeIds = new ArrayList<>();
+            List<Double> scores = new ArrayList<>();
+            if (tuples != null) {
+                for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                    recipeIds.add(Long.valueOf(tuple.getValue()));
+                    scores.add(tuple.getScore());
+                }
+            }
+            return Optional.of(new StoredRecommendations(recipeIds, scores, total,
+                    Instant.ofEpochMilli(Long.parseLong(generatedAt))));
+        } catch (Exception e) {
+            log.warn("추천 결과 조회 실패 - userId: {}", userId, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 저장된 추천 결과 삭제
+     */
+    public void evict(Long userId) {
+        String key = REDIS_PREFIX + userId;
+        try {
+            redisTemplate.delete(List.of(key, key + GENERATED_AT_SUFFIX));
+        } catch (Exception e) {
+            log.warn("추천 결과 삭제 실패 - userId: {}", userId, e);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class StoredRecommendations {
+        private final List<Long> recipeIds;
+        private final List<Double> scores;
+        private final long total;
+        private final Instant generatedAt;
+    }
+}
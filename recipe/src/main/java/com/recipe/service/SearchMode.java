@@ -0,0 +1,10 @@
+package com.recipe.service;
+
+/**
+ * 레시피 검색 방식 (recipe.search.mode)
+ */
+public enum SearchMode {
+    LIKE,       // LIKE %keyword% (기존 방식, 인덱스 없음)
+    FULLTEXT,   // MariaDB FULLTEXT 인덱스 + MATCH ... AGAINST (관련도순)
+    LUCENE      // 애플리케이션 내장 Lucene 인덱스 (한국어 형태소 분석 + BM25)
+}
@@ -1,13 +1,18 @@
 package com.recipe.service;
 
-import com.recipe.algorithm.RecipeRecommendAlgorithm;
+import com.recipe.algorithm.RecommendationPage;
 import com.recipe.algorithm.RecommendationResult;
-import com.recipe.domain.dto.Recipe.RecipeResponseDTO;
+import com.recipe.domain.dto.Recipe.RecipeCardDTO;
+import com.recipe.domain.dto.Recipe.RecipeCursor;
+import com.recipe.domain.dto.Recipe.RecipeSliceDTO;
+import com.recipe.domain.dto.SortBy;
 import com.recipe.domain.entity.Recipe;
 import com.recipe.repository.RecipeRepository;
 import com.recipe.repository.RecipeSpecification; // ✅ 추가됨
+import com.recipe.search.RecipeSearchIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -17,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -27,26 +33,69 @@ public class SearchService {
 
     private final RecipeRepository recipeRepository;
     // private final IngredientRecommendAlgorithm ingredientRecommendAlgorithm; // 이제 안 씀 (필요하면 유지)
-    private final RecipeRecommendAlgorithm recipeRecommendAlgorithm;
+    private final RecipeRecommendService recipeRecommendService;
+    private final RecipeSearchIndex recipeSearchIndex;
+    private final RecipeIngredientService recipeIngredientService;
+    private final RecipeCardCache recipeCardCache;
+    private final ViewCountService viewCountService;
+
+    // 검색 방식 (LIKE / FULLTEXT / LUCENE)
+    @Value("${recipe.search.mode:LIKE}")
+    private SearchMode searchMode;
 
     /**
      * 레시피명 검색
      */
-    public Page<RecipeResponseDTO> searchByTitle(String title, Pageable pageable) {
+    public Page<RecipeCardDTO> searchByTitle(String title, Pageable pageable) {
         log.info("레시피명 검색 - title: {}", title);
         
         if (title == null || title.trim().isEmpty()) {
             return Page.empty(pageable);
         }
         
-        Page<Recipe> recipes = recipeRepository.searchByKeyword(title.trim(), pageable);
-        return recipes.map(RecipeResponseDTO::fromEntity);
+        if (recipeSearchIndex.isReady()) {
+            Optional<Page<RecipeCardDTO>> hits = toPage(
+                    recipeSearchIndex.searchKeyword(title, (int) pageable.getOffset(), pageable.getPageSize()), pageable);
+            if (hits.isPresent()) {
+                return hits.get();
+            }
+        }
+
+        if (searchMode == SearchMode.FULLTEXT) {
+            String query = toBooleanQuery(title);
+            if (query.isEmpty()) {
+                return Page.empty(pageable);
+            }
+            // 관련도 순 레시피 번호 → 카드 캐시에서 조립
+            Page<Long> ids = recipeRepository.searchIdsByFullText(query, pageable);
+            return new PageImpl<>(recipeCardCache.getAllInOrder(ids.getContent()), pageable, ids.getTotalElements())
+                    .map(viewCountService::withPending);
+        }
+        return recipeRepository.searchCardsByKeyword(title.trim(), pageable).map(viewCountService::withPending);
+    }
+
+    /**
+     * 검색어 → FULLTEXT BOOLEAN MODE 검색식
+     * 단어마다 필수(+) + 접두어 검색(*), 검색 연산자 문자는 제거
+     * 예: "김치 찌개" → "+김치* +찌개*"
+     */
+    static String toBooleanQuery(String keyword) {
+        StringBuilder query = new StringBuilder();
+        for (String word : keyword.trim().split("\\s+")) {
+            String token = word.replaceAll("[+\\-<>()~*\"@]", "");
+            if (token.isEmpty()) continue;
+            if (query.length() > 0) {
+                query.append(' ');
+            }
+            query.append('+').append(token).append('*');
+        }
+        return query.toString();
     }
 
     /**
      * 재료로 검색 (String -> List 변환 후 호출)
      */
-    public Page<RecipeResponseDTO> searchByIngredients(String ingredientsStr, Pageable pageable) {
+    public Page<RecipeCardDTO> searchByIngredients(String ingredientsStr, Pageable pageable) {
         log.info("재료 검색 - ingredients: {}", ingredientsStr);
         
         if (ingredientsStr == null || ingredientsStr.trim().isEmpty()) {
@@ -66,47 +115,102 @@ public class SearchService {
      * 재료 리스트로 검색 (교집합 필터링: 재료1 AND 재료2 ...)
      * ✅ [수정됨] JPA Specification 사용
      */
-    public Page<RecipeResponseDTO> searchByIngredientsList(List<String> ingredients, Pageable pageable) {
+    public Page<RecipeCardDTO> searchByIngredientsList(List<String> ingredients, Pageable pageable) {
         log.info("재료 검색 (List) - ingredients: {}", ingredients);
         
         if (ingredients == null || ingredients.isEmpty()) {
             return Page.empty(pageable);
         }
+
+        if (recipeSearchIndex.isReady()) {
+            Optional<Page<RecipeCardDTO>> hits = toPage(
+                    recipeSearchIndex.searchIngredients(ingredients, (int) pageable.getOffset(), pageable.getPageSize()), pageable);
+            if (hits.isPresent()) {
+                return hits.get();
+            }
+        }
         
-        // 1. 동적 쿼리 조건 생성 (RecipeSpecification 사용)
-        Specification<Recipe> spec = RecipeSpecification.hasIngredients(ingredients);
+        // 1. 동적 쿼리 조건 생성
+        Specification<Recipe> spec = ingredientSpec(ingredients);
         
-        // 2. DB 조회 (조건에 맞는 레시피만 페이징해서 가져옴)
-        Page<Recipe> recipePage = recipeRepository.findAll(spec, pageable);
+        // 2. DB 조회 (조건에 맞는 레시피의 카드 컬럼만 페이징해서 가져옴)
+        Page<RecipeCardDTO> recipePage = recipeRepository.findCards(spec, pageable);
         
         log.info("검색된 레시피 수: {}", recipePage.getTotalElements());
         
-        // 3. DTO 변환
-        return recipePage.map(RecipeResponseDTO::fromEntity);
+        return recipePage.map(viewCountService::withPending);
+    }
+
+    /**
+     * 레시피명 검색 커서 페이징 (정렬 컬럼 기준 키셋, COUNT는 withTotal일 때만)
+     * 관련도 순(LUCENE/FULLTEXT)은 키셋으로 이어 읽을 수 없으므로 LIKE 조건 + 정렬 컬럼 순
+     */
+    public RecipeSliceDTO searchByTitleSlice(String title, SortBy sortBy, String cursor, int size, boolean withTotal) {
+        if (title == null || title.trim().isEmpty()) {
+            return RecipeSliceDTO.of(List.of(), size, sortBy, withTotal ? 0L : null);
+        }
+        return slice(RecipeSpecification.keywordContains(title.trim()), sortBy, cursor, size, withTotal);
+    }
+
+    /**
+     * 재료 검색 커서 페이징 (교집합 조건은 searchByIngredientsList와 동일)
+     */
+    public RecipeSliceDTO searchByIngredientsSlice(String ingredientsStr, SortBy sortBy, String cursor, int size,
+                                                   boolean withTotal) {
+        List<String> ingredients = ingredientsStr == null ? List.of() : Arrays.stream(ingredientsStr.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .collect(Collectors.toList());
+        if (ingredients.isEmpty()) {
+            return RecipeSliceDTO.of(List.of(), size, sortBy, withTotal ? 0L : null);
+        }
+        return slice(ingredientSpec(ingredients), sortBy, cursor, size, withTotal);
+    }
+
+    private RecipeSliceDTO slice(Specification<Recipe> spec, SortBy sortBy, String cursor, int size, boolean withTotal) {
+        RecipeCursor after = cursor == null || cursor.isBlank() ? null : RecipeCursor.decode(cursor, sortBy);
+        List<RecipeCardDTO> rows = recipeRepository.findCardsAfter(spec, sortBy, after, size + 1);
+        Long total = withTotal ? recipeRepository.count(spec) : null;
+
+        // 커서는 DB 값으로 만든 뒤 조회수 미반영분 합산 (목록 조회와 같은 값)
+        RecipeSliceDTO slice = RecipeSliceDTO.of(rows, size, sortBy, total);
+        slice.getContent().forEach(viewCountService::withPending);
+        return slice;
+    }
+
+    // 재료 연결 테이블 조인, 백필 전이면 재료 텍스트 LIKE
+    private Specification<Recipe> ingredientSpec(List<String> ingredients) {
+        return recipeIngredientService.isLinked()
+                ? RecipeSpecification.hasAllIngredients(recipeIngredientService.resolveIngredientIds(ingredients))
+                : RecipeSpecification.hasIngredients(ingredients);
+    }
+
+    /**
+     * 검색 인덱스 결과(레시피 번호) → 관련도 순서를 유지한 페이지
+     * 인덱스를 쓸 수 없으면 empty (DB 검색으로 대체)
+     */
+    private Optional<Page<RecipeCardDTO>> toPage(Optional<RecipeSearchIndex.SearchHits> hits, Pageable pageable) {
+        if (hits.isEmpty()) {
+            return Optional.empty();
+        }
+        List<RecipeCardDTO> content = recipeCardCache.getAllInOrder(hits.get().getRecipeIds());
+        content.forEach(viewCountService::withPending);
+        return Optional.of(new PageImpl<>(content, pageable, hits.get().getTotalHits()));
     }
 
     /**
      * 개인화 추천 (로그인 사용자용)
      */
-    public Page<RecipeResponseDTO> getPersonalizedRecommendations(Long userId, Pageable pageable) {
+    public RecommendationPage<RecipeCardDTO> getPersonalizedRecommendations(Long userId, Pageable pageable) {
         log.info("개인화 추천 - userId: {}", userId);
         
-        List<RecommendationResult> results = recipeRecommendAlgorithm.recommendRecipes(userId);
-        
-        log.info("개인화 추천 결과: {}개", results.size());
-        
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), results.size());
-        
-        if (start >= results.size()) {
-            return Page.empty(pageable);
-        }
+        // 미리 계산된 추천 결과 우선, 없으면 즉시 계산
+        RecommendationPage<RecommendationResult> results = recipeRecommendService.getRecommendations(userId, pageable);
         
-        List<RecipeResponseDTO> dtoList = results.subList(start, end).stream()
-                .map(result -> RecipeResponseDTO.fromEntity(result.getRecipe()))
-                .collect(Collectors.toList());
+        log.info("개인화 추천 결과: {}개 (전체 {}개, 생성 시각 {})", results.getPage().getNumberOfElements(),
+                results.getPage().getTotalElements(), results.getGeneratedAt());
         
-        return new PageImpl<>(dtoList, pageable, results.size());
+        return results.map(result -> RecipeCardDTO.fromEntity(result.getRecipe()));
     }
 
     /**
@@ -118,6 +222,13 @@ public class SearchService {
         if (keyword == null || keyword.trim().isEmpty()) {
             return List.of();
         }
+
+        if (recipeSearchIndex.isReady()) {
+            Optional<List<String>> suggestions = recipeSearchIndex.suggestIngredients(keyword, 10);
+            if (suggestions.isPresent() && !suggestions.get().isEmpty()) {
+                return suggestions.get();
+            }
+        }
         
         // (재료 목록 생략 - 기존 코드 유지)
         List<String> commonIngredients = Arrays.asList(
@@ -23,37 +23,38 @@ public class UserRecipeService {
     private BookmarkRepository bookmarkRepository;
     
     @Autowired
-    private RecipeRepository recipeRepository;
+    private LikeService likeService;
     
     @Autowired
-    private UserRepository userRepository;
+    private BookmarkService bookmarkService;
+    
+    @Autowired
+    private RecipeCardCache recipeCardCache;
     
     // ========== 좋아요 관련 메서드 ==========
     
     /**
      * 사용자가 좋아요한 레시피 목록 조회 (DTO로 변환)
      */
-    public List<RecipeSimpleDTO> getLikedRecipes(String userId) {
+    public List<RecipeSimpleDTO> getLikedRecipes(Long userId) {
         log.info("사용자 {} 의 좋아요 레시피 조회", userId);
         
-        List<Like> likes = likeRepository.findByUserId(userId);
+        // 레시피 번호만 조회 → 카드 캐시에서 조립 (레시피 엔티티 조회 없음)
+        List<Long> recipeIds = likeRepository.findRecipeIdsByUserPk(userId);
         
-        if (likes.isEmpty()) {
+        if (recipeIds.isEmpty()) {
             log.info("사용자 {} 의 좋아요한 레시피가 없습니다", userId);
             return List.of();
         }
         
-        List<RecipeSimpleDTO> recipes = likes.stream()
-                .map(like -> {
-                    Recipe recipe = like.getRecipe();
-                    return RecipeSimpleDTO.builder()
-                            .recipeId(recipe.getRcpSno())
-                            .title(recipe.getRcpTtl())
-                            .imageUrl(recipe.getRcpImgUrl())
-                            .viewCount(recipe.getInqCnt())
-                            .likeCount(recipe.getRcmmCnt())
-                            .build();
-                })
+        List<RecipeSimpleDTO> recipes = recipeCardCache.getAllInOrder(recipeIds).stream()
+                .map(card -> RecipeSimpleDTO.builder()
+                        .recipeId(card.getRcpSno())
+                        .title(card.getRcpTtl())
+                        .imageUrl(card.getRcpImgUrl())
+                        .viewCount(card.getInqCnt())
+                        .likeCount(card.getRcmmCnt())
+                        .build())
                 .collect(Collectors.toList());
         
         log.info("사용자 {} 의 좋아요 레시피 {}개 조회 완료", userId, recipes.size());
@@ -62,57 +63,29 @@ public class UserRecipeService {
     }
     
     /**
-     * 레시피 좋아요 추가
+     * 레시피 좋아요 추가 (User PK 기준, LikeService의 INSERT IGNORE 경로 사용)
      */
     @Transactional
-    public void addLike(String userId, Long rcpSno) {
+    public void addLike(Long userId, Long rcpSno) {
         log.info("사용자 {} 가 레시피 {} 좋아요 추가", userId, rcpSno);
         
-        // 이미 좋아요 했는지 확인
-        if (likeRepository.existsByUserIdAndRcpSno(userId, rcpSno)) {
+        if (!likeService.addLike(userId, rcpSno)) {
             log.warn("이미 좋아요한 레시피입니다. userId={}, rcpSno={}", userId, rcpSno);
             throw new IllegalStateException("이미 좋아요한 레시피입니다.");
         }
-        
-        // 사용자 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> {
-                    log.error("존재하지 않는 사용자입니다. userId={}", userId);
-                    return new IllegalArgumentException("존재하지 않는 사용자입니다.");
-                });
-        
-        // 레시피 조회
-        Recipe recipe = recipeRepository.findById(rcpSno)
-                .orElseThrow(() -> {
-                    log.error("존재하지 않는 레시피입니다. rcpSno={}", rcpSno);
-                    return new IllegalArgumentException("존재하지 않는 레시피입니다.");
-                });
-        
-        // 좋아요 추가
-        Like like = Like.builder()
-                .user(user)
-                .recipe(recipe)
-                .build();
-        
-        likeRepository.save(like);
-        log.info("좋아요 추가 완료. userId={}, rcpSno={}", userId, rcpSno);
     }
     
     /**
-     * 레시피 좋아요 취소
+     * 레시피 좋아요 취소 (DELETE 결과 건수로 판단)
      */
     @Transactional
-    public void removeLike(String userId, Long rcpSno) {
+    public void removeLike(Long userId, Long rcpSno) {
         log.info("사용자 {} 가 레시피 {} 좋아요 취소", userId, rcpSno);
         
-        Like like = likeRepository.findByUserIdAndRcpSno(userId, rcpSno)
-                .orElseThrow(() -> {
-                    log.error("좋아요하지 않은 레시피입니다. userId={}, rcpSno={}", userId, rcpSno);
-                    return new IllegalStateException("좋아요하지 않은 레시피입니다.");
-                });
-        
-        likeRepository.delete(like);
-        log.info("좋아요 취소 완료. userId={}, rcpSno={}", userId, rcpSno);
+        if (!likeService.removeLike(userId, rcpSno)) {
+            log.error("좋아요하지 않은 레시피입니다. userId={}, rcpSno={}", userId, rcpSno);
+            throw new IllegalStateException("좋아요하지 않은 레시피입니다.");
+        }
     }
     
     /**
@@ -127,27 +100,25 @@ public class UserRecipeService {
     /**
      * 사용자가 북마크한 레시피 목록 조회 (DTO로 변환)
      */
-    public List<RecipeSimpleDTO> getBookmarkedRecipes(String userId) {
+    public List<RecipeSimpleDTO> getBookmarkedRecipes(Long userId) {
         log.info("사용자 {} 의 북마크 레시피 조회", userId);
         
-        List<Bookmark> bookmarks = bookmarkRepository.findByUserId(userId);
+        // 레시피 번호만 조회 → 카드 캐시에서 조립 (레시피 엔티티 조회 없음)
+        List<Long> recipeIds = bookmarkRepository.findRecipeIdsByUserPk(userId);
         
-        if (bookmarks.isEmpty()) {
+        if (recipeIds.isEmpty()) {
             log.info("사용자 {} 의 북마크한 레시피가 없습니다", userId);
             return List.of();
         }
         
-        List<RecipeSimpleDTO> recipes = bookmarks.stream()
-                .map(bookmark -> {
-                    Recipe recipe = bookmark.getRecipe();
-                    return RecipeSimpleDTO.builder()
-                            .recipeId(recipe.getRcpSno())
-                            .title(recipe.getRcpTtl())
-                            .imageUrl(recipe.getRcpImgUrl())
-                            .viewCount(recipe.getInqCnt())
-                            .likeCount(recipe.getRcmmCnt())
-                            .build();
-                })
+        List<RecipeSimpleDTO> recipes = recipeCardCache.getAllInOrder(recipeIds).stream()
+                .map(card -> RecipeSimpleDTO.builder()
+                        .recipeId(card.getRcpSno())
+                        .title(card.getRcpTtl())
+                        .imageUrl(card.getRcpImgUrl())
+                        .viewCount(card.getInqCnt())
+                        .likeCount(card.getRcmmCnt())
+                        .build())
                 .collect(Collectors.toList());
         
         log.info("사용자 {} 의 북마크 레시피 {}개 조회 완료", userId, recipes.size());
@@ -156,57 +127,29 @@ public class UserRecipeService {
     }
     
     /**
-     * 레시피 북마크 추가
+     * 레시피 북마크 추가 (User PK 기준, BookmarkService의 INSERT IGNORE 경로 사용)
      */
     @Transactional
-    public void addBookmark(String userId, Long rcpSno) {
+    public void addBookmark(Long userId, Long rcpSno) {
         log.info("사용자 {} 가 레시피 {} 북마크 추가", userId, rcpSno);
         
-        // 이미 북마크 했는지 확인
-        if (bookmarkRepository.existsByUserIdAndRcpSno(userId, rcpSno)) {
+        if (!bookmarkService.addBookmark(userId, rcpSno)) {
             log.warn("이미 북마크한 레시피입니다. userId={}, rcpSno={}", userId, rcpSno);
             throw new IllegalStateException("이미 북마크한 레시피입니다.");
         }
-        
-        // 사용자 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> {
-                    log.error("존재하지 않는 사용자입니다. userId={}", userId);
-                    return new IllegalArgumentException("존재하지 않는 사용자입니다.");
-                });
-        
-        // 레시피 조회
-        Recipe recipe = recipeRepository.findById(rcpSno)
-                .orElseThrow(() -> {
-                    log.error("존재하지 않는 레시피입니다. rcpSno={}", rcpSno);
-                    return new IllegalArgumentException("존재하지 않는 레시피입니다.");
-                });
-        
-        // 북마크 추가
-        Bookmark bookmark = Bookmark.builder()
-                .user(user)
-                .recipe(recipe)
-                .build();
-        
-        bookmarkRepository.save(bookmark);
-        log.info("북마크 추가 완료. userId={}, rcpSno={}", userId, rcpSno);
     }
     
     /**
-     * 레시피 북마크 취소
+     * 레시피 북마크 취소 (DELETE 결과 건수로 판단)
      */
     @Transactional
-    public void removeBookmark(String userId, Long rcpSno) {
+    public void removeBookmark(Long userId, Long rcpSno) {
         log.info("사용자 {} 가 레시피 {} 북마크 취소", userId, rcpSno);
         
-        Bookmark bookmark = bookmarkRepository.findByUserIdAndRcpSno(userId, rcpSno)
-                .orElseThrow(() -> {
-                    log.error("북마크하지 않은 레시피입니다. userId={}, rcpSno={}", userId, rcpSno);
-                    return new IllegalStateException("북마크하지 않은 레시피입니다.");
-                });
-        
-        bookmarkRepository.delete(bookmark);
-        log.info("북마크 취소 완료. userId={}, rcpSno={}", userId, rcpSno);
+        if (!bookmarkService.removeBookmark(userId, rcpSno)) {
+            log.error("북마크하지 않은 레시피입니다. userId={}, rcpSno={}", userId, rcpSno);
+            throw new IllegalStateException("북마크하지 않은 레시피입니다.");
+        }
     }
     
     /**
@@ -19,40 +19,18 @@ import java.util.Optional;
 public class UserReferencesService {
 
     private final UserReferencesRepository userReferencesRepository;
+    private final ViewHistoryWriter viewHistoryWriter;
 
-    @Transactional
-    public void userRecipeView(Recipe recipe, Long userId) {
+    /**
+     * 조회 기록 저장 요청 (큐에 넣기만 하고 바로 반환, 저장은 ViewHistoryWriter가 모아서 처리)
+     * 중복 기록은 UQ_USER_REFERENCE 유니크 키로 무시
+     */
+    public void userRecipeView(Long rcpSno, Long userId) {
         if (userId == null) {
             log.info("비로그인 사용자 - 조회 기록 저장 생략");
             return;
         }
-
-        try {
-            // ✅ 이미 VIEW 기록이 있는지 확인 (중복 방지)
-            Optional<UserReferences> existing = userReferencesRepository
-                    .findFirstByUser_UserIdAndRecipe_RcpSnoAndPreference(
-                            userId, recipe.getRcpSno(), PreferenceType.VIEW);
-            
-            if (existing.isPresent()) {
-                log.info("이미 조회 기록이 존재함 - userId: {}, recipeId: {}", userId, recipe.getRcpSno());
-                return;
-            }
-
-            // 새로운 VIEW 기록 생성
-            User user = User.builder().userId(userId).build();
-            
-            UserReferences reference = UserReferences.builder()
-                    .user(user)
-                    .recipe(recipe)
-                    .preference(PreferenceType.VIEW)
-                    .build();
-            
-            userReferencesRepository.save(reference);
-            log.info("조회 기록 저장 완료 - userId: {}, recipeId: {}", userId, recipe.getRcpSno());
-            
-        } catch (Exception e) {
-            log.error("조회 기록 저장 실패 - userId: {}, recipeId: {}", userId, recipe.getRcpSno(), e);
-        }
+        viewHistoryWriter.enqueue(userId, rcpSno);
     }
 
     @Transactional
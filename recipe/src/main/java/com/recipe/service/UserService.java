@@ -14,6 +14,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Log4j2
 @Service
 @RequiredArgsConstructor
@@ -26,6 +28,7 @@ public class UserService {
     private final BookmarkRepository bookmarkRepository;
     private final PasswordEncoder passwordEncoder;
     private final RecipeRepository recipeRepository;
+    private final RecipeCardCache recipeCardCache;
 
     // 회원 단건 조회 (PK인 userId로 조회)
     public User findByUser(Long userId){
@@ -97,7 +100,10 @@ public class UserService {
         Long userIdPk = user.getUserId();
         
         try {
-            // ⭐ 순서 1: 좋아요 삭제
+            // ⭐ 순서 1: 좋아요 삭제 (좋아요한 레시피들의 좋아요 수 먼저 감소)
+            List<Long> likedRecipeIds = likeRepository.findRecipeIdsByUserPk(userIdPk);
+            recipeRepository.decreaseLikeCountsByUserId(userIdPk);
+            recipeCardCache.evictAfterCommit(likedRecipeIds);
             likeRepository.deleteByUserId(userIdPk);
             log.info("좋아요 데이터 삭제 완료 - userId: {}", userIdPk);
             
@@ -0,0 +1,109 @@
+package com.recipe.service;
+
+import com.recipe.domain.dto.Recipe.RecipeCardDTO;
+import com.recipe.domain.dto.Recipe.RecipeResponseDTO;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 레시피 조회수 집계 (write-behind)
+ * 상세 조회 시 행 UPDATE 대신 메모리 카운터만 올리고, 주기적으로 모아서 INQ_CNT에 반영
+ * 비정상 종료 시 유실되는 조회수는 최대 반영 주기(recipe.view-count.flush-interval-ms)만큼
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class ViewCountService {
+
+    private static final String FLUSH_SQL = "UPDATE recipes SET INQ_CNT = INQ_CNT + ? WHERE RCP_SNO = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RecipeCardCache recipeCardCache;
+
+    // 레시피 번호 → 아직 DB에 반영하지 않은 조회수 (반영할 때 항목을 꺼내므로 직전 주기에 조회된 레시피만 남음)
+    // 증가(merge)와 꺼내기(remove)가 키 단위로 원자적이라 증가분이 빠지거나 두 번 반영되지 않음
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 조회수 1 증가 (DB 접근 없음)
+     */
+    public void increment(Long rcpSno) {
+        pending.merge(rcpSno, 1L, Long::sum);
+    }
+
+    /**
+     * 아직 반영되지 않은 조회수
+     */
+    public long pendingCount(Long rcpSno) {
+        return pending.getOrDefault(rcpSno, 0L);
+    }
+
+    /**
+     * 응답 DTO의 조회수에 미반영분 합산 (DB 값 + 메모리 카운터)
+     */
+    public RecipeResponseDTO withPending(RecipeResponseDTO dto) {
+        long delta = pendingCount(dto.getRcpSno());
+        if (delta > 0) {
+            dto.setInqCnt(plus(dto.getInqCnt(), delta));
+        }
+        return dto;
+    }
+
+    public RecipeCardDTO withPending(RecipeCardDTO card) {
+        long delta = pendingCount(card.getRcpSno());
+        if (delta > 0) {
+            card.setInqCnt(plus(card.getInqCnt(), delta));
+        }
+        return card;
+    }
+
+    private static int plus(Integer base, long delta) {
+        return (int) Math.min(Integer.MAX_VALUE, (base != null ? base : 0) + delta);
+    }
+
+    /**
+     * 미반영 조회수를 한 번의 배치 UPDATE로 반영 (레시피 번호 순으로 잠금)
+     */
+    @Scheduled(fixedDelayString = "${recipe.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        Map<Long, Long> deltas = new TreeMap<>();
+        for (Long rcpSno : pending.keySet()) {
+            // 꺼낸 뒤의 증가는 새 항목으로 쌓여 다음 주기에 반영
+            Long delta = pending.remove(rcpSno);
+            if (delta != null && delta > 0) {
+                deltas.put(rcpSno, delta);
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((rcpSno, delta) -> args.add(new Object[]{delta, rcpSno}));
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, args);
+            // 캐시된 카드의 INQ_CNT는 반영 전 값이므로 제거
+            recipeCardCache.evictAll(deltas.keySet());
+            log.debug("조회수 반영 - 레시피 {}건", deltas.size());
+        } catch (Exception e) {
+            // 실패한 증가분은 다음 주기에 다시 반영
+            deltas.forEach((rcpSno, delta) -> pending.merge(rcpSno, delta, Long::sum));
+            log.warn("조회수 반영 실패 - 다음 주기에 재시도 ({}건)", deltas.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
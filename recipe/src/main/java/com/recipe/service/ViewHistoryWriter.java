@@ -0,0 +1,146 @@
+package com.recipe.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 레시피 조회(VIEW) 기록 비동기 저장
+ * 상세 조회는 큐에 넣기만 하고, 백그라운드에서 (사용자, 레시피) 중복을 제거한 뒤 여러 행 INSERT IGNORE로 저장
+ * 이미 있는 기록은 UQ_USER_REFERENCE 유니크 키로 무시
+ */
+@Log4j2
+@Service
+public class ViewHistoryWriter {
+
+    private static final int INSERT_CHUNK_SIZE = 500;
+
+    // UserReferences의 시퀀스 (allocationSize와 같은 크기로 번호를 한 번에 확보)
+    private static final String NEXT_ID_SQL = "SELECT NEXTVAL(user_references_seq)";
+    private static final int ID_ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<ViewEvent> queue;
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    // 확보한 번호 구간 (nextId ~ maxId), 백그라운드 저장 스레드에서만 사용
+    private long nextId;
+    private long maxId = -1;
+
+    public ViewHistoryWriter(JdbcTemplate jdbcTemplate,
+                             @Value("${recipe.interaction.queue-capacity:10000}") int queueCapacity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * 조회 기록 추가 (대기 없음, 큐가 가득 차면 버림)
+     */
+    public void enqueue(Long userId, Long rcpSno) {
+        if (userId == null || rcpSno == null) {
+            return;
+        }
+        if (!queue.offer(new ViewEvent(userId, rcpSno))) {
+            long dropped = droppedCount.incrementAndGet();
+            if (dropped % 1000 == 1) {
+                log.warn("조회 기록 큐가 가득 차 기록을 버립니다 - 누적 {}건", dropped);
+            }
+        }
+    }
+
+    /**
+     * 큐에 쌓인 조회 기록 저장
+     */
+    @Scheduled(fixedDelayString = "${recipe.interaction.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        List<ViewEvent> drained = new ArrayList<>(queue.size());
+        queue.drainTo(drained);
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        // 같은 (사용자, 레시피)는 한 번만
+        Set<ViewEvent> events = new LinkedHashSet<>(drained);
+        List<ViewEvent> list = new ArrayList<>(events);
+        try {
+            int inserted = 0;
+            for (int from = 0; from < list.size(); from += INSERT_CHUNK_SIZE) {
+                inserted += insert(list.subList(from, Math.min(from + INSERT_CHUNK_SIZE, list.size())));
+            }
+            log.debug("조회 기록 저장 - 요청 {}건, 중복 제거 {}건, 신규 {}건", drained.size(), list.size(), inserted);
+        } catch (Exception e) {
+            log.error("조회 기록 저장 실패 - {}건", list.size(), e);
+        }
+    }
+
+    // INSERT IGNORE INTO user_reference (...) VALUES (...), (...), ...
+    private int insert(List<ViewEvent> events) {
+        StringBuilder sql = new StringBuilder(
+                "INSERT IGNORE INTO user_reference " +
+                "(PREFERENCE_ID, USER_ID, RCP_SNO, PREFERENCE_TYPE, CREATED_AT, MODIFIED_AT) VALUES ");
+        Object[] args = new Object[events.size() * 5];
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int i = 0;
+        for (ViewEvent event : events) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(?, ?, ?, 'VIEW', ?, ?)");
+            args[i++] = nextId();
+            args[i++] = event.getUserId();
+            args[i++] = event.getRcpSno();
+            args[i++] = now;
+            args[i++] = now;
+        }
+        return jdbcTemplate.update(sql.toString(), args);
+    }
+
+    // pooled 방식: 시퀀스 값 V를 받으면 (V - 50, V] 구간을 사용 (Hibernate와 같은 규칙이라 번호가 겹치지 않음)
+    private long nextId() {
+        while (nextId > maxId) {
+            Long hi = jdbcTemplate.queryForObject(NEXT_ID_SQL, Long.class);
+            if (hi == null) {
+                throw new IllegalStateException("시퀀스 값을 가져올 수 없습니다.");
+            }
+            if (hi < ID_ALLOCATION_SIZE) {
+                // 시퀀스 시작 구간은 건너뜀
+                continue;
+            }
+            maxId = hi;
+            nextId = hi - ID_ALLOCATION_SIZE + 1;
+        }
+        return nextId++;
+    }
+
+    /**
+     * 종료 전 남은 기록 저장
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class ViewEvent {
+        private final long userId;
+        private final long rcpSno;
+    }
+}
@@ -0,0 +1,120 @@
+package com.recipe.service;
+
+import com.recipe.domain.dto.Recipe.ViewerStateResponseDTO;
+import com.recipe.exceptions.recipe.RecipeExceptions;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * 레시피 여러 개에 대한 현재 사용자의 좋아요/북마크/작성자 여부 조회
+ * User/Recipe 엔티티를 읽지 않고 (좋아요 ∪ 북마크) 1회 + 작성자 1회, IN 쿼리 두 번으로 끝낸다
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class ViewerStateService {
+
+    private static final String LIKED_OR_BOOKMARKED_SQL =
+            "SELECT RCP_SNO, 'L' AS KIND FROM likes WHERE USER_ID = :userId AND RCP_SNO IN (:ids) " +
+            "UNION ALL " +
+            "SELECT RCP_SNO, 'B' AS KIND FROM bookmarks WHERE USER_ID = :userId AND RCP_SNO IN (:ids)";
+
+    private static final String MINE_SQL =
+            "SELECT RCP_SNO FROM recipes WHERE USER_ID = :userId AND RCP_SNO IN (:ids)";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Value("${recipe.viewer-state.max-ids:100}")
+    private int maxIds;
+
+    /**
+     * 레시피 목록의 상태 조회 (중복 ID는 첫 위치만 사용)
+     * @param userId 로그인 사용자 PK (null이면 모두 false)
+     * @param recipeIds 레시피 번호 목록
+     */
+    public ViewerState getStates(Long userId, List<Long> recipeIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(recipeIds));
+        ids.removeIf(Objects::isNull);
+        if (ids.size() > maxIds) {
+            throw RecipeExceptions.BAD_REQUEST.getRecipeException("레시피 ID는 최대 " + maxIds + "개까지 조회할 수 있습니다.");
+        }
+
+        ViewerState state = new ViewerState(ids);
+        if (userId == null || ids.isEmpty()) {
+            return state;
+        }
+
+        Map<Long, Integer> positions = new HashMap<>(ids.size() * 2);
+        for (int i = 0; i < ids.size(); i++) {
+            positions.put(ids.get(i), i);
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("ids", ids);
+
+        namedParameterJdbcTemplate.query(LIKED_OR_BOOKMARKED_SQL, params, (RowCallbackHandler) rs -> {
+            Integer index = positions.get(rs.getLong(1));
+            if (index != null) {
+                ("L".equals(rs.getString(2)) ? state.liked : state.bookmarked).set(index);
+            }
+        });
+        namedParameterJdbcTemplate.query(MINE_SQL, params, (RowCallbackHandler) rs -> {
+            Integer index = positions.get(rs.getLong(1));
+            if (index != null) {
+                state.mine.set(index);
+            }
+        });
+        return state;
+    }
+
+    /**
+     * 레시피 한 개의 상태 조회 (상세 페이지용)
+     */
+    public ViewerState getState(Long userId, Long recipeId) {
+        return getStates(userId, List.of(recipeId));
+    }
+
+    /**
+     * 조회 결과 (비트 i = recipeIds[i])
+     */
+    public static class ViewerState {
+        private final List<Long> recipeIds;
+        private final BitSet liked = new BitSet();
+        private final BitSet bookmarked = new BitSet();
+        private final BitSet mine = new BitSet();
+
+        ViewerState(List<Long> recipeIds) {
+            this.recipeIds = recipeIds;
+        }
+
+        public boolean isLiked(int index) {
+            return liked.get(index);
+        }
+
+        public boolean isBookmarked(int index) {
+            return bookmarked.get(index);
+        }
+
+        public boolean isMine(int index) {
+            return mine.get(index);
+        }
+
+        public ViewerStateResponseDTO toResponse() {
+            Base64.Encoder encoder = Base64.getEncoder();
+            int length = (recipeIds.size() + 7) / 8;
+            return ViewerStateResponseDTO.builder()
+                    .recipeIds(recipeIds)
+                    .liked(encoder.encodeToString(Arrays.copyOf(liked.toByteArray(), length)))
+                    .bookmarked(encoder.encodeToString(Arrays.copyOf(bookmarked.toByteArray(), length)))
+                    .mine(encoder.encodeToString(Arrays.copyOf(mine.toByteArray(), length)))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.recipe.storage;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 이미지 저장소 (키 = 파일명, 예: {sha256}.jpg, {sha256}_card.jpg)
+ * 같은 키의 내용은 바뀌지 않음 - 덮어쓰기 없이 put/delete만 사용
+ * 구현: LocalImageStore(recipe.image.store=local, 기본), S3ImageStore(recipe.image.store=s3, MinIO 등 S3 호환)
+ */
+public interface ImageStore {
+
+    // 경로 문자 없는 파일명만 허용 (../ 등 경로 이탈 차단)
+    Pattern KEY_PATTERN = Pattern.compile("[A-Za-z0-9_-]+(\\.[a-z0-9]{1,10})?");
+
+    Optional<StoredImage> find(String key) throws IOException;
+
+    boolean exists(String key) throws IOException;
+
+    /**
+     * 파일 내용을 key로 저장 (다 쓴 뒤에만 보이도록 저장)
+     */
+    void put(String key, Path source, String contentType) throws IOException;
+
+    /**
+     * 저장소 안에서 복사 (로컬은 하드 링크, S3는 서버 측 복사)
+     */
+    void copy(String sourceKey, String targetKey) throws IOException;
+
+    void delete(String key) throws IOException;
+
+    static boolean isValidKey(String key) {
+        return key != null && KEY_PATTERN.matcher(key).matches();
+    }
+
+    static String contentType(String key) {
+        int dot = key.lastIndexOf('.');
+        String extension = dot >= 0 ? key.substring(dot + 1).toLowerCase(Locale.ROOT) : "";
+        return MediaTypeFactory.getMediaType("image." + extension)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString();
+    }
+}
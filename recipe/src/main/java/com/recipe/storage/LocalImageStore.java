@@ -0,0 +1,93 @@
+package com.recipe.storage;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Optional;
+
+/**
+ * 로컬 디렉토리 이미지 저장소 (file.upload-dir 바로 아래에 키 이름으로 저장)
+ * 노드가 여러 대면 공유 볼륨을 쓰거나 S3ImageStore 사용
+ */
+@Log4j2
+@Component
+@ConditionalOnProperty(name = "recipe.image.store", havingValue = "local", matchIfMissing = true)
+public class LocalImageStore implements ImageStore {
+
+    private final Path directory;
+
+    public LocalImageStore(@Value("${file.upload-dir:./uploads/images}") String uploadDir) throws IOException {
+        this.directory = Paths.get(uploadDir).toAbsolutePath().normalize();
+        Files.createDirectories(directory);
+        log.info("이미지 저장소(local): {}", directory);
+    }
+
+    @Override
+    public Optional<StoredImage> find(String key) throws IOException {
+        Path file = resolve(key);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return Optional.empty();
+            }
+            return Optional.of(new StoredImage(key, attributes.size(), attributes.lastModifiedTime().toMillis(),
+                    new FileSystemResource(file), file));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.isRegularFile(resolve(key));
+    }
+
+    @Override
+    public void put(String key, Path source, String contentType) throws IOException {
+        Path target = resolve(key);
+        // 다 쓴 파일만 보이도록 임시 파일에 쓰고 이름 변경
+        Path temp = Files.createTempFile(directory, key, ".tmp");
+        try {
+            Files.copy(source, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public void copy(String sourceKey, String targetKey) throws IOException {
+        Path source = resolve(sourceKey);
+        Path target = resolve(targetKey);
+        Path temp = target.resolveSibling(targetKey + ".tmp");
+        Files.deleteIfExists(temp);
+        try {
+            Files.createLink(temp, source);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(source, temp);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    private Path resolve(String key) {
+        if (!ImageStore.isValidKey(key)) {
+            throw new IllegalArgumentException("허용되지 않는 이미지 키: " + key);
+        }
+        return directory.resolve(key);
+    }
+}
@@ -0,0 +1,209 @@
+package com.recipe.storage;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.checksums.RequestChecksumCalculation;
+import software.amazon.awssdk.core.checksums.ResponseChecksumValidation;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchBucketException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * S3 호환 이미지 저장소 (AWS S3, 로컬 테스트는 docker-compose의 MinIO)
+ * 모든 노드가 같은 버킷을 보므로 어느 노드에 올린 이미지든 어느 노드에서나 서빙 가능
+ * endpoint를 지정하면 path-style 주소 사용 (MinIO는 버킷 서브도메인을 쓰지 않음)
+ */
+@Log4j2
+@Component
+@ConditionalOnProperty(name = "recipe.image.store", havingValue = "s3")
+public class S3ImageStore implements ImageStore {
+
+    // 키 내용은 바뀌지 않으므로 CDN/브라우저 장기 캐시 가능
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private final S3Client s3;
+    private final String bucket;
+
+    public S3ImageStore(@Value("${recipe.image.s3.endpoint:}") String endpoint,
+                        @Value("${recipe.image.s3.region:ap-northeast-2}") String region,
+                        @Value("${recipe.image.s3.bucket:recipe-images}") String bucket,
+                        @Value("${recipe.image.s3.access-key:}") String accessKey,
+                        @Value("${recipe.image.s3.secret-key:}") String secretKey) {
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(region))
+                // MinIO 등은 SDK 기본 CRC 체크섬 헤더를 지원하지 않는 버전이 있어 필요할 때만 계산
+                .requestChecksumCalculation(RequestChecksumCalculation.WHEN_REQUIRED)
+                .responseChecksumValidation(ResponseChecksumValidation.WHEN_REQUIRED);
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+        // 키가 없으면 SDK 기본 방식(환경 변수, IAM 역할 등)
+        if (!accessKey.isBlank()) {
+            builder.credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)));
+        }
+        this.s3 = builder.build();
+        this.bucket = bucket;
+        createBucketIfMissing();
+        log.info("이미지 저장소(s3): {} / {}", endpoint.isBlank() ? "aws" : endpoint, bucket);
+    }
+
+    private void createBucketIfMissing() {
+        try {
+            s3.headBucket(b -> b.bucket(bucket));
+        } catch (NoSuchBucketException e) {
+            s3.createBucket(b -> b.bucket(bucket));
+            log.info("이미지 버킷 생성: {}", bucket);
+        }
+    }
+
+    @Override
+    public Optional<StoredImage> find(String key) throws IOException {
+        HeadObjectResponse head = head(key);
+        if (head == null) {
+            return Optional.empty();
+        }
+        long length = head.contentLength();
+        long lastModified = head.lastModified() != null ? head.lastModified().toEpochMilli() : 0L;
+        return Optional.of(new StoredImage(key, length, lastModified, new S3ObjectResource(key, length, lastModified), null));
+    }
+
+    @Override
+    public boolean exists(String key) throws IOException {
+        return head(key) != null;
+    }
+
+    @Override
+    public void put(String key, Path source, String contentType) throws IOException {
+        PutObjectRequest request = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(validate(key))
+                .contentType(contentType)
+                .cacheControl(CACHE_CONTROL)
+                .build();
+        try {
+            // S3 PUT은 완료 시점에만 객체가 보임
+            s3.putObject(request, RequestBody.fromFile(source));
+        } catch (SdkException e) {
+            throw new IOException("이미지 업로드 실패: " + key, e);
+        }
+    }
+
+    @Override
+    public void copy(String sourceKey, String targetKey) throws IOException {
+        CopyObjectRequest request = CopyObjectRequest.builder()
+                .sourceBucket(bucket)
+                .sourceKey(validate(sourceKey))
+                .destinationBucket(bucket)
+                .destinationKey(validate(targetKey))
+                .build();
+        try {
+            s3.copyObject(request);
+        } catch (SdkException e) {
+            throw new IOException("이미지 복사 실패: " + sourceKey + " → " + targetKey, e);
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        try {
+            s3.deleteObject(b -> b.bucket(bucket).key(validate(key)));
+        } catch (SdkException e) {
+            throw new IOException("이미지 삭제 실패: " + key, e);
+        }
+    }
+
+    // 없으면 null
+    private HeadObjectResponse head(String key) throws IOException {
+        try {
+            return s3.headObject(b -> b.bucket(bucket).key(validate(key)));
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return null;
+            }
+            throw new IOException("이미지 조회 실패: " + key, e);
+        } catch (SdkException e) {
+            throw new IOException("이미지 조회 실패: " + key, e);
+        }
+    }
+
+    private static String validate(String key) {
+        if (!ImageStore.isValidKey(key)) {
+            throw new IllegalArgumentException("허용되지 않는 이미지 키: " + key);
+        }
+        return key;
+    }
+
+    @PreDestroy
+    public void close() {
+        s3.close();
+    }
+
+    /**
+     * S3 객체 본문 (getInputStream 호출 시점에 GET, 길이/수정 시각은 HEAD 결과 사용)
+     */
+    private class S3ObjectResource extends AbstractResource {
+
+        private final String key;
+        private final long length;
+        private final long lastModified;
+
+        S3ObjectResource(String key, long length, long lastModified) {
+            this.key = key;
+            this.length = length;
+            this.lastModified = lastModified;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            try {
+                return s3.getObject(b -> b.bucket(bucket).key(key));
+            } catch (SdkException e) {
+                throw new IOException("이미지 다운로드 실패: " + key, e);
+            }
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public long contentLength() {
+            return length;
+        }
+
+        @Override
+        public long lastModified() {
+            return lastModified;
+        }
+
+        @Override
+        public String getFilename() {
+            return key;
+        }
+
+        @Override
+        public String getDescription() {
+            return "S3 object [" + bucket + "/" + key + "]";
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.recipe.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.core.io.Resource;
+
+import java.nio.file.Path;
+
+/**
+ * 저장소에서 찾은 이미지 (본문은 resource로 필요할 때 읽음)
+ */
+@Getter
+@AllArgsConstructor
+public class StoredImage {
+
+    private final String key;
+    private final long length;
+    private final long lastModified;
+    private final Resource resource;
+    // 로컬 파일이면 경로 (sendfile 전송용), S3면 null
+    private final Path localPath;
+}
@@ -0,0 +1,140 @@
+package com.recipe.util;
+
+/**
+ * CSV 재료 텍스트(CKG_MTRL_CN) 정리 - 정규식 5번 대신 문자열을 한 번만 훑는 상태 기계
+ * 결과는 기존 SingleBatchConfig 처리와 같음:
+ *   trim()
+ *   .replaceAll("^\\[.+?]\\s*", "")      // 맨 앞 "[재료] " 제거
+ *   .replaceAll("\\s(\\d+)\\s", "_$1")   // " 2 " → "_2"
+ *   .replaceAll("\\s*\\|\\s", "/")       // " | " → "/"
+ *   .replaceAll(" ", "")                  // 남은 공백 제거 (탭 등 다른 공백 문자는 유지)
+ * 예: "[재료] 돼지고기 300g| 양파 1 개" → "돼지고기300g/양파_1개"
+ */
+public final class IngredientNormalizer {
+
+    private IngredientNormalizer() {
+    }
+
+    public static String normalize(String raw) {
+        if (raw == null) {
+            return null;
+        }
+        String text = raw.trim();
+        int length = text.length();
+        Output output = new Output(length);
+
+        int i = skipSectionHeader(text);
+        while (i < length) {
+            char c = text.charAt(i);
+            if (isWhitespace(c)) {
+                // 공백 + 숫자들 + 공백 → "_숫자들" (앞뒤 공백은 소비)
+                int end = i + 1;
+                while (end < length && isDigit(text.charAt(end))) {
+                    end++;
+                }
+                if (end > i + 1 && end < length && isWhitespace(text.charAt(end))) {
+                    output.accept('_');
+                    for (int k = i + 1; k < end; k++) {
+                        output.accept(text.charAt(k));
+                    }
+                    i = end + 1;
+                    continue;
+                }
+            }
+            output.accept(c);
+            i++;
+        }
+        return output.finish();
+    }
+
+    // "^\\[.+?]\\s*" - '['로 시작하고 세 번째 글자 이후에 ']'가 있으면(사이에 줄바꿈 없음) 뒤 공백까지 건너뜀
+    private static int skipSectionHeader(String text) {
+        if (text.isEmpty() || text.charAt(0) != '[') {
+            return 0;
+        }
+        for (int i = 1; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isLineTerminator(c)) {
+                return 0;
+            }
+            if (c == ']' && i >= 2) {
+                int end = i + 1;
+                while (end < text.length() && isWhitespace(text.charAt(end))) {
+                    end++;
+                }
+                return end;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * "\\s*\\|\\s" → "/" 와 공백(' ') 제거 단계
+     * 공백 문자는 바로 쓰지 않고 모아 두었다가 다음 글자를 보고 버리거나(구분자 앞) 내보냄
+     */
+    private static final class Output {
+
+        private final StringBuilder out;
+        // '|' 앞에 쌓인 공백 중 ' '가 아닌 것 (' '는 어차피 마지막 단계에서 지워짐)
+        private final StringBuilder pending = new StringBuilder();
+        private boolean afterPipe;
+
+        Output(int capacity) {
+            this.out = new StringBuilder(capacity);
+        }
+
+        void accept(char c) {
+            if (afterPipe) {
+                afterPipe = false;
+                if (isWhitespace(c)) {
+                    // 앞 공백 + '|' + 공백 하나 → '/'
+                    out.append('/');
+                    pending.setLength(0);
+                    return;
+                }
+                flushPending();
+                out.append('|');
+            }
+            if (isWhitespace(c)) {
+                if (c != ' ') {
+                    pending.append(c);
+                }
+            } else if (c == '|') {
+                afterPipe = true;
+            } else {
+                flushPending();
+                out.append(c);
+            }
+        }
+
+        String finish() {
+            flushPending();
+            if (afterPipe) {
+                out.append('|');
+            }
+            return out.toString();
+        }
+
+        private void flushPending() {
+            if (!pending.isEmpty()) {
+                out.append(pending);
+                pending.setLength(0);
+            }
+        }
+    }
+
+    // 정규식 \s (UNICODE_CHARACTER_CLASS 없이)
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    // 정규식 \d (ASCII 숫자만)
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    // 정규식 '.'이 맞추지 않는 줄 구분 문자
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
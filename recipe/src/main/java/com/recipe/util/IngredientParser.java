@@ -0,0 +1,117 @@
+package com.recipe.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 레시피 재료 텍스트(ckgMtrlCn)에서 재료명만 추출하는 파서
+ * - SingleBatchConfig: "돼지고기300g/양파1개"
+ * - RecipeService.createRecipe: "[돼지고기] 300g | [양파] 1개 | "
+ * - RecipeCsvBatchConfig(원본): "[재료] 돼지고기 300g| 양파 1개"
+ */
+public class IngredientParser {
+
+    // 재료 구분자 (| / , 줄바꿈)
+    private static final Pattern SEPARATOR = Pattern.compile("[|/,\\n]");
+
+    // 수량 대신 쓰이는 표현 (재료명 뒤에 붙어 있으면 제거)
+    private static final String[] AMOUNT_WORDS = {"약간", "적당량", "적당히", "조금"};
+
+    // 원본 데이터의 재료 구역 제목 ("[재료] 돼지고기 300g"의 "재료")
+    private static final Set<String> SECTION_HEADERS = Set.of(
+            "재료", "주재료", "부재료", "양념", "양념재료", "양념장", "소스", "육수", "고명", "반죽", "기타");
+
+    /**
+     * 재료 텍스트에서 정규화된 재료명 목록 추출 (중복 제거, 등장 순서 유지)
+     * @param materialText 레시피 재료 텍스트
+     * @return 정규화된 재료명 리스트
+     */
+    public static List<String> parseNames(String materialText) {
+        if (materialText == null || materialText.isBlank()) {
+            return List.of();
+        }
+
+        Set<String> names = new LinkedHashSet<>();
+        for (String segment : SEPARATOR.split(materialText)) {
+            String name = extractName(segment);
+            if (name != null) {
+                names.add(name);
+            }
+        }
+        return new ArrayList<>(names);
+    }
+
+    /**
+     * 사용자 입력 재료명을 인덱스 토큰과 같은 형태로 정규화
+     * @param name 재료명
+     * @return 정규화된 재료명 (비어 있으면 null)
+     */
+    public static String normalize(String name) {
+        if (name == null) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(c);
+            }
+        }
+        String normalized = stripAmountWords(sb.toString().toLowerCase(Locale.ROOT));
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    // 구분자로 나눈 한 조각에서 재료명 추출
+    private static String extractName(String segment) {
+        String s = segment.trim();
+        if (s.isEmpty()) {
+            return null;
+        }
+
+        // "[재료] 돼지고기 300g" → 구역 제목 제거, "[양파] 1개" → 괄호 안이 재료명
+        if (s.charAt(0) == '[') {
+            int close = s.indexOf(']');
+            if (close > 0) {
+                String inner = s.substring(1, close).trim();
+                String rest = s.substring(close + 1).trim();
+                s = (SECTION_HEADERS.contains(inner) && !rest.isEmpty() && !startsWithAmount(rest)) ? rest : inner;
+            }
+        }
+
+        // 수량/단위/비고가 시작되기 전까지가 재료명
+        int end = 0;
+        while (end < s.length()) {
+            char c = s.charAt(end);
+            if (Character.isDigit(c) || Character.isWhitespace(c) || c == '_' || c == '(' || c == '[') {
+                break;
+            }
+            end++;
+        }
+        return normalize(s.substring(0, end));
+    }
+
+    private static boolean startsWithAmount(String text) {
+        if (Character.isDigit(text.charAt(0))) {
+            return true;
+        }
+        for (String word : AMOUNT_WORDS) {
+            if (text.startsWith(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripAmountWords(String name) {
+        for (String word : AMOUNT_WORDS) {
+            if (name.length() > word.length() && name.endsWith(word)) {
+                return name.substring(0, name.length() - word.length());
+            }
+        }
+        return name;
+    }
+}
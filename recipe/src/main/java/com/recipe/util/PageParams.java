@@ -0,0 +1,48 @@
+package com.recipe.util;
+
+import com.recipe.exceptions.recipe.RecipeExceptions;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * 요청 page/size 검증 (잘못된 값은 400)
+ * page * size가 int 범위를 넘거나 상위 K 선택기 크기가 요청 값으로 커지지 않도록 컨트롤러에서 먼저 확인
+ */
+public final class PageParams {
+
+    public static final int MAX_SIZE = 100;
+
+    // 상위 K개를 메모리에서 고르는 추천의 최대 조회 범위 (offset + size)
+    public static final int MAX_RANKED_WINDOW = 10_000;
+
+    private PageParams() {
+    }
+
+    public static PageRequest of(int page, int size) {
+        return of(page, size, MAX_SIZE);
+    }
+
+    public static PageRequest of(int page, int size, int maxSize) {
+        if (page < 0) {
+            throw RecipeExceptions.BAD_REQUEST.getRecipeException("page는 0 이상이어야 합니다: " + page);
+        }
+        if (size < 1 || size > maxSize) {
+            throw RecipeExceptions.BAD_REQUEST.getRecipeException("size는 1 ~ " + maxSize + " 사이여야 합니다: " + size);
+        }
+        if ((long) page * size > Integer.MAX_VALUE - size) {
+            throw RecipeExceptions.BAD_REQUEST.getRecipeException("page가 너무 큽니다: " + page);
+        }
+        return PageRequest.of(page, size);
+    }
+
+    /**
+     * 순위 계산 후 잘라 주는 조회용 - offset + size가 MAX_RANKED_WINDOW 이하인지도 확인
+     */
+    public static PageRequest ranked(int page, int size) {
+        PageRequest pageable = of(page, size);
+        if (pageable.getOffset() + size > MAX_RANKED_WINDOW) {
+            throw RecipeExceptions.BAD_REQUEST.getRecipeException(
+                    "조회 범위(page * size + size)는 " + MAX_RANKED_WINDOW + " 이하여야 합니다.");
+        }
+        return pageable;
+    }
+}
@@ -0,0 +1,151 @@
+package com.recipe.algorithm;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IngredientIndexTest {
+
+    // index/remove/findCandidates는 저장소를 쓰지 않음 (rebuild만 사용)
+    private static IngredientIndex newIndex() {
+        return new IngredientIndex(null);
+    }
+
+    // 레시피 번호 → 일치 재료 수
+    private static Map<Long, Integer> matchedCounts(IngredientIndex.Candidates candidates) {
+        Map<Long, Integer> counts = new TreeMap<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            counts.put(candidates.getRecipeIds()[i], candidates.getMatchedCounts()[i]);
+        }
+        return counts;
+    }
+
+    @Test
+    public void findsRecipesByIngredientSubstring() {
+        IngredientIndex index = newIndex();
+        index.index(1L, "[재료] 돼지고기 300g| 양파 1개| 대파 1대");
+        index.index(2L, "다진돼지고기 200g| 두부 1모");
+        index.index(3L, "소고기 200g| 양파 1/2개");
+
+        IngredientIndex.Candidates candidates = index.findCandidates(List.of("돼지"));
+        assertThat(matchedCounts(candidates)).containsExactly(Map.entry(1L, 1), Map.entry(2L, 1));
+
+        // 재료명 중간/끝 일치도 포함 (고기 → 돼지고기, 다진돼지고기, 소고기)
+        assertThat(matchedCounts(index.findCandidates(List.of("고기"))))
+                .containsOnlyKeys(1L, 2L, 3L);
+
+        // 입력 재료마다 일치 수를 더함, 재료 개수는 레시피 전체 재료 수
+        IngredientIndex.Candidates both = index.findCandidates(List.of("돼지", "양파"));
+        assertThat(matchedCounts(both)).containsExactly(Map.entry(1L, 2), Map.entry(2L, 1), Map.entry(3L, 1));
+        assertThat(both.getIngredientCounts()).containsExactly(3, 2, 2);
+
+        // 공백/대소문자는 인덱스 토큰과 같게 정규화
+        assertThat(matchedCounts(index.findCandidates(List.of(" 양 파 ")))).containsOnlyKeys(1L, 3L);
+        assertThat(index.findCandidates(List.of("감자")).size()).isZero();
+        assertThat(index.findCandidates(List.of(" ")).size()).isZero();
+    }
+
+    @Test
+    public void sameNameMatchedByTwoQueriesCountsOnce() {
+        IngredientIndex index = newIndex();
+        index.index(1L, "돼지고기 300g| 양파 1개");
+
+        assertThat(matchedCounts(index.findCandidates(List.of("돼지", "고기")))).containsExactly(Map.entry(1L, 1));
+    }
+
+    @Test
+    public void removeAndReindexUpdateCandidates() {
+        IngredientIndex index = newIndex();
+        index.index(1L, "돼지고기 300g| 양파 1개");
+        index.index(2L, "돼지고기 100g| 김치 1/4포기");
+        assertThat(matchedCounts(index.findCandidates(List.of("김치")))).containsOnlyKeys(2L);
+
+        // 마지막 레시피가 빠진 재료명은 조회되지 않음
+        index.remove(2L);
+        assertThat(index.findCandidates(List.of("김치")).size()).isZero();
+        assertThat(matchedCounts(index.findCandidates(List.of("돼지")))).containsOnlyKeys(1L);
+
+        // 재료가 바뀐 레시피는 이전 재료로 조회되지 않고 새 재료로 조회됨
+        index.index(1L, "묵은지 1/4포기| 참치 1캔");
+        assertThat(index.findCandidates(List.of("돼지")).size()).isZero();
+        assertThat(matchedCounts(index.findCandidates(List.of("김치", "묵은지")))).containsExactly(Map.entry(1L, 1));
+        assertThat(index.findCandidates(List.of("참치")).getIngredientCounts()).containsExactly(2);
+
+        index.remove(1L);
+        index.remove(3L);
+        assertThat(index.findCandidates(List.of("참치")).size()).isZero();
+    }
+
+    @Test
+    public void matchesBruteForceContainsScan() {
+        Random random = new Random(42L);
+        String[] syllables = {"돼", "지", "고", "기", "양", "파", "대", "소", "김", "치"};
+        IngredientIndex index = newIndex();
+        Map<Long, List<String>> recipes = new HashMap<>();
+
+        for (int step = 0; step < 2000; step++) {
+            long rcpSno = random.nextInt(200);
+            if (random.nextInt(5) == 0) {
+                index.remove(rcpSno);
+                recipes.remove(rcpSno);
+            } else {
+                List<String> names = new ArrayList<>();
+                for (int n = random.nextInt(4); n >= 0; n--) {
+                    StringBuilder name = new StringBuilder();
+                    for (int c = random.nextInt(3); c >= 0; c--) {
+                        name.append(syllables[random.nextInt(syllables.length)]);
+                    }
+                    if (!names.contains(name.toString())) {
+                        names.add(name.toString());
+                    }
+                }
+                index.index(rcpSno, String.join("|", names));
+                recipes.put(rcpSno, names);
+            }
+
+            if (step % 50 == 0) {
+                List<String> queries = List.of(
+                        syllables[random.nextInt(syllables.length)],
+                        syllables[random.nextInt(syllables.length)] + syllables[random.nextInt(syllables.length)]);
+                Map<Long, Integer> expected = new TreeMap<>();
+                recipes.forEach((id, names) -> {
+                    int matched = (int) names.stream().filter(name -> queries.stream().anyMatch(name::contains)).count();
+                    if (matched > 0) {
+                        expected.put(id, matched);
+                    }
+                });
+                assertThat(matchedCounts(index.findCandidates(queries))).as("step %d, %s", step, queries)
+                        .isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    public void postingListKeepsSortedDistinctIds() {
+        LongPostingList list = new LongPostingList();
+        for (long id : new long[]{5, 1, 9, 5, 3, 7, 1, 11}) {
+            list.add(id);
+        }
+        assertThat(list.size()).isEqualTo(6);
+
+        list.remove(9);
+        list.remove(100);
+        long[] target = new long[8];
+        target[0] = -1;
+        assertThat(list.copyTo(target, 1)).isEqualTo(6);
+        assertThat(Arrays.copyOf(target, 6)).containsExactly(-1, 1, 3, 5, 7, 11);
+
+        for (long id : new long[]{1, 3, 5, 7, 11}) {
+            list.remove(id);
+        }
+        assertThat(list.isEmpty()).isTrue();
+    }
+}
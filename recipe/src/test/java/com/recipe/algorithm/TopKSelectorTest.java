@@ -0,0 +1,94 @@
+package com.recipe.algorithm;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TopKSelectorTest {
+
+    @Test
+    public void selectsHighestScoresInDescendingOrder() {
+        //given
+        TopKSelector selector = new TopKSelector(3);
+
+        //when
+        selector.offer(1L, 0.5);
+        selector.offer(2L, 3.0);
+        selector.offer(3L, 1.0);
+        selector.offer(4L, 2.5);
+        selector.offer(5L, 0.1);
+        selector.sort();
+
+        //then
+        assertThat(selector.size()).isEqualTo(3);
+        assertThat(selector.offeredCount()).isEqualTo(5);
+        assertThat(new long[]{selector.idAt(0), selector.idAt(1), selector.idAt(2)}).containsExactly(2L, 4L, 3L);
+        assertThat(selector.scoreAt(0)).isEqualTo(3.0);
+    }
+
+    @Test
+    public void tiesPreferSmallerId() {
+        TopKSelector selector = new TopKSelector(2);
+
+        selector.offer(30L, 1.0);
+        selector.offer(10L, 1.0);
+        selector.offer(20L, 1.0);
+        selector.sort();
+
+        assertThat(new long[]{selector.idAt(0), selector.idAt(1)}).containsExactly(10L, 20L);
+    }
+
+    @Test
+    public void matchesFullSortOnRandomInput() {
+        Random random = new Random(42);
+        double[] scores = new double[5000];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = random.nextInt(100) / 10.0;
+        }
+
+        TopKSelector selector = new TopKSelector(50);
+        for (int i = 0; i < scores.length; i++) {
+            selector.offer(i, scores[i]);
+        }
+        selector.sort();
+
+        long[] expected = IntStream.range(0, scores.length).boxed()
+                .sorted(Comparator.comparingDouble((Integer i) -> scores[i]).reversed()
+                        .thenComparing(Comparator.naturalOrder()))
+                .limit(50)
+                .mapToLong(Integer::longValue)
+                .toArray();
+        long[] actual = IntStream.range(0, selector.size()).mapToLong(selector::idAt).toArray();
+        assertThat(actual).containsExactly(expected);
+    }
+
+    @Test
+    public void fewerCandidatesThanK() {
+        TopKSelector selector = new TopKSelector(10);
+
+        selector.offer(7L, 1.0);
+        selector.sort();
+
+        assertThat(selector.size()).isEqualTo(1);
+        assertThat(selector.idAt(0)).isEqualTo(7L);
+    }
+
+    @Test
+    public void hugeKGrowsWithCandidates() {
+        // K 크기로 미리 할당하면 OOM
+        TopKSelector selector = new TopKSelector(Integer.MAX_VALUE);
+
+        for (int i = 0; i < 1000; i++) {
+            selector.offer(i, i);
+        }
+        selector.sort();
+
+        assertThat(selector.size()).isEqualTo(1000);
+        assertThat(selector.idAt(0)).isEqualTo(999L);
+        assertThat(selector.idAt(999)).isEqualTo(0L);
+    }
+}
@@ -0,0 +1,66 @@
+package com.recipe.batch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.core.io.FileSystemResource;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvByteRangePartitionerTest {
+
+    @TempDir
+    Path dir;
+
+    // 구간별로 읽은 레코드를 이어 붙이면 파일 전체를 한 번에 읽은 결과와 같아야 함
+    private static List<List<String>> read(Path file, long start, long end) throws Exception {
+        List<List<String>> records = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+            CsvRecordTokenizer tokenizer = new CsvRecordTokenizer();
+            String[] fields;
+            while ((fields = tokenizer.next(buffer)) != null) {
+                if (fields != CsvRecordTokenizer.BLANK) {
+                    records.add(Arrays.asList(fields));
+                }
+            }
+        }
+        return records;
+    }
+
+    @Test
+    public void splitsOnlyOutsideQuotedNewlines() throws Exception {
+        StringBuilder csv = new StringBuilder("RCP_SNO,RCP_TTL,CKG_MTRL_CN\n");
+        for (int i = 0; i < 200; i++) {
+            // 따옴표 안 줄바꿈 뒤에 레코드처럼 보이는 내용을 넣어서 줄 단위로 자르면 틀리게 만듦
+            csv.append(i).append(",\"제목 ").append(i).append("\n")
+                    .append(i + 1000).append(",가짜 레코드,\"\"x\"\"\n끝\",\"[재료] 소금, 물\"\n");
+        }
+        Path file = dir.resolve("recipes.csv");
+        Files.writeString(file, csv, StandardCharsets.UTF_8);
+        long size = Files.size(file);
+
+        List<List<String>> expected = read(file, 0, size);
+        expected.remove(0);   // 헤더
+
+        for (int gridSize : new int[]{1, 2, 3, 7, 16, 64}) {
+            Map<String, ExecutionContext> partitions = new CsvByteRangePartitioner(new FileSystemResource(file)).partition(gridSize);
+            List<List<String>> actual = new ArrayList<>();
+            for (ExecutionContext context : partitions.values()) {
+                actual.addAll(read(file, context.getLong(CsvByteRangePartitioner.START), context.getLong(CsvByteRangePartitioner.END)));
+            }
+            assertThat(actual).as("gridSize=%d", gridSize).isEqualTo(expected);
+        }
+    }
+}
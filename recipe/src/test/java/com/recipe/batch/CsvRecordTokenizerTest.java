@@ -0,0 +1,162 @@
+package com.recipe.batch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.file.transform.DelimitedLineTokenizer;
+import org.springframework.core.io.FileSystemResource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvRecordTokenizerTest {
+
+    private static final int COLUMNS = 5;
+
+    // 따옴표, 쉼표, 줄바꿈(LF/CRLF), 공백, 2~4바이트 UTF-8 글자를 섞어서 값 생성
+    private static final String[] PIECES = {"a", "Z", "7", "가", "김치", "é", "🍜", ",", "\"", "\n", "\r\n", " ", "\t"};
+
+    @TempDir
+    Path dir;
+
+    // 따옴표만으로 된 값(", "" 등)은 DelimitedLineTokenizer가 ""→" 치환을 바깥 따옴표와 겹쳐 해서 값이 달라지므로 만들지 않음
+    private static String randomValue(Random random) {
+        StringBuilder value = new StringBuilder();
+        int length = random.nextInt(10) == 0 ? 400 : random.nextInt(6);   // 가끔 scratch 버퍼(1KB)보다 긴 값
+        for (int i = 0; i < length; i++) {
+            value.append(PIECES[random.nextInt(PIECES.length)]);
+        }
+        if (!value.isEmpty() && value.chars().allMatch(c -> c == '"')) {
+            value.append('a');
+        }
+        return value.toString();
+    }
+
+    private static String encode(String value, boolean forceQuote) {
+        boolean quote = forceQuote || value.contains(",") || value.contains("\"")
+                || value.contains("\n") || value.contains("\r");
+        return quote ? "\"" + value.replace("\"", "\"\"") + "\"" : value;
+    }
+
+    private static List<String[]> records(Random random, int count) {
+        List<String[]> records = new ArrayList<>();
+        records.add(new String[]{"1", "쉼표, 포함", "\"따옴표\" 안의 \"\"", "줄\n바꿈", "윈도우\r\n줄바꿈"});
+        records.add(new String[]{"2", "", "🍜 라면 (4바이트)", " 앞뒤 공백 ", "끝"});
+        for (int i = 0; i < count; i++) {
+            String[] record = new String[COLUMNS];
+            for (int c = 0; c < COLUMNS; c++) {
+                record[c] = randomValue(random);
+            }
+            records.add(record);
+        }
+        return records;
+    }
+
+    // 레코드 줄(끝 줄바꿈 제외) 목록 - 줄 구분은 LF/CRLF 무작위, 마지막 레코드는 줄바꿈 없음, 사이사이 빈 줄
+    private static List<String> lines(List<String[]> records, Random random) {
+        List<String> lines = new ArrayList<>();
+        for (String[] record : records) {
+            StringBuilder line = new StringBuilder();
+            for (int c = 0; c < record.length; c++) {
+                if (c > 0) {
+                    line.append(',');
+                }
+                line.append(encode(record[c], random.nextInt(4) == 0));
+            }
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+
+    private static byte[] join(String header, List<String> lines, Random random) {
+        StringBuilder csv = new StringBuilder();
+        if (header != null) {
+            csv.append(header).append('\n');
+        }
+        for (int i = 0; i < lines.size(); i++) {
+            csv.append(lines.get(i));
+            if (i < lines.size() - 1) {
+                csv.append(random.nextBoolean() ? "\n" : "\r\n");
+                if (random.nextInt(20) == 0) {
+                    csv.append(random.nextBoolean() ? "\n" : "\r\n");
+                }
+            }
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void tokenizesLikeDelimitedLineTokenizer() {
+        Random random = new Random(20241226L);
+        List<String[]> records = records(random, 2000);
+        List<String> lines = lines(records, random);
+        ByteBuffer buffer = ByteBuffer.wrap(join(null, lines, random));
+
+        DelimitedLineTokenizer reference = new DelimitedLineTokenizer();
+        CsvRecordTokenizer tokenizer = new CsvRecordTokenizer();
+        List<String[]> actual = new ArrayList<>();
+        String[] fields;
+        while ((fields = tokenizer.next(buffer)) != null) {
+            if (fields != CsvRecordTokenizer.BLANK) {
+                actual.add(fields);
+            }
+        }
+
+        assertThat(actual).hasSameSizeAs(lines);
+        for (int i = 0; i < lines.size(); i++) {
+            String[] expected = reference.tokenize(lines.get(i)).getValues();
+            assertThat(actual.get(i)).as("record %d: %s", i, lines.get(i)).containsExactly(expected);
+            assertThat(actual.get(i)).as("record %d: %s", i, lines.get(i)).containsExactly(records.get(i));
+        }
+    }
+
+    @Test
+    public void readerRestartsAfterCommittedRecords() throws Exception {
+        Random random = new Random(7L);
+        List<String[]> records = records(random, 300);
+        Path file = dir.resolve("recipes.csv");
+        Files.write(file, join("C1,C2,C3,C4,C5", lines(records, random), random));
+
+        for (int readCount : new int[]{0, 1, 2, 150, records.size() - 1, records.size()}) {
+            MappedCsvItemReader reader = new MappedCsvItemReader("csvReader", new FileSystemResource(file), 0, -1, 1, COLUMNS);
+            ExecutionContext context = new ExecutionContext();
+            context.putInt("csvReader.read.count", readCount);
+            reader.open(context);
+            List<String[]> actual = new ArrayList<>();
+            try {
+                String[] fields;
+                while ((fields = reader.read()) != null) {
+                    actual.add(fields);
+                }
+            } finally {
+                reader.close();
+            }
+
+            List<String[]> expected = records.subList(readCount, records.size());
+            assertThat(actual).as("read.count=%d", readCount).hasSameSizeAs(expected);
+            for (int i = 0; i < expected.size(); i++) {
+                assertThat(actual.get(i)).as("read.count=%d, record %d", readCount, readCount + i)
+                        .containsExactly(expected.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void lastRecordWithoutNewline() {
+        ByteBuffer buffer = ByteBuffer.wrap("a,\"b\nc\"\r\n가,\"나,다\"".getBytes(StandardCharsets.UTF_8));
+        CsvRecordTokenizer tokenizer = new CsvRecordTokenizer();
+
+        assertThat(tokenizer.next(buffer)).containsExactly("a", "b\nc");
+        assertThat(tokenizer.next(buffer)).containsExactly("가", "나,다");
+        assertThat(tokenizer.next(buffer)).isNull();
+        assertThat(new DelimitedLineTokenizer().tokenize("가,\"나,다\"").getValues())
+                .containsExactly("가", "나,다");
+    }
+}
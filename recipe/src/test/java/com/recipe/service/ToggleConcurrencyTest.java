@@ -0,0 +1,79 @@
+package com.recipe.service;
+
+import com.recipe.domain.entity.User;
+import com.recipe.repository.BookmarkRepository;
+import com.recipe.repository.LikeRepository;
+import com.recipe.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 같은 사용자가 같은 레시피를 동시에 두 번 토글 (연속 클릭) - 데드락(1213) 없이 한 번은 추가, 한 번은 취소
+// UserReferencesRepositoryTest와 같이 실제 DB의 1번 회원/1번 레시피 사용 (끝나면 처음 상태로 돌아감)
+@SpringBootTest
+class ToggleConcurrencyTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long RECIPE_ID = 1L;
+
+    @Autowired
+    private LikeService likeService;
+    @Autowired
+    private BookmarkService bookmarkService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private LikeRepository likeRepository;
+    @Autowired
+    private BookmarkRepository bookmarkRepository;
+
+    private static <T> List<T> runTwice(Supplier<T> toggle) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            Future<T> first = executor.submit(() -> {
+                start.await();
+                return toggle.get();
+            });
+            Future<T> second = executor.submit(() -> {
+                start.await();
+                return toggle.get();
+            });
+            start.countDown();
+            return List.of(first.get(), second.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void concurrentLikeTogglesDoNotDeadlock() throws Exception {
+        User user = userRepository.findByUserId(USER_ID).get();
+        boolean before = likeRepository.existsByUserIdAndRcpSno(user.getId(), RECIPE_ID);
+
+        List<Boolean> liked = runTwice(() -> likeService.toggleLike(USER_ID, RECIPE_ID).isLiked());
+
+        assertThat(liked).containsExactlyInAnyOrder(true, false);
+        assertThat(likeRepository.existsByUserIdAndRcpSno(user.getId(), RECIPE_ID)).isEqualTo(before);
+    }
+
+    @Test
+    public void concurrentBookmarkTogglesDoNotDeadlock() throws Exception {
+        User user = userRepository.findByUserId(USER_ID).get();
+        boolean before = bookmarkRepository.existsByUserIdAndRcpSno(user.getId(), RECIPE_ID);
+
+        List<Boolean> bookmarked = runTwice(() -> bookmarkService.toggleBookmark(USER_ID, RECIPE_ID).isBookmarked());
+
+        assertThat(bookmarked).containsExactlyInAnyOrder(true, false);
+        assertThat(bookmarkRepository.existsByUserIdAndRcpSno(user.getId(), RECIPE_ID)).isEqualTo(before);
+    }
+}
@@ -0,0 +1,44 @@
+package com.recipe.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IngredientNormalizerTest {
+
+    // 기존 SingleBatchConfig 처리 (정규식 체인)
+    private static String legacy(String raw) {
+        return raw.trim()
+                .replaceAll("^\\[.+?]\\s*", "")
+                .replaceAll("\\s(\\d+)\\s", "_$1")
+                .replaceAll("\\s*\\|\\s", "/")
+                .replaceAll(" ", "");
+    }
+
+    @Test
+    public void normalizesCsvIngredientText() {
+        assertThat(IngredientNormalizer.normalize("[재료] 돼지고기 300g| 양파 1 개")).isEqualTo("돼지고기300g/양파_1개");
+        assertThat(IngredientNormalizer.normalize("  [양념] 간장 2 큰술 | 설탕 1 큰술  ")).isEqualTo("간장_2큰술/설탕_1큰술");
+        assertThat(IngredientNormalizer.normalize("[] 소금")).isEqualTo("[]소금");
+        assertThat(IngredientNormalizer.normalize("물|")).isEqualTo("물|");
+        assertThat(IngredientNormalizer.normalize("")).isEmpty();
+        assertThat(IngredientNormalizer.normalize(null)).isNull();
+    }
+
+    @Test
+    public void matchesLegacyRegexChain() {
+        Random random = new Random(42);
+        char[] alphabet = {' ', ' ', '\t', '\n', '\r', '|', '|', '[', ']', '1', '2', '0', '가', 'g', '_', '/', ' '};
+        for (int n = 0; n < 20_000; n++) {
+            StringBuilder raw = new StringBuilder();
+            int length = random.nextInt(16);
+            for (int i = 0; i < length; i++) {
+                raw.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+            String input = raw.toString();
+            assertThat(IngredientNormalizer.normalize(input)).as("[%s]", input).isEqualTo(legacy(input));
+        }
+    }
+}
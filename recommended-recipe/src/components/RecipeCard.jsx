@@ -45,8 +45,8 @@ function RecipeCard({ recipe }) {
       localPath += '.jpg';
     }
     
-    // ⭐ 최종 URL 생성 (context path 포함)
-    const finalUrl = `http://localhost:8080/studio-recipe${localPath}`;
+    // ⭐ 최종 URL 생성 (context path 포함, 업로드 이미지는 카드 크기로 요청)
+    const finalUrl = `http://localhost:8080/studio-recipe${localPath}?variant=card`;
     console.log('🖼️ 최종 이미지 URL:', finalUrl);
     
     return finalUrl;
@@ -73,6 +73,9 @@ function RecipeCard({ recipe }) {
             alt={title} 
             className="recipe-image"
             onError={handleImageError}
+            style={recipe.rcpImgPlaceholder
+              ? { backgroundImage: `url(${recipe.rcpImgPlaceholder})`, backgroundSize: 'cover' }
+              : undefined}
           />
         </div>
         <div className="recipe-info">
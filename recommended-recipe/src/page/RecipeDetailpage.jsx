@@ -236,7 +236,7 @@ function RecipeDetailPage() {
          cleanFileName = cleanFileName.substring(1);
        }
 
-       imageUrl = `${BASE_URL}/images/${cleanFileName}`;
+       imageUrl = `${BASE_URL}/images/${cleanFileName}?variant=detail`;
     }
   }
 